@@ -0,0 +1,52 @@
+package com.kwezal.bearinmind.core.auth.service;
+
+import com.kwezal.bearinmind.core.auth.JwtConfig;
+import com.kwezal.bearinmind.core.user.dto.UserRole;
+import io.jsonwebtoken.Claims;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures building of tokens on login and parsing of tokens, which is done for every request with a token not verified before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthJwtServiceBenchmark {
+
+    private AuthJwtService authJwtService;
+    private Set<String> authorities;
+    private Date issuedAt;
+    private Date expiration;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        final var jwtConfig = new JwtConfig();
+        jwtConfig.setSigningKey("secretAndSecureJwtSigningKeyOfAtLeast256Bits");
+        jwtConfig.setLifetimeMinutes(60);
+        authJwtService = new AuthJwtService(jwtConfig);
+
+        authorities = UserRole.TEACHER_ROLE_GROUP.getAuthorityNames();
+        issuedAt = new Date();
+        expiration = Date.from(Instant.now().plus(Duration.ofDays(1)));
+        token = authJwtService.buildJwt("benchmark", 1L, "en", authorities, issuedAt, expiration);
+    }
+
+    @Benchmark
+    public String buildJwt() {
+        return authJwtService.buildJwt("benchmark", 1L, "en", authorities, issuedAt, expiration);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return authJwtService.parseClaims(token);
+    }
+}
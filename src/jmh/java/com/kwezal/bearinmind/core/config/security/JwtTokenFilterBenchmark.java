@@ -0,0 +1,76 @@
+package com.kwezal.bearinmind.core.config.security;
+
+import com.kwezal.bearinmind.core.auth.JwtConfig;
+import com.kwezal.bearinmind.core.auth.service.AuthJwtService;
+import com.kwezal.bearinmind.core.user.dto.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Measures authentication of a request with a token that has already been verified,
+ * passed either in the authorization header or in a cookie.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenFilterBenchmark {
+
+    private static final FilterChain NO_OP_FILTER_CHAIN = (request, response) -> {};
+
+    private JwtTokenFilter jwtTokenFilter;
+    private MockHttpServletRequest headerRequest;
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws ServletException, IOException {
+        final var jwtConfig = new JwtConfig();
+        jwtConfig.setSigningKey("secretAndSecureJwtSigningKeyOfAtLeast256Bits");
+        jwtConfig.setCookieName("token");
+        jwtConfig.setAuthorizationHeaderPrefix("Bearer ");
+        jwtConfig.setLifetimeMinutes(60);
+        jwtConfig.setVerifiedCacheMaximumSize(10000L);
+
+        final var authJwtService = new AuthJwtService(jwtConfig);
+        final var verifiedJwtCache = new VerifiedJwtCache(jwtConfig, new SimpleMeterRegistry());
+        jwtTokenFilter = new JwtTokenFilter(jwtConfig, authJwtService, verifiedJwtCache);
+
+        final var token = authJwtService.buildJwt("benchmark", 1L, "en", UserRole.TEACHER_ROLE_GROUP.getAuthorityNames());
+        headerRequest = new MockHttpServletRequest();
+        headerRequest.addHeader("Authorization", jwtConfig.getAuthorizationHeaderPrefix() + token);
+        cookieRequest = new MockHttpServletRequest();
+        cookieRequest.setCookies(new Cookie("session", "other"), new Cookie(jwtConfig.getCookieName(), token));
+        response = new MockHttpServletResponse();
+
+        // Verify the token once, so that measured requests hit the cache
+        jwtTokenFilter.doFilterInternal(headerRequest, response, NO_OP_FILTER_CHAIN);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object tokenFromHeader() throws ServletException, IOException {
+        jwtTokenFilter.doFilterInternal(headerRequest, response, NO_OP_FILTER_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object tokenFromCookie() throws ServletException, IOException {
+        jwtTokenFilter.doFilterInternal(cookieRequest, response, NO_OP_FILTER_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,70 @@
+package com.kwezal.bearinmind.core.config.security;
+
+import com.kwezal.bearinmind.core.auth.service.LoggedInUserService;
+import com.kwezal.bearinmind.core.course.controller.CourseController;
+import com.kwezal.bearinmind.core.course.dto.CreateCourseDto;
+import com.kwezal.bearinmind.core.user.dto.UserRole;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Compares the per-request role check of {@link RoleRequiredInterceptor} with the reflective check
+ * which the removed access management aspect performed on every invocation of a guarded handler method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleRequiredBenchmark {
+
+    private final LoggedInUserService loggedInUserService = new LoggedInUserService();
+    private final RoleRequiredInterceptor interceptor = new RoleRequiredInterceptor(loggedInUserService);
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private Method method;
+    private HandlerMethod handlerMethod;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = CourseController.class.getMethod("createCourse", CreateCourseDto.class);
+        handlerMethod = new HandlerMethod(new Object(), method);
+        interceptor.registerHandlerMethods(List.of(handlerMethod));
+
+        final var roles = UserRole.TEACHER_ROLE_GROUP.getUserRoles();
+        final var authentication = new UsernamePasswordAuthenticationToken("benchmark", null, List.of());
+        authentication.setDetails(new JwtAuthenticationDetails("en", 1, roles));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public boolean reflectiveAspectCheck() {
+        final var annotation = method.getAnnotation(RoleRequired.class);
+        final var roles = loggedInUserService.getLoggedInUserRoles();
+        for (final var requiredRole : annotation.value()) {
+            if (roles.contains(requiredRole)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean interceptorCheck() {
+        return interceptor.preHandle(request, response, handlerMethod);
+    }
+}
@@ -0,0 +1,69 @@
+package com.kwezal.bearinmind.core.course.mapper;
+
+import com.kwezal.bearinmind.core.course.dto.CourseListItemDto;
+import com.kwezal.bearinmind.core.course.dto.CourseMainViewDto;
+import com.kwezal.bearinmind.core.course.enumeration.CourseListType;
+import com.kwezal.bearinmind.core.course.view.CourseDashboardItemView;
+import com.kwezal.bearinmind.core.course.view.CourseListItemView;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+/**
+ * Measures mapping of repository projections to DTOs of the course main view and course lists.
+ * Projections are created the same way Spring Data creates them for interface-based queries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseMapperBenchmark {
+
+    private static final int LIST_LENGTH = 10;
+
+    private final CourseMapper courseMapper = Mappers.getMapper(CourseMapper.class);
+
+    private List<CourseDashboardItemView> dashboardItems;
+    private List<CourseListItemView> listItems;
+
+    @Setup
+    public void setUp() {
+        final var projectionFactory = new SpelAwareProxyProjectionFactory();
+        final var listTypes = CourseListType.values();
+        dashboardItems = IntStream
+            .range(0, LIST_LENGTH * listTypes.length)
+            .mapToObj(i ->
+                projectionFactory.createProjection(
+                    CourseDashboardItemView.class,
+                    Map.of(
+                        "id",
+                        (long) i,
+                        "name",
+                        "Course " + i,
+                        "image",
+                        "image-" + i,
+                        "listType",
+                        listTypes[i % listTypes.length]
+                    )
+                )
+            )
+            .toList();
+        listItems = List.copyOf(dashboardItems);
+    }
+
+    @Benchmark
+    public CourseMainViewDto mapToCourseMainViewDto() {
+        return courseMapper.mapToCourseMainViewDto(dashboardItems);
+    }
+
+    @Benchmark
+    public List<CourseListItemDto> mapToCourseListItemDtos() {
+        return courseMapper.mapToCourseListItemDtos(listItems);
+    }
+}
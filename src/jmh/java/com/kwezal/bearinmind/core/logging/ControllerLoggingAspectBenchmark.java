@@ -0,0 +1,84 @@
+package com.kwezal.bearinmind.core.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.kwezal.bearinmind.core.course.dto.CourseListItemDto;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Measures the overhead of {@link ControllerLoggingAspect} on a controller method returning a page,
+ * with request logging enabled and disabled. Log events are not written anywhere,
+ * so only formatting of arguments and returned values done by the aspect is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerLoggingAspectBenchmark {
+
+    @Param({ "INFO", "WARN" })
+    private String level;
+
+    private BenchmarkController controller;
+    private BenchmarkController proxiedController;
+
+    @Setup
+    public void setUp() {
+        final var logger = (Logger) LoggerFactory.getLogger(ControllerLoggingAspect.class);
+        logger.setLevel(Level.toLevel(level));
+        logger.setAdditive(false);
+
+        final var controllerLoggingConfig = new ControllerLoggingConfig();
+        controllerLoggingConfig.setSamplingRate(1.0);
+        controllerLoggingConfig.setMaxValueLength(256);
+
+        controller = new BenchmarkController();
+        final var proxyFactory = new AspectJProxyFactory(controller);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ControllerLoggingAspect(controllerLoggingConfig));
+        proxiedController = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public Page<CourseListItemDto> withoutAspect() {
+        return controller.findCoursePage(1L, 0, 20);
+    }
+
+    @Benchmark
+    public Page<CourseListItemDto> withAspect() {
+        return proxiedController.findCoursePage(1L, 0, 20);
+    }
+
+    @ControllerLogging("/benchmark")
+    public static class BenchmarkController {
+
+        private final List<CourseListItemDto> courses = LongStream
+            .range(0, 100)
+            .mapToObj(id -> new CourseListItemDto(id, "Course " + id, "image-" + id))
+            .toList();
+
+        @GetMapping("/{id}/course")
+        public Page<CourseListItemDto> findCoursePage(
+            @PathVariable Long id,
+            @RequestParam Integer pageNumber,
+            @RequestParam Integer pageSize
+        ) {
+            final var pageable = PageRequest.of(pageNumber, pageSize);
+            final var content = courses.subList((int) pageable.getOffset(), (int) pageable.getOffset() + pageSize);
+            return new PageImpl<>(content, pageable, courses.size());
+        }
+    }
+}
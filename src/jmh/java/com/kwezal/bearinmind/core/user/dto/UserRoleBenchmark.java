@@ -0,0 +1,35 @@
+package com.kwezal.bearinmind.core.user.dto;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures conversions between roles and their authority names done when tokens are built and verified.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserRoleBenchmark {
+
+    private final List<String> authorities = List.copyOf(UserRole.ADMINISTRATOR_ROLE_GROUP.getAuthorityNames());
+
+    @Benchmark
+    public Set<String> getAuthorityNames() {
+        return UserRole.ADMINISTRATOR_ROLE_GROUP.getAuthorityNames();
+    }
+
+    @Benchmark
+    public UserRole valueOfAuthority() {
+        return UserRole.valueOfAuthority("ROLE_TEACHER");
+    }
+
+    @Benchmark
+    public Set<UserRole> valuesOfAuthorities() {
+        return UserRole.valuesOfAuthorities(authorities);
+    }
+}
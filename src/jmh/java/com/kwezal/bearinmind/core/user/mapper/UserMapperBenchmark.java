@@ -0,0 +1,85 @@
+package com.kwezal.bearinmind.core.user.mapper;
+
+import com.kwezal.bearinmind.core.course.enumeration.CourseRole;
+import com.kwezal.bearinmind.core.course.view.UserCourseView;
+import com.kwezal.bearinmind.core.user.dto.UserViewDto;
+import com.kwezal.bearinmind.core.user.model.User;
+import com.kwezal.bearinmind.core.user.view.UserGroupListItemView;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+/**
+ * Measures mapping of a user and repository projections of their courses and groups to the user view DTO.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private static final int LIST_LENGTH = 10;
+
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    private User user;
+    private List<UserCourseView> courses;
+    private List<UserGroupListItemView> groups;
+
+    @Setup
+    public void setUp() {
+        user = createUser();
+
+        final var projectionFactory = new SpelAwareProxyProjectionFactory();
+        final var roles = CourseRole.values();
+        courses = IntStream
+            .range(0, LIST_LENGTH)
+            .mapToObj(i ->
+                projectionFactory.createProjection(
+                    UserCourseView.class,
+                    Map.of("id", (long) i, "name", "Course " + i, "image", "image-" + i, "role", roles[i % roles.length])
+                )
+            )
+            .toList();
+        groups = IntStream
+            .range(0, LIST_LENGTH)
+            .mapToObj(i ->
+                projectionFactory.createProjection(
+                    UserGroupListItemView.class,
+                    Map.of("id", (long) i, "name", "Group " + i, "image", "image-" + i)
+                )
+            )
+            .toList();
+    }
+
+    @Benchmark
+    public UserViewDto mapToUserViewDto() {
+        return userMapper.mapToUserViewDto(user, courses, groups);
+    }
+
+    @Benchmark
+    public String mapUserToFullName() {
+        return userMapper.mapUserToFullName(user);
+    }
+
+    private static User createUser() {
+        return User
+            .builder()
+            .id(1L)
+            .firstName("James")
+            .middleName("Arthur")
+            .lastName("Gosling")
+            .title("PhD")
+            .email("james@example.com")
+            .locale("en")
+            .registrationDateTime(OffsetDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.kwezal.bearinmind.core.utils;
+
+import com.kwezal.bearinmind.core.course.dto.CourseListItemDto;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Measures building of exception log messages and summaries of logged values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingUtilsBenchmark {
+
+    private static final int MAX_VALUE_LENGTH = 256;
+
+    private final Map<String, Object> arguments = Map.of("id", 1L, "userId", 2L);
+
+    private Page<CourseListItemDto> page;
+    private CourseListItemDto dto;
+
+    @Setup
+    public void setUp() {
+        final List<CourseListItemDto> content = LongStream
+            .range(0, 100)
+            .mapToObj(id -> new CourseListItemDto(id, "Course " + id, "image-" + id))
+            .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, content.size()), 1000);
+        dto = content.getFirst();
+    }
+
+    @Benchmark
+    public String resourceNotFound() {
+        return LoggingUtils.resourceNotFound("Course", arguments);
+    }
+
+    @Benchmark
+    public String invalidRequestDataException() {
+        return LoggingUtils.invalidRequestDataException("Course", arguments);
+    }
+
+    @Benchmark
+    public String authorizationException() {
+        return LoggingUtils.authorizationException("UserCredentials", arguments);
+    }
+
+    @Benchmark
+    public String summarizePage() {
+        return LoggingUtils.summarize(page, MAX_VALUE_LENGTH);
+    }
+
+    @Benchmark
+    public String summarizeDto() {
+        return LoggingUtils.summarize(dto, MAX_VALUE_LENGTH);
+    }
+
+    @Benchmark
+    public String pageToString() {
+        return page.getContent().toString();
+    }
+}
@@ -2,9 +2,11 @@ package com.kwezal.bearinmind.core;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 
 @EnableWebMvc
+@EnableScheduling
 @SpringBootApplication
 public class BearInMindCoreApplication {
 
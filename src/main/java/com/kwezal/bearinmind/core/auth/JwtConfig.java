@@ -19,4 +19,7 @@ public class JwtConfig {
 
     @Value("${application.security.jwt.lifetime-minutes}")
     private Integer lifetimeMinutes;
+
+    @Value("${application.security.jwt.verified-cache.maximum-size}")
+    private Long verifiedCacheMaximumSize;
 }
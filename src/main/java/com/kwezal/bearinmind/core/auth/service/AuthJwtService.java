@@ -4,6 +4,7 @@ import com.kwezal.bearinmind.core.auth.JwtClaimName;
 import com.kwezal.bearinmind.core.auth.JwtConfig;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.security.Key;
@@ -18,10 +19,12 @@ public class AuthJwtService {
 
     private final JwtConfig jwtConfig;
     private final Key signingKey;
+    private final JwtParser jwtParser;
 
     public AuthJwtService(JwtConfig jwtConfig) {
         this.jwtConfig = jwtConfig;
         this.signingKey = Keys.hmacShaKeyFor(jwtConfig.getSigningKey().getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
     }
 
     public String buildJwt(
@@ -60,8 +63,6 @@ public class AuthJwtService {
     }
 
     private Jws<Claims> parseJws(final String token) {
-        final var jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
-
         return jwtParser.parseClaimsJws(token);
     }
 }
@@ -62,7 +62,7 @@ public class AuthService {
             fullName,
             userCredentials.getRole().getAuthorityNames(),
             user.getLocale(),
-            user.getImage()
+            userMapper.mapUserToImageThumbnail(user)
         );
     }
 
@@ -3,7 +3,6 @@ package com.kwezal.bearinmind.core.auth.service;
 import com.kwezal.bearinmind.core.config.security.JwtAuthenticationDetails;
 import com.kwezal.bearinmind.core.user.dto.UserRole;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -20,12 +19,7 @@ public class LoggedInUserService {
     }
 
     public Set<UserRole> getLoggedInUserRoles() {
-        return getAuthentication()
-            .getAuthorities()
-            .stream()
-            .filter(authority -> authority.getAuthority().startsWith("ROLE_"))
-            .map(role -> UserRole.valueOfAuthority(role.getAuthority()))
-            .collect(Collectors.toSet());
+        return getAuthenticationDetails().roles();
     }
 
     public JwtAuthenticationDetails getAuthenticationDetails() {
@@ -1,24 +1,63 @@
 package com.kwezal.bearinmind.core.config;
 
+import com.kwezal.bearinmind.core.filestorage.FileStorageConfig;
 import com.kwezal.bearinmind.filestorage.ApiClient;
 import com.kwezal.bearinmind.filestorage.api.FileStorageClientApi;
-import lombok.AllArgsConstructor;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
-@AllArgsConstructor
 public class FileStorageClientConfig {
 
-    private final RestTemplate restTemplate;
+    public static final String UPLOAD_CLIENT_API = "fileStorageUploadClientApi";
 
     @Bean
-    public FileStorageClientApi fileStorageClientApi() {
-        return new FileStorageClientApi(createApiClient());
+    @Primary
+    public FileStorageClientApi fileStorageClientApi(final FileStorageConfig fileStorageConfig) {
+        return new FileStorageClientApi(createApiClient(fileStorageConfig, fileStorageConfig.getReadTimeoutMillis()));
     }
 
-    private ApiClient createApiClient() {
-        return new ApiClient(restTemplate);
+    /**
+     * Creates a client for uploads. The JDK HTTP client applies its timeout to the whole exchange until the response
+     * arrives, sending of the request body included, so uploads need a timeout long enough to transfer the largest file.
+     *
+     * @param fileStorageConfig file storage configuration
+     * @return file storage client with the upload timeout
+     */
+    @Bean(UPLOAD_CLIENT_API)
+    public FileStorageClientApi fileStorageUploadClientApi(final FileStorageConfig fileStorageConfig) {
+        return new FileStorageClientApi(createApiClient(fileStorageConfig, fileStorageConfig.getUploadTimeoutMillis()));
+    }
+
+    private ApiClient createApiClient(final FileStorageConfig fileStorageConfig, final int timeoutMillis) {
+        final var apiClient = new ApiClient(createRestTemplate(fileStorageConfig, timeoutMillis));
+        if (StringUtils.isNotBlank(fileStorageConfig.getBasePath())) {
+            apiClient.setBasePath(fileStorageConfig.getBasePath());
+        }
+        return apiClient;
+    }
+
+    /**
+     * Creates a REST template dedicated to the file storage, backed by the JDK HTTP client,
+     * which keeps connections alive for reuse and streams request bodies instead of buffering them.
+     *
+     * @param fileStorageConfig file storage configuration
+     * @param timeoutMillis     time allowed for a request to be sent and its response to arrive
+     * @return REST template with connect and read timeouts
+     */
+    private RestTemplate createRestTemplate(final FileStorageConfig fileStorageConfig, final int timeoutMillis) {
+        final var httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(fileStorageConfig.getConnectTimeoutMillis()))
+            .build();
+        final var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMillis));
+        return new RestTemplate(requestFactory);
     }
 }
@@ -1,14 +0,0 @@
-package com.kwezal.bearinmind.core.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-
-@Configuration
-public class RestTemplateConfig {
-
-    @Bean
-    RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-}
@@ -0,0 +1,22 @@
+package com.kwezal.bearinmind.core.config;
+
+import com.kwezal.bearinmind.core.config.security.RoleRequiredInterceptor;
+import com.kwezal.bearinmind.core.statistics.RequestStatisticsInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RoleRequiredInterceptor roleRequiredInterceptor;
+    private final RequestStatisticsInterceptor requestStatisticsInterceptor;
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(requestStatisticsInterceptor);
+        registry.addInterceptor(roleRequiredInterceptor);
+    }
+}
@@ -1,11 +1,9 @@
 package com.kwezal.bearinmind.core.config.security;
 
 import com.kwezal.bearinmind.core.auth.service.LoggedInUserService;
-import com.kwezal.bearinmind.core.user.model.UserCredentials;
-import com.kwezal.bearinmind.exception.AuthorizationException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
@@ -13,6 +11,10 @@ import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+/**
+ * Enforces {@link RoleRequired} on methods of beans other than controllers,
+ * whose handler methods are checked by {@link RoleRequiredInterceptor} before they are invoked.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
@@ -20,18 +22,17 @@ public class AccessManagementAspect {
 
     private final LoggedInUserService loggedInUserService;
 
-    @Before("@annotation(com.kwezal.bearinmind.core.config.security.RoleRequired)")
-    public void validRequiredRole(JoinPoint call) {
-        MethodSignature signature = (MethodSignature) call.getSignature();
-        Method method = signature.getMethod();
+    private final Map<Method, Integer> requiredRoleMasks = new ConcurrentHashMap<>();
 
-        RoleRequired annotation = method.getAnnotation(RoleRequired.class);
-
-        if (Arrays.stream(annotation.value()).noneMatch(loggedInUserService.getLoggedInUserRoles()::contains)) {
-            throw new AuthorizationException(
-                UserCredentials.class,
-                Map.of("role", loggedInUserService.getLoggedInUserRoles().toString())
-            );
-        }
+    @Before(
+        "@annotation(com.kwezal.bearinmind.core.config.security.RoleRequired)" +
+        " && !@within(org.springframework.web.bind.annotation.RestController)"
+    )
+    public void validRequiredRole(final JoinPoint call) {
+        final var method = ((MethodSignature) call.getSignature()).getMethod();
+        final var requiredRoleMask = requiredRoleMasks.computeIfAbsent(method, key ->
+            RoleRequiredInterceptor.maskOf(key.getAnnotation(RoleRequired.class)).orElseThrow()
+        );
+        RoleRequiredInterceptor.validateLoggedInUserHasAnyRole(loggedInUserService, requiredRoleMask);
     }
 }
@@ -1,3 +1,16 @@
 package com.kwezal.bearinmind.core.config.security;
 
-public record JwtAuthenticationDetails(String locale, long userId) {}
+import com.kwezal.bearinmind.core.user.dto.UserRole;
+import java.util.Set;
+
+/**
+ * @param locale   locale of the authenticated user
+ * @param userId   ID of the authenticated user
+ * @param roles    roles of the authenticated user, computed once per token from its authorities
+ * @param roleMask bitmask of {@code roles}, see {@link UserRole#maskOf(Iterable)}
+ */
+public record JwtAuthenticationDetails(String locale, long userId, Set<UserRole> roles, int roleMask) {
+    public JwtAuthenticationDetails(String locale, long userId, Set<UserRole> roles) {
+        this(locale, userId, roles, UserRole.maskOf(roles));
+    }
+}
@@ -0,0 +1,20 @@
+package com.kwezal.bearinmind.core.config.security;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Authentication data read from a verified token.
+ *
+ * @param username    subject of the token
+ * @param authorities authorities granted by the token
+ * @param details     details of the authenticated user
+ * @param expiration  expiration time of the token, null if the token does not expire
+ */
+public record JwtPrincipal(
+    String username,
+    List<GrantedAuthority> authorities,
+    JwtAuthenticationDetails details,
+    Instant expiration
+) {}
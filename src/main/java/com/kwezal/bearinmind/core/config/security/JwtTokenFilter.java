@@ -6,6 +6,7 @@ import static java.util.Objects.nonNull;
 import com.kwezal.bearinmind.core.auth.JwtClaimName;
 import com.kwezal.bearinmind.core.auth.JwtConfig;
 import com.kwezal.bearinmind.core.auth.service.AuthJwtService;
+import com.kwezal.bearinmind.core.user.dto.UserRole;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -18,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -30,6 +32,7 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final JwtConfig jwtConfig;
     private final AuthJwtService authJwtService;
+    private final VerifiedJwtCache verifiedJwtCache;
 
     @Override
     protected void doFilterInternal(
@@ -40,15 +43,14 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         final var token = readTokenFromRequest(request);
         if (nonNull(token)) {
             try {
-                final var claims = authJwtService.parseClaims(token);
-                final var username = claims.getSubject();
-                final var claimsAuthorities = (List<String>) claims.get(JwtClaimName.AUTHORITIES);
-                final var authorities = claimsAuthorities.stream().map(SimpleGrantedAuthority::new).toList();
-                final var locale = (String) claims.get(JwtClaimName.LOCALE);
-                final var userId = ((Number) claims.get(JwtClaimName.USER_ID)).longValue();
+                final var principal = verifiedJwtCache.get(token, this::verify);
 
-                final var authentication = new UsernamePasswordAuthenticationToken(username, null, authorities);
-                authentication.setDetails(new JwtAuthenticationDetails(locale, userId));
+                final var authentication = new UsernamePasswordAuthenticationToken(
+                    principal.username(),
+                    null,
+                    principal.authorities()
+                );
+                authentication.setDetails(principal.details());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } catch (Exception e) {
                 log.error(JWT_PARSING_EXCEPTION_MESSAGE, token);
@@ -58,6 +60,22 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private JwtPrincipal verify(final String token) {
+        final var claims = authJwtService.parseClaims(token);
+        final var claimsAuthorities = (List<String>) claims.get(JwtClaimName.AUTHORITIES);
+        final var authorities = claimsAuthorities.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+        final var locale = (String) claims.get(JwtClaimName.LOCALE);
+        final var userId = ((Number) claims.get(JwtClaimName.USER_ID)).longValue();
+        final var expiration = claims.getExpiration();
+
+        return new JwtPrincipal(
+            claims.getSubject(),
+            authorities,
+            new JwtAuthenticationDetails(locale, userId, UserRole.valuesOfAuthorities(claimsAuthorities)),
+            nonNull(expiration) ? expiration.toInstant() : null
+        );
+    }
+
     private String readTokenFromRequest(HttpServletRequest request) {
         final var authorizationHeader = request.getHeader("Authorization");
         if (nonNull(authorizationHeader) && authorizationHeader.startsWith(jwtConfig.getAuthorizationHeaderPrefix())) {
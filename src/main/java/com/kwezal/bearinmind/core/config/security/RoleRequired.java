@@ -6,6 +6,10 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Restricts a method to users with at least one of given roles.
+ * Checked by {@link RoleRequiredInterceptor} on controller handler methods and by {@link AccessManagementAspect} elsewhere.
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RoleRequired {
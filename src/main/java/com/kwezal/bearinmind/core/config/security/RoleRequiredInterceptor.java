@@ -0,0 +1,103 @@
+package com.kwezal.bearinmind.core.config.security;
+
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.core.auth.service.LoggedInUserService;
+import com.kwezal.bearinmind.core.user.dto.UserRole;
+import com.kwezal.bearinmind.core.user.model.UserCredentials;
+import com.kwezal.bearinmind.exception.AuthorizationException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Rejects requests to handler methods annotated with {@link RoleRequired} if the logged-in user has none of the required roles.
+ * Masks of required roles are computed once for all handler methods when the application context is refreshed,
+ * so checking a request takes a single map lookup and a bit test. A handler method registered later has its mask
+ * computed on its first request; the absence of the annotation is cached as an empty mask, never as a missing entry.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleRequiredInterceptor implements HandlerInterceptor {
+
+    private final LoggedInUserService loggedInUserService;
+
+    private final Map<Method, OptionalInt> requiredRoleMasks = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void registerHandlerMethods(final ContextRefreshedEvent event) {
+        event
+            .getApplicationContext()
+            .getBeansOfType(RequestMappingHandlerMapping.class)
+            .values()
+            .forEach(handlerMapping -> registerHandlerMethods(handlerMapping.getHandlerMethods().values()));
+    }
+
+    /**
+     * Computes masks of roles required by given handler methods.
+     *
+     * @param handlerMethods handler methods
+     */
+    public void registerHandlerMethods(final Collection<HandlerMethod> handlerMethods) {
+        for (final var handlerMethod : handlerMethods) {
+            requiredRoleMasks.put(handlerMethod.getMethod(), maskOf(handlerMethod.getMethodAnnotation(RoleRequired.class)));
+        }
+    }
+
+    @Override
+    public boolean preHandle(
+        @NonNull final HttpServletRequest request,
+        @NonNull final HttpServletResponse response,
+        @NonNull final Object handler
+    ) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            final var requiredRoleMask = requiredRoleMasks.computeIfAbsent(handlerMethod.getMethod(), method ->
+                maskOf(handlerMethod.getMethodAnnotation(RoleRequired.class))
+            );
+            if (requiredRoleMask.isPresent()) {
+                validateLoggedInUserHasAnyRole(loggedInUserService, requiredRoleMask.getAsInt());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes a mask of roles required by an annotation.
+     *
+     * @param roleRequired annotation, may be null
+     * @return mask of required roles, empty if there is no annotation
+     */
+    static OptionalInt maskOf(final RoleRequired roleRequired) {
+        return isNull(roleRequired)
+            ? OptionalInt.empty()
+            : OptionalInt.of(UserRole.maskOf(Arrays.asList(roleRequired.value())));
+    }
+
+    /**
+     * Throws exception if the logged-in user has none of given roles.
+     *
+     * @param loggedInUserService logged-in user service
+     * @param requiredRoleMask    mask of required roles
+     * @throws AuthorizationException if the user has none of the roles
+     */
+    static void validateLoggedInUserHasAnyRole(final LoggedInUserService loggedInUserService, final int requiredRoleMask) {
+        final var authenticationDetails = loggedInUserService.getAuthenticationDetails();
+        if ((authenticationDetails.roleMask() & requiredRoleMask) == 0) {
+            throw new AuthorizationException(UserCredentials.class, Map.of("role", authenticationDetails.roles().toString()));
+        }
+    }
+}
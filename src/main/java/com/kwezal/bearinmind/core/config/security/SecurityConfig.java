@@ -1,5 +1,7 @@
 package com.kwezal.bearinmind.core.config.security;
 
+import static java.util.Objects.nonNull;
+
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -24,6 +26,10 @@ public class SecurityConfig {
     @Value("${application.security.password.bcrypt-encoder.strength}")
     private int bcryptStrength;
 
+    // Port of actuator endpoints, which is reachable only from inside the deployment; unset if they share the server port
+    @Value("${management.server.port:#{null}}")
+    private Integer managementPort;
+
     private final JwtTokenFilter jwtTokenFilter;
     private final UserDetailsService userDetailsService;
 
@@ -33,7 +39,13 @@ public class SecurityConfig {
             .sessionManagement(c -> c.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .addFilterBefore(jwtTokenFilter, UsernamePasswordAuthenticationFilter.class)
             .authorizeHttpRequests(c ->
-                c.requestMatchers("/swagger-ui*/**", "/v3/api-docs*/**", "/auth/**").permitAll().anyRequest().authenticated()
+                c
+                    .requestMatchers("/swagger-ui*/**", "/v3/api-docs*/**", "/auth/**", "/actuator/health")
+                    .permitAll()
+                    .requestMatchers(request -> nonNull(managementPort) && request.getLocalPort() == managementPort)
+                    .permitAll()
+                    .anyRequest()
+                    .authenticated()
             )
             .userDetailsService(userDetailsService)
             .csrf(CsrfConfigurer::disable)
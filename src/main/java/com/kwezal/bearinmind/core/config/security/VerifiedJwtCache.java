@@ -0,0 +1,92 @@
+package com.kwezal.bearinmind.core.config.security;
+
+import static java.util.Objects.isNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.kwezal.bearinmind.core.auth.JwtConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of principals of tokens whose signature and claims have already been verified.
+ * Tokens are keyed by their SHA-256 digest, so raw tokens are not kept in memory,
+ * and every entry expires together with its token. Tokens without expiration are not cached.
+ * Hit and miss counts are published as metrics of the {@value #CACHE_NAME} cache.
+ */
+@Component
+public class VerifiedJwtCache {
+
+    private static final String CACHE_NAME = "verified-jwts";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Cache<String, JwtPrincipal> principalCache;
+
+    public VerifiedJwtCache(final JwtConfig jwtConfig, final MeterRegistry meterRegistry) {
+        principalCache = Caffeine
+            .newBuilder()
+            .expireAfter(new TokenExpiry())
+            .maximumSize(jwtConfig.getVerifiedCacheMaximumSize())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the principal of a given token, verifying the token only if it has not been verified before.
+     *
+     * @param token    token
+     * @param verifier function that verifies a token and returns its principal; exceptions it throws are propagated
+     * @return principal of the token
+     */
+    public JwtPrincipal get(final String token, final Function<String, JwtPrincipal> verifier) {
+        return principalCache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    private static String digest(final String token) {
+        try {
+            final var digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(final String key, final JwtPrincipal principal, final long currentTime) {
+            final var expiration = principal.expiration();
+            return isNull(expiration) ? 0 : Math.max(0, Duration.between(Instant.now(), expiration).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            final String key,
+            final JwtPrincipal principal,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            final String key,
+            final JwtPrincipal principal,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.kwezal.bearinmind.core.config.security.RoleRequired;
 import com.kwezal.bearinmind.core.course.dto.*;
 import com.kwezal.bearinmind.core.course.service.CourseService;
 import com.kwezal.bearinmind.core.logging.ControllerLogging;
+import com.kwezal.bearinmind.core.pagination.dto.CursorPageDto;
+import com.kwezal.bearinmind.core.pagination.dto.SliceDto;
 import com.kwezal.bearinmind.core.user.dto.UserRole;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -75,6 +77,24 @@ public class CourseController {
         return courseService.findConductedCoursePage(pageNumber, pageSize);
     }
 
+    /**
+     * Finds a slice of conducted courses for the logged-in user, without counting all of them.
+     * A conducted course is one that has not ended and that user has the owner or teacher role in.
+     *
+     * @param pageNumber page to be returned
+     * @param pageSize   number of items to be returned
+     * @param withTotal  whether the approximate number of all items should be returned
+     * @return course slice
+     */
+    @GetMapping("/list/conducted/slice")
+    public SliceDto<@NonNull CourseListItemDto> findConductedCourseSlice(
+        @RequestParam @Min(0) Integer pageNumber,
+        @RequestParam @Min(1) @Max(100) Integer pageSize,
+        @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return courseService.findConductedCourseSlice(pageNumber, pageSize, withTotal);
+    }
+
     /**
      * Finds a page of active courses for the logged-in user.
      * An active course is one that has not ended and that user is enrolled in.
@@ -91,6 +111,24 @@ public class CourseController {
         return courseService.findActiveCoursePage(pageNumber, pageSize);
     }
 
+    /**
+     * Finds a slice of active courses for the logged-in user, without counting all of them.
+     * An active course is one that has not ended and that user is enrolled in.
+     *
+     * @param pageNumber page to be returned
+     * @param pageSize   number of items to be returned
+     * @param withTotal  whether the approximate number of all items should be returned
+     * @return course slice
+     */
+    @GetMapping("/list/active/slice")
+    public SliceDto<@NonNull CourseListItemDto> findActiveCourseSlice(
+        @RequestParam @Min(0) Integer pageNumber,
+        @RequestParam @Min(1) @Max(100) Integer pageSize,
+        @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return courseService.findActiveCourseSlice(pageNumber, pageSize, withTotal);
+    }
+
     /**
      * Finds a page of available courses for the logged-in user.
      * Course availability is defined by belonging to a user group assigned to a given, active course.
@@ -107,6 +145,24 @@ public class CourseController {
         return courseService.findAvailableCoursePage(pageNumber, pageSize);
     }
 
+    /**
+     * Finds a slice of available courses for the logged-in user, without counting all of them.
+     * Course availability is defined by belonging to a user group assigned to a given, active course.
+     *
+     * @param pageNumber page to be returned
+     * @param pageSize   number of items to be returned
+     * @param withTotal  whether the approximate number of all items should be returned
+     * @return course slice
+     */
+    @GetMapping("/list/available/slice")
+    public SliceDto<@NonNull CourseListItemDto> findAvailableCourseSlice(
+        @RequestParam @Min(0) Integer pageNumber,
+        @RequestParam @Min(1) @Max(100) Integer pageSize,
+        @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return courseService.findAvailableCourseSlice(pageNumber, pageSize, withTotal);
+    }
+
     /**
      * Finds a page of completed courses for the logged-in user.
      * A completed course is one that has ended and that user was enrolled in or conducted it.
@@ -123,6 +179,88 @@ public class CourseController {
         return courseService.findCompletedCoursePage(pageNumber, pageSize);
     }
 
+    /**
+     * Finds a slice of completed courses for the logged-in user, without counting all of them.
+     * A completed course is one that has ended and that user was enrolled in or conducted it.
+     *
+     * @param pageNumber page to be returned
+     * @param pageSize   number of items to be returned
+     * @param withTotal  whether the approximate number of all items should be returned
+     * @return course slice
+     */
+    @GetMapping("/list/completed/slice")
+    public SliceDto<@NonNull CourseListItemDto> findCompletedCourseSlice(
+        @RequestParam @Min(0) Integer pageNumber,
+        @RequestParam @Min(1) @Max(100) Integer pageSize,
+        @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return courseService.findCompletedCourseSlice(pageNumber, pageSize, withTotal);
+    }
+
+    /**
+     * Finds a page of conducted courses for the logged-in user, starting after a given position in the list.
+     * A conducted course is one that has not ended and that user has the owner or teacher role in.
+     *
+     * @param cursor   continuation token returned with the previous page, omitted for the first page
+     * @param pageSize number of items to be returned
+     * @return course page with a continuation token for the next page
+     */
+    @GetMapping("/list/conducted/cursor")
+    public CursorPageDto<@NonNull CourseListItemDto> findConductedCourseCursorPage(
+        @RequestParam(required = false) String cursor,
+        @RequestParam @Min(1) @Max(100) Integer pageSize
+    ) {
+        return courseService.findConductedCourseCursorPage(cursor, pageSize);
+    }
+
+    /**
+     * Finds a page of active courses for the logged-in user, starting after a given position in the list.
+     * An active course is one that has not ended and that user is enrolled in.
+     *
+     * @param cursor   continuation token returned with the previous page, omitted for the first page
+     * @param pageSize number of items to be returned
+     * @return course page with a continuation token for the next page
+     */
+    @GetMapping("/list/active/cursor")
+    public CursorPageDto<@NonNull CourseListItemDto> findActiveCourseCursorPage(
+        @RequestParam(required = false) String cursor,
+        @RequestParam @Min(1) @Max(100) Integer pageSize
+    ) {
+        return courseService.findActiveCourseCursorPage(cursor, pageSize);
+    }
+
+    /**
+     * Finds a page of available courses for the logged-in user, starting after a given position in the list.
+     * Course availability is defined by belonging to a user group assigned to a given, active course.
+     *
+     * @param cursor   continuation token returned with the previous page, omitted for the first page
+     * @param pageSize number of items to be returned
+     * @return course page with a continuation token for the next page
+     */
+    @GetMapping("/list/available/cursor")
+    public CursorPageDto<@NonNull CourseListItemDto> findAvailableCourseCursorPage(
+        @RequestParam(required = false) String cursor,
+        @RequestParam @Min(1) @Max(100) Integer pageSize
+    ) {
+        return courseService.findAvailableCourseCursorPage(cursor, pageSize);
+    }
+
+    /**
+     * Finds a page of completed courses for the logged-in user, starting after a given position in the list.
+     * A completed course is one that has ended and that user was enrolled in or conducted it.
+     *
+     * @param cursor   continuation token returned with the previous page, omitted for the first page
+     * @param pageSize number of items to be returned
+     * @return course page with a continuation token for the next page
+     */
+    @GetMapping("/list/completed/cursor")
+    public CursorPageDto<@NonNull CourseListItemDto> findCompletedCourseCursorPage(
+        @RequestParam(required = false) String cursor,
+        @RequestParam @Min(1) @Max(100) Integer pageSize
+    ) {
+        return courseService.findCompletedCourseCursorPage(cursor, pageSize);
+    }
+
     /**
      * Collects data for a single course page.
      *
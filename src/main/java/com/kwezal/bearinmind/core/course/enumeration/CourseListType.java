@@ -0,0 +1,11 @@
+package com.kwezal.bearinmind.core.course.enumeration;
+
+/**
+ * Course list a course is displayed on in the main view of a given user.
+ */
+public enum CourseListType {
+    CONDUCTED,
+    ACTIVE,
+    AVAILABLE,
+    COMPLETED
+}
@@ -1,10 +1,12 @@
 package com.kwezal.bearinmind.core.course.mapper;
 
+import static java.util.Objects.nonNull;
+
 import com.kwezal.bearinmind.core.course.dto.*;
 import com.kwezal.bearinmind.core.course.model.CourseLesson;
-import com.kwezal.bearinmind.core.course.model.CourseLessonPart;
+import com.kwezal.bearinmind.core.course.view.CourseLessonViewRowView;
+import com.kwezal.bearinmind.core.course.view.CourseViewRowView;
 import java.util.List;
-import java.util.Map;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -13,9 +15,16 @@ import org.mapstruct.MappingTarget;
 public interface CourseLessonMapper {
     CourseLesson map(CreateCourseLessonDto dto);
 
-    CourseLessonCardDto mapToCourseLessonCardDto(CourseLesson lesson, String topic, String description);
+    @Mapping(target = "id", source = "lessonId")
+    @Mapping(target = "ordinal", source = "lessonOrdinal")
+    @Mapping(target = "topic", source = "lessonTopic")
+    @Mapping(target = "description", source = "lessonDescription")
+    @Mapping(target = "startDateTime", source = "lessonStartDateTime")
+    CourseLessonCardDto mapToCourseLessonCardDto(CourseViewRowView row);
 
     @Mapping(target = "image", ignore = true)
+    @Mapping(target = "imageCard", ignore = true)
+    @Mapping(target = "imageThumbnail", ignore = true)
     @Mapping(target = "parts", ignore = true)
     CourseLesson map(CreateCourseLessonDto dto, Integer topicIdentifier, Integer descriptionIdentifier, Integer ordinal);
 
@@ -24,25 +33,21 @@ public interface CourseLessonMapper {
     void update(@MappingTarget CourseLesson entity, UpdateCourseLessonDto dto, Integer descriptionIdentifier);
 
     @Mapping(target = "parts", source = "parts")
-    CourseLessonViewDto mapToCourseLessonViewDto(
-        CourseLesson lesson,
-        String topic,
-        String description,
-        List<CourseLessonPartDto> parts
-    );
-
-    default CourseLessonViewDto mapToCourseLessonViewDto(CourseLesson lesson, Map<Integer, String> translations) {
+    CourseLessonViewDto mapToCourseLessonViewDto(CourseLessonViewRowView lesson, List<CourseLessonPartDto> parts);
+
+    default CourseLessonViewDto mapToCourseLessonViewDto(List<CourseLessonViewRowView> rows) {
         return mapToCourseLessonViewDto(
-            lesson,
-            translations.get(lesson.getTopicIdentifier()),
-            translations.get(lesson.getDescriptionIdentifier()),
-            lesson
-                .getParts()
+            rows.getFirst(),
+            rows
                 .stream()
-                .map(part -> mapToCourseLessonPartDto(part, translations.get(part.getTextIdentifier())))
+                .filter(row -> nonNull(row.getPartOrdinal()))
+                .map(this::mapToCourseLessonPartDto)
                 .toList()
         );
     }
 
-    CourseLessonPartDto mapToCourseLessonPartDto(CourseLessonPart part, String text);
+    @Mapping(target = "ordinal", source = "partOrdinal")
+    @Mapping(target = "text", source = "partText")
+    @Mapping(target = "attachments", source = "partAttachments")
+    CourseLessonPartDto mapToCourseLessonPartDto(CourseLessonViewRowView row);
 }
@@ -1,12 +1,15 @@
 package com.kwezal.bearinmind.core.course.mapper;
 
 import com.kwezal.bearinmind.core.course.dto.*;
+import com.kwezal.bearinmind.core.course.enumeration.CourseListType;
 import com.kwezal.bearinmind.core.course.model.Course;
+import com.kwezal.bearinmind.core.course.view.CourseDashboardItemView;
 import com.kwezal.bearinmind.core.course.view.CourseListItemView;
 import com.kwezal.bearinmind.core.course.view.UserCourseView;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -22,33 +25,28 @@ public interface CourseMapper {
 
     void update(@MappingTarget Course entity, UpdateCourseDto dto, Integer descriptionIdentifier);
 
-    CourseListItemDto mapToCourseListItemDto(CourseListItemView view, String name);
+    CourseListItemDto mapToCourseListItemDto(CourseListItemView view);
 
-    default List<CourseListItemDto> mapToCourseListItemDtos(List<CourseListItemView> views, Map<Integer, String> translations) {
-        return views
-            .stream()
-            .map(projection -> mapToCourseListItemDto(projection, translations.get(projection.getNameIdentifier())))
-            .toList();
+    default List<CourseListItemDto> mapToCourseListItemDtos(List<? extends CourseListItemView> views) {
+        return views.stream().map(this::mapToCourseListItemDto).toList();
     }
 
-    default CourseMainViewDto mapToCourseMainViewDto(
-        List<CourseListItemView> conductedCourses,
-        List<CourseListItemView> activeCourses,
-        List<CourseListItemView> availableCourses,
-        List<CourseListItemView> completedCourses,
-        Map<Integer, String> translations
-    ) {
+    default CourseMainViewDto mapToCourseMainViewDto(List<CourseDashboardItemView> courses) {
+        final var coursesByListType = new EnumMap<CourseListType, List<CourseDashboardItemView>>(CourseListType.class);
+        for (final var listType : CourseListType.values()) {
+            coursesByListType.put(listType, new ArrayList<>());
+        }
+        courses.forEach(course -> coursesByListType.get(course.getListType()).add(course));
+
         return new CourseMainViewDto(
-            mapToCourseListItemDtos(conductedCourses, translations),
-            mapToCourseListItemDtos(activeCourses, translations),
-            mapToCourseListItemDtos(availableCourses, translations),
-            mapToCourseListItemDtos(completedCourses, translations)
+            mapToCourseListItemDtos(coursesByListType.get(CourseListType.CONDUCTED)),
+            mapToCourseListItemDtos(coursesByListType.get(CourseListType.ACTIVE)),
+            mapToCourseListItemDtos(coursesByListType.get(CourseListType.AVAILABLE)),
+            mapToCourseListItemDtos(coursesByListType.get(CourseListType.COMPLETED))
         );
     }
 
-    UserCourseDto mapToUserCourseDto(UserCourseView view, String name);
+    UserCourseDto mapToUserCourseDto(UserCourseView view);
 
-    default List<UserCourseDto> mapToUserCourseDtos(List<UserCourseView> views, Map<Integer, String> translations) {
-        return views.stream().map(view -> mapToUserCourseDto(view, translations.get(view.getNameIdentifier()))).toList();
-    }
+    List<UserCourseDto> mapToUserCourseDtos(List<UserCourseView> views);
 }
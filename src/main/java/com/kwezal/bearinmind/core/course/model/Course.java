@@ -17,7 +17,8 @@ import lombok.NoArgsConstructor;
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_id_seq")
+    @SequenceGenerator(name = "courses_id_seq", sequenceName = "courses_id_seq", allocationSize = 50)
     Long id;
 
     @Column(nullable = false)
@@ -29,6 +30,12 @@ public class Course {
     @Column
     String image;
 
+    @Column
+    String imageCard;
+
+    @Column
+    String imageThumbnail;
+
     @Column
     OffsetDateTime startDateTime;
 
@@ -17,7 +17,8 @@ import lombok.NoArgsConstructor;
 public class CourseLesson {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_lessons_id_seq")
+    @SequenceGenerator(name = "course_lessons_id_seq", sequenceName = "course_lessons_id_seq", allocationSize = 50)
     Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +34,12 @@ public class CourseLesson {
     @Column
     String image;
 
+    @Column
+    String imageCard;
+
+    @Column
+    String imageThumbnail;
+
     @Column(nullable = false)
     Integer ordinal;
 
@@ -15,7 +15,8 @@ import lombok.NoArgsConstructor;
 public class CourseLessonPart {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_lesson_parts_id_seq")
+    @SequenceGenerator(name = "course_lesson_parts_id_seq", sequenceName = "course_lesson_parts_id_seq", allocationSize = 50)
     Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -18,7 +18,8 @@ import lombok.NoArgsConstructor;
 public class CourseUserData {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_user_data_id_seq")
+    @SequenceGenerator(name = "course_user_data_id_seq", sequenceName = "course_user_data_id_seq", allocationSize = 50)
     Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,7 +1,48 @@
 package com.kwezal.bearinmind.core.course.repository;
 
 import com.kwezal.bearinmind.core.course.model.CourseLesson;
+import com.kwezal.bearinmind.core.course.view.CourseLessonViewRowView;
+import java.util.List;
 import lombok.NonNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface CourseLessonRepository extends JpaRepository<@NonNull CourseLesson, @NonNull Long> {}
+public interface CourseLessonRepository extends JpaRepository<@NonNull CourseLesson, @NonNull Long> {
+    /**
+     * Finds everything the lesson view shows about a given lesson in a single statement, without loading the course.
+     * Returns one row per lesson part, ordered by part ordinal, or a single row without part data if the lesson has no parts.
+     *
+     * @param id             lesson ID
+     * @param userId         ID of the user whose enrollment in the lesson's course is checked
+     * @param locale         locale of texts
+     * @param fallbackLocale locale of texts which are not translated to {@code locale}
+     * @return lesson view rows, empty if the lesson does not exist
+     */
+    @Query(
+        """
+                    SELECT COALESCE(tt.text, tft.text) AS topic, COALESCE(dt.text, dft.text) AS description, cl.image AS image,
+                        cl.startDateTime AS startDateTime,
+                        CASE WHEN EXISTS (
+                            SELECT 1
+                            FROM CourseUserData cud
+                            WHERE cud.course.id = cl.course.id AND cud.user.id = :userId
+                        ) THEN true ELSE false END AS enrolled,
+                        clp.ordinal AS partOrdinal, COALESCE(pt.text, pft.text) AS partText, clp.attachments AS partAttachments
+                    FROM CourseLesson cl
+                    LEFT JOIN CourseLessonPart clp ON (clp.lesson = cl)
+                    LEFT JOIN Translation tt ON (tt.identifier = cl.topicIdentifier AND tt.locale = :locale)
+                    LEFT JOIN Translation tft ON (tft.identifier = cl.topicIdentifier AND tft.locale = :fallbackLocale)
+                    LEFT JOIN Translation dt ON (dt.identifier = cl.descriptionIdentifier AND dt.locale = :locale)
+                    LEFT JOIN Translation dft ON (dft.identifier = cl.descriptionIdentifier AND dft.locale = :fallbackLocale)
+                    LEFT JOIN Translation pt ON (pt.identifier = clp.textIdentifier AND pt.locale = :locale)
+                    LEFT JOIN Translation pft ON (pft.identifier = clp.textIdentifier AND pft.locale = :fallbackLocale)
+                    WHERE cl.id = :id
+                    ORDER BY clp.ordinal"""
+    )
+    List<CourseLessonViewRowView> findAllCourseLessonViewRowByIdAndUserId(
+        Long id,
+        Long userId,
+        String locale,
+        String fallbackLocale
+    );
+}
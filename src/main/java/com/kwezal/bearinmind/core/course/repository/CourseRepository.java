@@ -1,99 +1,451 @@
 package com.kwezal.bearinmind.core.course.repository;
 
 import com.kwezal.bearinmind.core.course.model.Course;
+import com.kwezal.bearinmind.core.course.view.CourseDashboardItemView;
+import com.kwezal.bearinmind.core.course.view.CourseKeysetListItemView;
 import com.kwezal.bearinmind.core.course.view.CourseListItemView;
+import com.kwezal.bearinmind.core.course.view.CourseViewRowView;
 import com.kwezal.bearinmind.core.course.view.UserCourseView;
+import java.time.OffsetDateTime;
 import java.util.List;
 import lombok.NonNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 public interface CourseRepository extends JpaRepository<@NonNull Course, @NonNull Long> {
+    // List queries shared by the page and slice variants of the methods below.
+    // Course names are translated in the list queries, so lists do not need a separate translation lookup.
+    String CONDUCTED_COURSE_LIST_QUERY = """
+                    SELECT c.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(c.imageCard, c.image) AS image
+                    FROM Course c
+                    JOIN CourseUserData cud ON (cud.course = c)
+                    LEFT JOIN Translation t ON (t.identifier = c.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = c.nameIdentifier AND ft.locale = :fallbackLocale)
+                    WHERE cud.user.id = :userId AND
+                        (c.endDateTime IS NULL OR c.endDateTime > CURRENT_TIMESTAMP) AND
+                        cud.role IN (com.kwezal.bearinmind.core.course.enumeration.CourseRole.OWNER, com.kwezal.bearinmind.core.course.enumeration.CourseRole.TEACHER)
+                    GROUP BY c.id, cud.lastAccessDateTime, t.text, ft.text
+                    ORDER BY cud.lastAccessDateTime DESC""";
+
+    String ACTIVE_COURSE_LIST_QUERY = """
+                    SELECT c.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(c.imageCard, c.image) AS image
+                    FROM Course c
+                    JOIN CourseUserData cud ON (cud.course = c)
+                    LEFT JOIN Translation t ON (t.identifier = c.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = c.nameIdentifier AND ft.locale = :fallbackLocale)
+                    WHERE cud.user.id = :userId AND
+                        (c.endDateTime IS NULL OR c.endDateTime > CURRENT_TIMESTAMP) AND
+                        cud.role = com.kwezal.bearinmind.core.course.enumeration.CourseRole.STUDENT
+                    GROUP BY c.id, cud.lastAccessDateTime, t.text, ft.text
+                    ORDER BY cud.lastAccessDateTime DESC""";
+
+    String AVAILABLE_COURSE_LIST_QUERY = """
+                    SELECT c.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(c.imageCard, c.image) AS image
+                    FROM Course c
+                    LEFT JOIN CourseUserData cud ON (cud.course = c AND cud.user.id = :userId)
+                    JOIN CourseUserGroup cug ON (cug.course = c)
+                    JOIN UserGroupMember cgm ON (cgm.group = cug.group AND cgm.user.id = :userId)
+                    LEFT JOIN Translation t ON (t.identifier = c.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = c.nameIdentifier AND ft.locale = :fallbackLocale)
+                    WHERE cud.user.id IS NULL AND
+                        (c.endDateTime IS NULL OR c.endDateTime > CURRENT_TIMESTAMP) AND
+                        cgm.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
+                    GROUP BY c.id, t.text, ft.text
+                    ORDER BY c.creationDateTime DESC""";
+
+    String COMPLETED_COURSE_LIST_QUERY = """
+                    SELECT c.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(c.imageCard, c.image) AS image
+                    FROM Course c
+                    JOIN CourseUserData cud ON (cud.course = c)
+                    LEFT JOIN Translation t ON (t.identifier = c.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = c.nameIdentifier AND ft.locale = :fallbackLocale)
+                    WHERE cud.user.id = :userId AND c.endDateTime <= CURRENT_TIMESTAMP
+                    GROUP BY c.id, t.text, ft.text
+                    ORDER BY c.endDateTime DESC""";
+
     /**
      * Finds a page of conducted courses for a given user.
      * A conducted course is one that has not ended and that user has the owner or teacher role in.
      *
-     * @param userId   user ID
-     * @param pageable pagination information
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param pageable       pagination information
      * @return course page
      */
+    @Query(CONDUCTED_COURSE_LIST_QUERY)
+    Page<CourseListItemView> findAllConductedCourseListItemByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds a slice of conducted courses for a given user.
+     * A conducted course is one that has not ended and that user has the owner or teacher role in.
+     *
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param pageable       pagination information
+     * @return course slice
+     */
+    @Query(CONDUCTED_COURSE_LIST_QUERY)
+    Slice<CourseListItemView> findAllConductedCourseListItemSliceByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds a page of active courses for a given user.
+     * An active course is one that has not ended and that user is enrolled in.
+     *
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param pageable       pagination information
+     * @return course page
+     */
+    @Query(ACTIVE_COURSE_LIST_QUERY)
+    Page<CourseListItemView> findAllActiveCourseListItemByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds a slice of active courses for a given user.
+     * An active course is one that has not ended and that user is enrolled in.
+     *
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param pageable       pagination information
+     * @return course slice
+     */
+    @Query(ACTIVE_COURSE_LIST_QUERY)
+    Slice<CourseListItemView> findAllActiveCourseListItemSliceByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds a page of available courses for a given user.
+     * Course availability is defined by belonging to a user group assigned to a given, active course.
+     *
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param pageable       pagination information
+     * @return course page
+     */
+    @Query(AVAILABLE_COURSE_LIST_QUERY)
+    Page<CourseListItemView> findAllAvailableCourseListItemByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds a slice of available courses for a given user.
+     * Course availability is defined by belonging to a user group assigned to a given, active course.
+     *
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param pageable       pagination information
+     * @return course slice
+     */
+    @Query(AVAILABLE_COURSE_LIST_QUERY)
+    Slice<CourseListItemView> findAllAvailableCourseListItemSliceByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds a page of completed courses for a given user.
+     * A completed course is one that has ended and that user was enrolled in or conducted it.
+     *
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param pageable       pagination information
+     * @return course page
+     */
+    @Query(COMPLETED_COURSE_LIST_QUERY)
+    Page<CourseListItemView> findAllCompletedCourseListItemByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds a slice of completed courses for a given user.
+     * A completed course is one that has ended and that user was enrolled in or conducted it.
+     *
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param pageable       pagination information
+     * @return course slice
+     */
+    @Query(COMPLETED_COURSE_LIST_QUERY)
+    Slice<CourseListItemView> findAllCompletedCourseListItemSliceByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds a slice of conducted courses for a given user that come after a given position in the list.
+     * A conducted course is one that has not ended and that user has the owner or teacher role in.
+     *
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param sortKey        last access date and time of the last course on the previous slice
+     * @param id             ID of the last course on the previous slice
+     * @param pageable       slice size
+     * @return course slice
+     */
     @Query(
         """
-                    SELECT c.id AS id, c.nameIdentifier AS nameIdentifier, c.image AS image
+                    SELECT c.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(c.imageCard, c.image) AS image, cud.lastAccessDateTime AS sortKey
                     FROM Course c
                     JOIN CourseUserData cud ON (cud.course = c)
+                    LEFT JOIN Translation t ON (t.identifier = c.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = c.nameIdentifier AND ft.locale = :fallbackLocale)
                     WHERE cud.user.id = :userId AND
                         (c.endDateTime IS NULL OR c.endDateTime > CURRENT_TIMESTAMP) AND
-                        cud.role IN (com.kwezal.bearinmind.core.course.enumeration.CourseRole.OWNER, com.kwezal.bearinmind.core.course.enumeration.CourseRole.TEACHER)
-                    GROUP BY c.id, cud.lastAccessDateTime
-                    ORDER BY cud.lastAccessDateTime DESC"""
+                        cud.role IN (com.kwezal.bearinmind.core.course.enumeration.CourseRole.OWNER, com.kwezal.bearinmind.core.course.enumeration.CourseRole.TEACHER) AND
+                        (cud.lastAccessDateTime < :sortKey OR (cud.lastAccessDateTime = :sortKey AND c.id < :id))
+                    ORDER BY cud.lastAccessDateTime DESC, c.id DESC"""
     )
-    Page<CourseListItemView> findAllConductedCourseListItemByUserId(Long userId, Pageable pageable);
+    Slice<CourseKeysetListItemView> findAllConductedCourseListItemByUserIdAfter(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        OffsetDateTime sortKey,
+        Long id,
+        Pageable pageable
+    );
 
     /**
-     * Finds a page of active courses for a given user.
+     * Finds a slice of active courses for a given user that come after a given position in the list.
      * An active course is one that has not ended and that user is enrolled in.
      *
-     * @param userId   user ID
-     * @param pageable pagination information
-     * @return course page
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param sortKey        last access date and time of the last course on the previous slice
+     * @param id             ID of the last course on the previous slice
+     * @param pageable       slice size
+     * @return course slice
      */
     @Query(
         """
-                    SELECT c.id AS id, c.nameIdentifier AS nameIdentifier, c.image AS image
+                    SELECT c.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(c.imageCard, c.image) AS image, cud.lastAccessDateTime AS sortKey
                     FROM Course c
                     JOIN CourseUserData cud ON (cud.course = c)
+                    LEFT JOIN Translation t ON (t.identifier = c.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = c.nameIdentifier AND ft.locale = :fallbackLocale)
                     WHERE cud.user.id = :userId AND
                         (c.endDateTime IS NULL OR c.endDateTime > CURRENT_TIMESTAMP) AND
-                        cud.role = com.kwezal.bearinmind.core.course.enumeration.CourseRole.STUDENT
-                    GROUP BY c.id, cud.lastAccessDateTime
-                    ORDER BY cud.lastAccessDateTime DESC"""
+                        cud.role = com.kwezal.bearinmind.core.course.enumeration.CourseRole.STUDENT AND
+                        (cud.lastAccessDateTime < :sortKey OR (cud.lastAccessDateTime = :sortKey AND c.id < :id))
+                    ORDER BY cud.lastAccessDateTime DESC, c.id DESC"""
     )
-    Page<CourseListItemView> findAllActiveCourseListItemByUserId(Long userId, Pageable pageable);
+    Slice<CourseKeysetListItemView> findAllActiveCourseListItemByUserIdAfter(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        OffsetDateTime sortKey,
+        Long id,
+        Pageable pageable
+    );
 
     /**
-     * Finds a page of available courses for a given user.
+     * Finds a slice of available courses for a given user that come after a given position in the list.
      * Course availability is defined by belonging to a user group assigned to a given, active course.
      *
-     * @param userId   user ID
-     * @param pageable pagination information
-     * @return course page
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param sortKey        creation date and time of the last course on the previous slice
+     * @param id             ID of the last course on the previous slice
+     * @param pageable       slice size
+     * @return course slice
      */
     @Query(
         """
-                    SELECT c.id AS id, c.nameIdentifier AS nameIdentifier, c.image AS image
+                    SELECT c.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(c.imageCard, c.image) AS image, c.creationDateTime AS sortKey
                     FROM Course c
                     LEFT JOIN CourseUserData cud ON (cud.course = c AND cud.user.id = :userId)
                     JOIN CourseUserGroup cug ON (cug.course = c)
                     JOIN UserGroupMember cgm ON (cgm.group = cug.group AND cgm.user.id = :userId)
+                    LEFT JOIN Translation t ON (t.identifier = c.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = c.nameIdentifier AND ft.locale = :fallbackLocale)
                     WHERE cud.user.id IS NULL AND
                         (c.endDateTime IS NULL OR c.endDateTime > CURRENT_TIMESTAMP) AND
-                        cgm.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
-                    GROUP BY c.id
-                    ORDER BY c.creationDateTime DESC"""
+                        cgm.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER) AND
+                        (c.creationDateTime < :sortKey OR (c.creationDateTime = :sortKey AND c.id < :id))
+                    GROUP BY c.id, t.text, ft.text
+                    ORDER BY c.creationDateTime DESC, c.id DESC"""
     )
-    Page<CourseListItemView> findAllAvailableCourseListItemByUserId(Long userId, Pageable pageable);
+    Slice<CourseKeysetListItemView> findAllAvailableCourseListItemByUserIdAfter(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        OffsetDateTime sortKey,
+        Long id,
+        Pageable pageable
+    );
 
     /**
-     * Finds a page of completed courses for a given user.
+     * Finds a slice of completed courses for a given user that come after a given position in the list.
      * A completed course is one that has ended and that user was enrolled in or conducted it.
      *
-     * @param userId   user ID
-     * @param pageable pagination information
-     * @return course page
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param sortKey        end date and time of the last course on the previous slice
+     * @param id             ID of the last course on the previous slice
+     * @param pageable       slice size
+     * @return course slice
      */
     @Query(
         """
-                    SELECT c.id AS id, c.nameIdentifier AS nameIdentifier, c.image AS image
+                    SELECT c.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(c.imageCard, c.image) AS image, c.endDateTime AS sortKey
                     FROM Course c
                     JOIN CourseUserData cud ON (cud.course = c)
-                    WHERE cud.user.id = :userId AND c.endDateTime <= CURRENT_TIMESTAMP
-                    GROUP BY c.id
-                    ORDER BY c.endDateTime DESC"""
+                    LEFT JOIN Translation t ON (t.identifier = c.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = c.nameIdentifier AND ft.locale = :fallbackLocale)
+                    WHERE cud.user.id = :userId AND c.endDateTime <= CURRENT_TIMESTAMP AND
+                        (c.endDateTime < :sortKey OR (c.endDateTime = :sortKey AND c.id < :id))
+                    ORDER BY c.endDateTime DESC, c.id DESC"""
+    )
+    Slice<CourseKeysetListItemView> findAllCompletedCourseListItemByUserIdAfter(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        OffsetDateTime sortKey,
+        Long id,
+        Pageable pageable
+    );
+
+    /**
+     * Finds up to {@code listLength} first courses of each main view list for a given user in a single statement.
+     * Lists are defined and ordered the same way as in the conducted, active, available and completed course queries,
+     * with course ID used as a tiebreaker.
+     * Role ordinals are inlined, because native queries cannot refer to enum constants:
+     * course role OWNER = 0, TEACHER = 1, STUDENT = 2 and user group role OWNER = 0, MEMBER = 1.
+     *
+     * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
+     * @param listLength     maximum number of courses in each list
+     * @return courses of all lists, ordered by list type and position in the list
+     */
+    @Query(
+        nativeQuery = true,
+        value = """
+                    SELECT ranked.id AS id, COALESCE(t.text, ft.text) AS name, ranked.image AS image,
+                        ranked.list_type AS "listType"
+                    FROM (
+                        SELECT listed.*,
+                            ROW_NUMBER() OVER (PARTITION BY listed.list_type ORDER BY listed.sort_key DESC, listed.id DESC) AS position
+                        FROM (
+                            SELECT c.id, c.name_identifier, COALESCE(c.image_card, c.image) AS image, cud.last_access_date_time AS sort_key,
+                                CASE WHEN cud.role = 2 THEN 'ACTIVE' ELSE 'CONDUCTED' END AS list_type
+                            FROM courses c
+                            JOIN course_user_data cud ON (cud.course_id = c.id)
+                            WHERE cud.user_id = :userId AND
+                                (c.end_date_time IS NULL OR c.end_date_time > CURRENT_TIMESTAMP)
+                            UNION ALL
+                            SELECT DISTINCT c.id, c.name_identifier, COALESCE(c.image_card, c.image) AS image, c.creation_date_time, 'AVAILABLE'
+                            FROM user_group_members ugm
+                            JOIN course_user_groups cug ON (cug.group_id = ugm.group_id)
+                            JOIN courses c ON (c.id = cug.course_id)
+                            WHERE ugm.user_id = :userId AND ugm.role IN (0, 1) AND
+                                (c.end_date_time IS NULL OR c.end_date_time > CURRENT_TIMESTAMP) AND
+                                NOT EXISTS (
+                                    SELECT 1
+                                    FROM course_user_data cud
+                                    WHERE cud.course_id = c.id AND cud.user_id = :userId
+                                )
+                            UNION ALL
+                            SELECT c.id, c.name_identifier, COALESCE(c.image_card, c.image) AS image, c.end_date_time, 'COMPLETED'
+                            FROM courses c
+                            JOIN course_user_data cud ON (cud.course_id = c.id)
+                            WHERE cud.user_id = :userId AND c.end_date_time <= CURRENT_TIMESTAMP
+                        ) listed
+                    ) ranked
+                    LEFT JOIN translations t ON (t.identifier = ranked.name_identifier AND t.locale = :locale)
+                    LEFT JOIN translations ft ON (ft.identifier = ranked.name_identifier AND ft.locale = :fallbackLocale)
+                    WHERE ranked.position <= :listLength
+                    ORDER BY ranked.list_type, ranked.position"""
+    )
+    List<CourseDashboardItemView> findAllMainViewCourseListItemByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Integer listLength
+    );
+
+    /**
+     * Finds everything the course view shows about a given course, except for teachers, in a single statement.
+     * Returns one row per lesson, ordered by lesson ordinal, or a single row without lesson data if the course has no lessons.
+     * The course is accessible to a given user if they are enrolled in it or belong to one of the groups assigned to it.
+     *
+     * @param courseId       course ID
+     * @param userId         user ID
+     * @param locale         locale of texts
+     * @param fallbackLocale locale of texts which are not translated to {@code locale}
+     * @return course view rows, empty if the course does not exist
+     */
+    @Query(
+        """
+                    SELECT COALESCE(nt.text, nft.text) AS name, COALESCE(dt.text, dft.text) AS description, c.image AS image,
+                        c.endDateTime AS endDateTime, c.registrationClosingDateTime AS registrationClosingDateTime,
+                        cud.role AS role,
+                        CASE WHEN cud.id IS NOT NULL OR EXISTS (
+                            SELECT 1
+                            FROM CourseUserGroup cug
+                            JOIN UserGroupMember cgm ON (cgm.group = cug.group AND cgm.user.id = :userId)
+                            WHERE cug.course = c AND
+                                cgm.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
+                        ) THEN true ELSE false END AS accessible,
+                        cl.id AS lessonId, cl.ordinal AS lessonOrdinal, COALESCE(lt.text, lft.text) AS lessonTopic,
+                        COALESCE(ldt.text, ldft.text) AS lessonDescription, cl.startDateTime AS lessonStartDateTime
+                    FROM Course c
+                    LEFT JOIN CourseUserData cud ON (cud.course = c AND cud.user.id = :userId)
+                    LEFT JOIN CourseLesson cl ON (cl.course = c)
+                    LEFT JOIN Translation nt ON (nt.identifier = c.nameIdentifier AND nt.locale = :locale)
+                    LEFT JOIN Translation nft ON (nft.identifier = c.nameIdentifier AND nft.locale = :fallbackLocale)
+                    LEFT JOIN Translation dt ON (dt.identifier = c.descriptionIdentifier AND dt.locale = :locale)
+                    LEFT JOIN Translation dft ON (dft.identifier = c.descriptionIdentifier AND dft.locale = :fallbackLocale)
+                    LEFT JOIN Translation lt ON (lt.identifier = cl.topicIdentifier AND lt.locale = :locale)
+                    LEFT JOIN Translation lft ON (lft.identifier = cl.topicIdentifier AND lft.locale = :fallbackLocale)
+                    LEFT JOIN Translation ldt ON (ldt.identifier = cl.descriptionIdentifier AND ldt.locale = :locale)
+                    LEFT JOIN Translation ldft ON (ldft.identifier = cl.descriptionIdentifier AND ldft.locale = :fallbackLocale)
+                    WHERE c.id = :courseId
+                    ORDER BY cl.ordinal"""
     )
-    Page<CourseListItemView> findAllCompletedCourseListItemByUserId(Long userId, Pageable pageable);
+    List<CourseViewRowView> findAllCourseViewRowByIdAndUserId(Long courseId, Long userId, String locale, String fallbackLocale);
 
     /**
      * Finds a list of courses which both users are enrolled in.
@@ -101,15 +453,19 @@ public interface CourseRepository extends JpaRepository<@NonNull Course, @NonNul
      *
      * @param loggedInUserId logged-in user ID
      * @param userId         user ID
+     * @param locale         locale of course names
+     * @param fallbackLocale locale of course names which are not translated to {@code locale}
      * @return list of courses with roles
      */
     @Query(
         """
-                    SELECT c.id AS id, c.nameIdentifier AS nameIdentifier, c.image AS image, cudu.role AS role
+                    SELECT c.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(c.imageCard, c.image) AS image, cudu.role AS role
                     FROM Course c
                     JOIN CourseUserData cudl ON (cudl.course = c AND cudl.user.id = :loggedInUserId)
                     JOIN CourseUserData cudu ON (cudu.course = c AND cudu.user.id = :userId)
-                    GROUP BY c.id, cudu.role"""
+                    LEFT JOIN Translation t ON (t.identifier = c.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = c.nameIdentifier AND ft.locale = :fallbackLocale)
+                    GROUP BY c.id, cudu.role, t.text, ft.text"""
     )
-    List<UserCourseView> findAllCommonCourseAndRole(Long loggedInUserId, Long userId);
+    List<UserCourseView> findAllCommonCourseAndRole(Long loggedInUserId, Long userId, String locale, String fallbackLocale);
 }
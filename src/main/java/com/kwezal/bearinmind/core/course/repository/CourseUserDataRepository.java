@@ -61,7 +61,7 @@ public interface CourseUserDataRepository extends JpaRepository<@NonNull CourseU
      */
     @Query(
         """
-                    SELECT new com.kwezal.bearinmind.core.user.dto.UserListItemDto(u.id, CONCAT(u.firstName, ' ', u.lastName), u.image)
+                    SELECT new com.kwezal.bearinmind.core.user.dto.UserListItemDto(u.id, CONCAT(u.firstName, ' ', u.lastName), COALESCE(u.imageThumbnail, u.image))
                     FROM Course c
                     JOIN CourseUserData cud ON (cud.course = c)
                     JOIN User u ON (u.id = cud.user.id)
@@ -1,11 +1,11 @@
 package com.kwezal.bearinmind.core.course.service;
 
-import static com.kwezal.bearinmind.core.utils.CollectionUtils.addIgnoreNull;
 import static com.kwezal.bearinmind.core.utils.RepositoryUtils.fetch;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 
 import com.kwezal.bearinmind.core.auth.service.LoggedInUserService;
+import com.kwezal.bearinmind.core.config.ApplicationConfig;
 import com.kwezal.bearinmind.core.course.dto.CourseLessonViewDto;
 import com.kwezal.bearinmind.core.course.dto.CreateCourseLessonDto;
 import com.kwezal.bearinmind.core.course.dto.CreateCourseLessonPartDto;
@@ -14,15 +14,19 @@ import com.kwezal.bearinmind.core.course.mapper.CourseLessonMapper;
 import com.kwezal.bearinmind.core.course.mapper.CourseLessonPartMapper;
 import com.kwezal.bearinmind.core.course.model.Course;
 import com.kwezal.bearinmind.core.course.model.CourseLesson;
+import com.kwezal.bearinmind.core.course.model.CourseLessonPart;
 import com.kwezal.bearinmind.core.course.repository.CourseLessonPartRepository;
 import com.kwezal.bearinmind.core.course.repository.CourseLessonRepository;
 import com.kwezal.bearinmind.core.course.repository.CourseRepository;
-import com.kwezal.bearinmind.core.course.repository.CourseUserDataRepository;
 import com.kwezal.bearinmind.core.exception.ErrorCode;
+import com.kwezal.bearinmind.core.translation.service.BulkTranslationService;
+import com.kwezal.bearinmind.core.translation.service.TranslationBatch;
 import com.kwezal.bearinmind.exception.ForbiddenException;
+import com.kwezal.bearinmind.exception.ResourceNotFoundException;
 import com.kwezal.bearinmind.translation.service.TranslationService;
 import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,7 +41,6 @@ public class CourseLessonService {
     private static final String LESSON_TOPIC_TRANSLATION_KEY = "topic";
     private static final String LESSON_DESCRIPTION_TRANSLATION_KEY = "description";
 
-    private final CourseUserDataRepository courseUserDataRepository;
     private final CourseLessonRepository courseLessonRepository;
     private final CourseLessonPartRepository courseLessonPartRepository;
     private final CourseRepository courseRepository;
@@ -46,7 +49,9 @@ public class CourseLessonService {
     private final CourseLessonPartMapper courseLessonPartMapper;
 
     private final LoggedInUserService loggedInUserService;
+    private final ApplicationConfig applicationConfig;
     private final TranslationService translationService;
+    private final BulkTranslationService bulkTranslationService;
     private final CourseLessonValidationService courseLessonValidationService;
     private final CourseValidationService courseValidationService;
 
@@ -63,52 +68,91 @@ public class CourseLessonService {
             .max(Integer::compare)
             .map(ordinal -> ordinal + FIRST_ORDINAL)
             .orElse(FIRST_ORDINAL);
-        return createLesson(course, lesson, lastOrdinal);
+
+        final var translations = new TranslationBatch();
+        final var lessonTranslations = addTranslations(translations, lesson);
+        bulkTranslationService.create(translations);
+
+        return createLesson(course, lesson, lessonTranslations, lastOrdinal);
+    }
+
+    /**
+     * Adds texts of given lessons and their parts to a translation batch.
+     * The lessons can be created with {@link #createLesson(Long, List, List)} once the batch is created.
+     *
+     * @param translations translation batch
+     * @param lessons      data of lessons to create
+     * @return translation identifiers of each lesson
+     */
+    List<LessonTranslations> addTranslations(final TranslationBatch translations, final List<CreateCourseLessonDto> lessons) {
+        return isNotEmpty(lessons) ? lessons.stream().map(lesson -> addTranslations(translations, lesson)).toList() : List.of();
     }
 
     @Transactional(readOnly = false)
-    public void createLesson(final Long courseId, final List<CreateCourseLessonDto> lessons) {
+    public void createLesson(
+        final Long courseId,
+        final List<CreateCourseLessonDto> lessons,
+        final List<LessonTranslations> lessonTranslations
+    ) {
         final var course = fetchCourseBy(courseId);
         if (isNotEmpty(lessons)) {
             var courseLessonOrdinal = FIRST_ORDINAL;
-            for (CreateCourseLessonDto createCourseLessonDto : lessons) {
-                createLesson(course, createCourseLessonDto, courseLessonOrdinal);
+            for (int i = 0; i < lessons.size(); i++) {
+                createLesson(course, lessons.get(i), lessonTranslations.get(i), courseLessonOrdinal);
                 courseLessonOrdinal++;
             }
         }
     }
 
-    private Long createLesson(Course course, CreateCourseLessonDto createCourseLessonDto, int courseLessonOrdinal) {
-        final var fieldIdentifiers = translationService.createMultilingualTranslations(
-            createCourseLessonDto.translations(),
+    private LessonTranslations addTranslations(final TranslationBatch translations, final CreateCourseLessonDto lesson) {
+        final var fieldIdentifiers = translations.addFields(
+            lesson.translations(),
             Set.of(LESSON_TOPIC_TRANSLATION_KEY),
             Set.of(LESSON_DESCRIPTION_TRANSLATION_KEY)
         );
+        final var partTextIdentifiers = nonNull(lesson.parts())
+            ? lesson.parts().stream().map(part -> translations.add(part.text())).toList()
+            : List.<Supplier<Integer>>of();
 
-        final var lesson = courseLessonMapper.map(
-            createCourseLessonDto,
+        return new LessonTranslations(
             fieldIdentifiers.get(LESSON_TOPIC_TRANSLATION_KEY),
             fieldIdentifiers.get(LESSON_DESCRIPTION_TRANSLATION_KEY),
+            partTextIdentifiers
+        );
+    }
+
+    private Long createLesson(
+        Course course,
+        CreateCourseLessonDto createCourseLessonDto,
+        LessonTranslations lessonTranslations,
+        int courseLessonOrdinal
+    ) {
+        final var lesson = courseLessonMapper.map(
+            createCourseLessonDto,
+            lessonTranslations.topicIdentifier().get(),
+            lessonTranslations.descriptionIdentifier().get(),
             courseLessonOrdinal
         );
         lesson.setCourse(course);
         final var savedCourseLesson = courseLessonRepository.save(lesson);
 
         if (nonNull(createCourseLessonDto.parts())) {
-            createLessonParts(createCourseLessonDto.parts(), lesson);
+            createLessonParts(createCourseLessonDto.parts(), lessonTranslations.partTextIdentifiers(), lesson);
         }
 
         return savedCourseLesson.getId();
     }
 
-    private void createLessonParts(List<CreateCourseLessonPartDto> parts, CourseLesson lesson) {
+    private void createLessonParts(
+        List<CreateCourseLessonPartDto> parts,
+        List<Supplier<Integer>> partTextIdentifiers,
+        CourseLesson lesson
+    ) {
         var courseLessonPartOrdinal = FIRST_ORDINAL;
-        for (final var createCourseLessonPartDto : parts) {
-            final var textIdentifier = translationService.createMultilingualTranslation(createCourseLessonPartDto.text());
-
+        for (int i = 0; i < parts.size(); i++) {
             var lessonPart = courseLessonPartMapper.map(
-                textIdentifier,
-                createCourseLessonPartDto.attachments(),
+                partTextIdentifiers.get(i).get(),
+                parts.get(i).attachments(),
                 courseLessonPartOrdinal
             );
             lessonPart.setLesson(lesson);
@@ -139,20 +183,50 @@ public class CourseLessonService {
         courseLessonRepository.save(lesson);
     }
 
+    /**
+     * Appends a part with a single attachment to a lesson. Permission to the lesson must be checked by the caller.
+     *
+     * @param id   lesson ID
+     * @param name displayed name of the attachment
+     * @param url  address where the attachment can be found
+     */
+    @Transactional(readOnly = false)
+    public void addAttachment(final Long id, final String name, final String url) {
+        final var lesson = fetchLessonBy(id);
+        final var ordinal = lesson
+            .getParts()
+            .stream()
+            .map(CourseLessonPart::getOrdinal)
+            .max(Integer::compare)
+            .map(lastOrdinal -> lastOrdinal + 1)
+            .orElse(FIRST_ORDINAL);
+
+        // Separators of the attachment list must not appear in the name
+        final var displayedName = name.replaceAll("[:\\r\\n]", "_");
+        final var lessonPart = courseLessonPartMapper.map(null, displayedName + ":" + url, ordinal);
+        lessonPart.setLesson(lesson);
+        courseLessonPartRepository.save(lessonPart);
+    }
+
     public CourseLessonViewDto findCourseLessonViewDtoBy(final Long id) {
         final var authDetails = loggedInUserService.getAuthenticationDetails();
-        final var userId = authDetails.userId();
-        final var locale = authDetails.locale();
-
-        final var lesson = fetchLessonBy(id);
-        final var isInCourse = courseUserDataRepository.existsByCourseIdAndUserId(lesson.getCourse().getId(), userId);
+        final var rows = courseLessonRepository.findAllCourseLessonViewRowByIdAndUserId(
+            id,
+            authDetails.userId(),
+            authDetails.locale(),
+            applicationConfig.getApplicationLocale()
+        );
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(CourseLesson.class, Map.of("id", id));
+        }
 
-        if (!isInCourse || (nonNull(lesson.getStartDateTime()) && OffsetDateTime.now().isBefore(lesson.getStartDateTime()))) {
+        final var lesson = rows.getFirst();
+        final var startDateTime = lesson.getStartDateTime();
+        if (!lesson.getEnrolled() || (nonNull(startDateTime) && OffsetDateTime.now().isBefore(startDateTime))) {
             throw new ForbiddenException(CourseLesson.class, Map.of("id", id.toString()), ErrorCode.NO_ACCESS_TO_LESSON);
         }
 
-        final var translations = getTranslations(locale, lesson);
-        return courseLessonMapper.mapToCourseLessonViewDto(lesson, translations);
+        return courseLessonMapper.mapToCourseLessonViewDto(rows);
     }
 
     private CourseLesson fetchLessonBy(final Long id) {
@@ -163,19 +237,16 @@ public class CourseLessonService {
         return fetch(id, courseRepository, Course.class);
     }
 
-    private Map<Integer, String> getTranslations(String locale, CourseLesson lesson) {
-        final var identifiers = getTranslationIdentifiers(lesson);
-        return translationService.findAllIdentifierAndTextByIdentifiersAndLocale(identifiers, locale);
-    }
-
-    private Set<Integer> getTranslationIdentifiers(CourseLesson lesson) {
-        final var identifiers = new HashSet<Integer>();
-        addIgnoreNull(identifiers, lesson.getTopicIdentifier());
-        addIgnoreNull(identifiers, lesson.getDescriptionIdentifier());
-        for (final var part : lesson.getParts()) {
-            addIgnoreNull(identifiers, part.getTextIdentifier());
-        }
-
-        return identifiers;
-    }
+    /**
+     * Translation identifiers of a lesson which is about to be created, available once their batch is created.
+     *
+     * @param topicIdentifier       translation identifier of the topic
+     * @param descriptionIdentifier translation identifier of the description
+     * @param partTextIdentifiers   translation identifiers of part texts, in the order of parts
+     */
+    record LessonTranslations(
+        Supplier<Integer> topicIdentifier,
+        Supplier<Integer> descriptionIdentifier,
+        List<Supplier<Integer>> partTextIdentifiers
+    ) {}
 }
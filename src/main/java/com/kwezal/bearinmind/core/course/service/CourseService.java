@@ -1,11 +1,11 @@
 package com.kwezal.bearinmind.core.course.service;
 
-import static com.kwezal.bearinmind.core.utils.CollectionUtils.addIgnoreNull;
 import static com.kwezal.bearinmind.core.utils.RepositoryUtils.fetch;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import com.kwezal.bearinmind.core.auth.service.LoggedInUserService;
+import com.kwezal.bearinmind.core.config.ApplicationConfig;
 import com.kwezal.bearinmind.core.course.dto.*;
 import com.kwezal.bearinmind.core.course.enumeration.CourseRole;
 import com.kwezal.bearinmind.core.course.mapper.CourseLessonMapper;
@@ -14,18 +14,24 @@ import com.kwezal.bearinmind.core.course.mapper.CourseUserDataMapper;
 import com.kwezal.bearinmind.core.course.model.Course;
 import com.kwezal.bearinmind.core.course.repository.CourseRepository;
 import com.kwezal.bearinmind.core.course.repository.CourseUserDataRepository;
+import com.kwezal.bearinmind.core.course.view.CourseKeysetListItemView;
 import com.kwezal.bearinmind.core.course.view.CourseListItemView;
+import com.kwezal.bearinmind.core.pagination.PageCursor;
+import com.kwezal.bearinmind.core.pagination.dto.CursorPageDto;
+import com.kwezal.bearinmind.core.pagination.dto.SliceDto;
+import com.kwezal.bearinmind.core.pagination.service.SliceService;
+import com.kwezal.bearinmind.core.translation.service.BulkTranslationService;
+import com.kwezal.bearinmind.core.translation.service.TranslationBatch;
 import com.kwezal.bearinmind.core.user.model.User;
 import com.kwezal.bearinmind.core.user.repository.UserRepository;
 import com.kwezal.bearinmind.translation.service.TranslationService;
 import java.time.OffsetDateTime;
 import java.util.*;
-import java.util.function.BiFunction;
-import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +43,11 @@ public class CourseService {
     private static final String COURSE_NAME_TRANSLATION_KEY = "name";
     private static final String COURSE_DESCRIPTION_TRANSLATION_KEY = "description";
 
+    private static final String CONDUCTED_COURSE_LIST_NAME = "course.conducted";
+    private static final String ACTIVE_COURSE_LIST_NAME = "course.active";
+    private static final String AVAILABLE_COURSE_LIST_NAME = "course.available";
+    private static final String COMPLETED_COURSE_LIST_NAME = "course.completed";
+
     private final CourseRepository courseRepository;
     private final CourseUserDataRepository courseUserDataRepository;
     private final CourseValidationService courseValidationService;
@@ -48,23 +59,29 @@ public class CourseService {
     private final CourseUserDataMapper courseUserDataMapper;
 
     private final TranslationService translationService;
+    private final BulkTranslationService bulkTranslationService;
 
     private final LoggedInUserService loggedInUserService;
+    private final ApplicationConfig applicationConfig;
     private final UserRepository userRepository;
+    private final SliceService sliceService;
 
     @Transactional(readOnly = false)
     public Long createCourse(final CreateCourseDto dto) {
         courseValidationService.validateCreateCourseDto(dto);
 
-        final var fieldIdentifiers = translationService.createMultilingualTranslations(
+        final var translations = new TranslationBatch();
+        final var fieldIdentifiers = translations.addFields(
             dto.translations(),
             Set.of(COURSE_NAME_TRANSLATION_KEY),
             Set.of(COURSE_DESCRIPTION_TRANSLATION_KEY)
         );
+        final var lessonTranslations = courseLessonService.addTranslations(translations, dto.lessons());
+        bulkTranslationService.create(translations);
 
         var course = courseMapper.map(dto);
-        course.setNameIdentifier(fieldIdentifiers.get(COURSE_NAME_TRANSLATION_KEY));
-        course.setDescriptionIdentifier(fieldIdentifiers.get(COURSE_DESCRIPTION_TRANSLATION_KEY));
+        course.setNameIdentifier(fieldIdentifiers.get(COURSE_NAME_TRANSLATION_KEY).get());
+        course.setDescriptionIdentifier(fieldIdentifiers.get(COURSE_DESCRIPTION_TRANSLATION_KEY).get());
         course = courseRepository.save(course);
         final var courseId = course.getId();
 
@@ -72,7 +89,7 @@ public class CourseService {
         final var user = fetch(userId, userRepository, User.class);
         final var userData = courseUserDataMapper.map(course, user, CourseRole.OWNER);
         courseUserDataRepository.save(userData);
-        courseLessonService.createLesson(courseId, dto.lessons());
+        courseLessonService.createLesson(courseId, dto.lessons(), lessonTranslations);
 
         return courseId;
     }
@@ -103,34 +120,13 @@ public class CourseService {
         final var userId = authDetails.userId();
         final var locale = authDetails.locale();
 
-        final var conductedCourses = courseRepository
-            .findAllConductedCourseListItemByUserId(userId, Pageable.ofSize(listLength))
-            .toList();
-        final var activeCourses = courseRepository
-            .findAllActiveCourseListItemByUserId(userId, Pageable.ofSize(listLength))
-            .toList();
-        final var availableCourses = courseRepository
-            .findAllAvailableCourseListItemByUserId(userId, Pageable.ofSize(listLength))
-            .toList();
-        final var completedCourses = courseRepository
-            .findAllCompletedCourseListItemByUserId(userId, Pageable.ofSize(listLength))
-            .toList();
-
-        final var translations = translationService.findAllIdentifierAndTextByIdentifiersAndLocale(
-            Stream
-                .of(conductedCourses.stream(), activeCourses.stream(), availableCourses.stream(), completedCourses.stream())
-                .flatMap(s -> s),
-            CourseListItemView::getNameIdentifier,
-            locale
-        );
-
-        return courseMapper.mapToCourseMainViewDto(
-            conductedCourses,
-            activeCourses,
-            availableCourses,
-            completedCourses,
-            translations
+        final var courses = courseRepository.findAllMainViewCourseListItemByUserId(
+            userId,
+            locale,
+            applicationConfig.getApplicationLocale(),
+            listLength
         );
+        return courseMapper.mapToCourseMainViewDto(courses);
     }
 
     public Page<@NonNull CourseListItemDto> findConductedCoursePage(final Integer pageNumber, final Integer pageSize) {
@@ -152,53 +148,179 @@ public class CourseService {
     private Page<@NonNull CourseListItemDto> findCoursePage(
         final Integer pageNumber,
         final Integer pageSize,
-        final BiFunction<Long, Pageable, Page<@NonNull CourseListItemView>> findAllCourseListItemByUserId
+        final CourseListQuery<Page<@NonNull CourseListItemView>> findAllCourseListItemByUserId
     ) {
         final var authDetails = loggedInUserService.getAuthenticationDetails();
         final var userId = authDetails.userId();
         final var locale = authDetails.locale();
 
-        final var coursePage = findAllCourseListItemByUserId.apply(userId, Pageable.ofSize(pageSize).withPage(pageNumber));
-        final var translations = translationService.findAllIdentifierAndTextByIdentifiersAndLocale(
-            coursePage.get(),
-            CourseListItemView::getNameIdentifier,
-            locale
+        return findAllCourseListItemByUserId
+            .find(userId, locale, applicationConfig.getApplicationLocale(), Pageable.ofSize(pageSize).withPage(pageNumber))
+            .map(courseMapper::mapToCourseListItemDto);
+    }
+
+    public SliceDto<@NonNull CourseListItemDto> findConductedCourseSlice(
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal
+    ) {
+        return findCourseSlice(
+            CONDUCTED_COURSE_LIST_NAME,
+            pageNumber,
+            pageSize,
+            withTotal,
+            courseRepository::findAllConductedCourseListItemSliceByUserId,
+            courseRepository::findAllConductedCourseListItemByUserId
         );
+    }
 
-        return coursePage.map(course ->
-            courseMapper.mapToCourseListItemDto(course, translations.get(course.getNameIdentifier()))
+    public SliceDto<@NonNull CourseListItemDto> findActiveCourseSlice(
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal
+    ) {
+        return findCourseSlice(
+            ACTIVE_COURSE_LIST_NAME,
+            pageNumber,
+            pageSize,
+            withTotal,
+            courseRepository::findAllActiveCourseListItemSliceByUserId,
+            courseRepository::findAllActiveCourseListItemByUserId
         );
     }
 
-    public CourseViewDto findCourseViewDtoBy(final Long id) {
+    public SliceDto<@NonNull CourseListItemDto> findAvailableCourseSlice(
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal
+    ) {
+        return findCourseSlice(
+            AVAILABLE_COURSE_LIST_NAME,
+            pageNumber,
+            pageSize,
+            withTotal,
+            courseRepository::findAllAvailableCourseListItemSliceByUserId,
+            courseRepository::findAllAvailableCourseListItemByUserId
+        );
+    }
+
+    public SliceDto<@NonNull CourseListItemDto> findCompletedCourseSlice(
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal
+    ) {
+        return findCourseSlice(
+            COMPLETED_COURSE_LIST_NAME,
+            pageNumber,
+            pageSize,
+            withTotal,
+            courseRepository::findAllCompletedCourseListItemSliceByUserId,
+            courseRepository::findAllCompletedCourseListItemByUserId
+        );
+    }
+
+    private SliceDto<@NonNull CourseListItemDto> findCourseSlice(
+        final String listName,
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal,
+        final CourseListQuery<Slice<CourseListItemView>> findAllCourseListItemSliceByUserId,
+        final CourseListQuery<Page<CourseListItemView>> findAllCourseListItemByUserId
+    ) {
         final var authDetails = loggedInUserService.getAuthenticationDetails();
         final var userId = authDetails.userId();
-        final var courseRole = courseUserDataRepository.findCourseRoleByCourseIdAndUserId(id, userId).orElse(null);
-        final var isInCourse = nonNull(courseRole);
+        final var locale = authDetails.locale();
+        final var fallbackLocale = applicationConfig.getApplicationLocale();
+
+        return sliceService
+            .findSlice(
+                listName,
+                userId,
+                pageNumber,
+                pageSize,
+                withTotal,
+                pageable -> findAllCourseListItemSliceByUserId.find(userId, locale, fallbackLocale, pageable),
+                pageable -> findAllCourseListItemByUserId.find(userId, locale, fallbackLocale, pageable)
+            )
+            .map(courseMapper::mapToCourseListItemDto);
+    }
 
-        if (!isInCourse) {
-            courseValidationService.validateIfUserBelongsToCourseGroup(id, userId);
-        }
+    public CursorPageDto<@NonNull CourseListItemDto> findConductedCourseCursorPage(
+        final String cursor,
+        final Integer pageSize
+    ) {
+        return findCourseCursorPage(cursor, pageSize, courseRepository::findAllConductedCourseListItemByUserIdAfter);
+    }
+
+    public CursorPageDto<@NonNull CourseListItemDto> findActiveCourseCursorPage(final String cursor, final Integer pageSize) {
+        return findCourseCursorPage(cursor, pageSize, courseRepository::findAllActiveCourseListItemByUserIdAfter);
+    }
 
+    public CursorPageDto<@NonNull CourseListItemDto> findAvailableCourseCursorPage(
+        final String cursor,
+        final Integer pageSize
+    ) {
+        return findCourseCursorPage(cursor, pageSize, courseRepository::findAllAvailableCourseListItemByUserIdAfter);
+    }
+
+    public CursorPageDto<@NonNull CourseListItemDto> findCompletedCourseCursorPage(
+        final String cursor,
+        final Integer pageSize
+    ) {
+        return findCourseCursorPage(cursor, pageSize, courseRepository::findAllCompletedCourseListItemByUserIdAfter);
+    }
+
+    private CursorPageDto<@NonNull CourseListItemDto> findCourseCursorPage(
+        final String cursor,
+        final Integer pageSize,
+        final CourseKeysetQuery findAllCourseListItemByUserIdAfter
+    ) {
+        final var authDetails = loggedInUserService.getAuthenticationDetails();
+        final var userId = authDetails.userId();
         final var locale = authDetails.locale();
 
-        final var course = fetchCourseBy(id);
-        final var image = course.getImage();
-        final var teachers = courseUserDataRepository.findAllTeacherByCourseId(id);
-        final var translations = getTranslations(locale, course);
+        final var position = PageCursor.decode(cursor);
+        final var courseSlice = findAllCourseListItemByUserIdAfter.find(
+            userId,
+            locale,
+            applicationConfig.getApplicationLocale(),
+            position.sortKey(),
+            position.id(),
+            Pageable.ofSize(pageSize)
+        );
+        final var courses = courseSlice.getContent();
 
-        final var name = translations.get(course.getNameIdentifier());
-        final var description = translations.get(course.getDescriptionIdentifier());
-        final var lessons = course
-            .getLessons()
+        String nextCursor = null;
+        if (courseSlice.hasNext()) {
+            final var lastCourse = courses.getLast();
+            nextCursor = new PageCursor(lastCourse.getSortKey(), lastCourse.getId()).encode();
+        }
+
+        return new CursorPageDto<>(courseMapper.mapToCourseListItemDtos(courses), nextCursor);
+    }
+
+    public CourseViewDto findCourseViewDtoBy(final Long id) {
+        final var authDetails = loggedInUserService.getAuthenticationDetails();
+        final var userId = authDetails.userId();
+
+        final var rows = courseRepository.findAllCourseViewRowByIdAndUserId(
+            id,
+            userId,
+            authDetails.locale(),
+            applicationConfig.getApplicationLocale()
+        );
+        // A missing course is not accessible either, so that its absence is not revealed to users outside of it
+        courseValidationService.validateIfCourseIsAccessible(id, userId, !rows.isEmpty() && rows.getFirst().getAccessible());
+
+        final var course = rows.getFirst();
+
+        final var courseRole = course.getRole();
+        final var isInCourse = nonNull(courseRole);
+        final var teachers = courseUserDataRepository.findAllTeacherByCourseId(id);
+        final var lessons = rows
             .stream()
-            .map(courseLesson ->
-                courseLessonMapper.mapToCourseLessonCardDto(
-                    courseLesson,
-                    translations.get(courseLesson.getTopicIdentifier()),
-                    translations.get(courseLesson.getDescriptionIdentifier())
-                )
-            )
+            .filter(row -> nonNull(row.getLessonId()))
+            .map(courseLessonMapper::mapToCourseLessonCardDto)
             .toList();
 
         ConductedCourseDto conducted = null;
@@ -222,9 +344,9 @@ public class CourseService {
         }
 
         return new CourseViewDto(
-            name,
-            description,
-            image,
+            course.getName(),
+            course.getDescription(),
+            course.getImage(),
             teachers,
             lessons,
             endDateTime,
@@ -235,26 +357,24 @@ public class CourseService {
         );
     }
 
-    private Map<Integer, String> getTranslations(String locale, Course course) {
-        final var identifiers = getTranslationIdentifiers(course);
-        return translationService.findAllIdentifierAndTextByIdentifiersAndLocale(identifiers, locale);
+    private Course fetchCourseBy(final Long id) {
+        return fetch(id, courseRepository, Course.class);
     }
 
-    private List<Integer> getTranslationIdentifiers(Course course) {
-        final var identifiers = new ArrayList<Integer>();
-        addIgnoreNull(identifiers, course.getNameIdentifier());
-        addIgnoreNull(identifiers, course.getDescriptionIdentifier());
-        course
-            .getLessons()
-            .forEach(lesson -> {
-                addIgnoreNull(identifiers, lesson.getTopicIdentifier());
-                addIgnoreNull(identifiers, lesson.getDescriptionIdentifier());
-            });
-
-        return identifiers;
+    @FunctionalInterface
+    private interface CourseListQuery<T> {
+        T find(Long userId, String locale, String fallbackLocale, Pageable pageable);
     }
 
-    private Course fetchCourseBy(final Long id) {
-        return fetch(id, courseRepository, Course.class);
+    @FunctionalInterface
+    private interface CourseKeysetQuery {
+        Slice<CourseKeysetListItemView> find(
+            Long userId,
+            String locale,
+            String fallbackLocale,
+            OffsetDateTime sortKey,
+            Long id,
+            Pageable pageable
+        );
     }
 }
@@ -36,7 +36,20 @@ class CourseValidationService {
      * @throws ForbiddenException if validation fails
      */
     void validateIfUserBelongsToCourseGroup(final Long courseId, final Long userId) {
-        if (!courseUserGroupRepository.existsByCourseIdAndUserId(courseId, userId)) {
+        validateIfCourseIsAccessible(courseId, userId, courseUserGroupRepository.existsByCourseIdAndUserId(courseId, userId));
+    }
+
+    /**
+     * Throws exception if a given course is not accessible to a given user.
+     * A course is accessible if the user is enrolled in it or belongs to any user group associated with it.
+     *
+     * @param courseId   course ID
+     * @param userId     user ID
+     * @param accessible whether the course is accessible to the user
+     * @throws ForbiddenException if validation fails
+     */
+    void validateIfCourseIsAccessible(final Long courseId, final Long userId, final boolean accessible) {
+        if (!accessible) {
             throw new ForbiddenException(CourseUserGroup.class, Map.of("courseId", courseId, "userId", userId));
         }
     }
@@ -0,0 +1,7 @@
+package com.kwezal.bearinmind.core.course.view;
+
+import com.kwezal.bearinmind.core.course.enumeration.CourseListType;
+
+public interface CourseDashboardItemView extends CourseListItemView {
+    CourseListType getListType();
+}
@@ -0,0 +1,7 @@
+package com.kwezal.bearinmind.core.course.view;
+
+import java.time.OffsetDateTime;
+
+public interface CourseKeysetListItemView extends CourseListItemView {
+    OffsetDateTime getSortKey();
+}
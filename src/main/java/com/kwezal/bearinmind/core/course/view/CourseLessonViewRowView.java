@@ -0,0 +1,25 @@
+package com.kwezal.bearinmind.core.course.view;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Lesson view data joined with a single part of the lesson.
+ * Part fields are null if the lesson has no parts.
+ */
+public interface CourseLessonViewRowView {
+    String getTopic();
+
+    String getDescription();
+
+    String getImage();
+
+    OffsetDateTime getStartDateTime();
+
+    Boolean getEnrolled();
+
+    Integer getPartOrdinal();
+
+    String getPartText();
+
+    String getPartAttachments();
+}
@@ -3,7 +3,7 @@ package com.kwezal.bearinmind.core.course.view;
 public interface CourseListItemView {
     Long getId();
 
-    Integer getNameIdentifier();
+    String getName();
 
     String getImage();
 }
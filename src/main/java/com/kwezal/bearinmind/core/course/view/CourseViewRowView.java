@@ -0,0 +1,34 @@
+package com.kwezal.bearinmind.core.course.view;
+
+import com.kwezal.bearinmind.core.course.enumeration.CourseRole;
+import java.time.OffsetDateTime;
+
+/**
+ * Course view data joined with a single lesson of the course.
+ * Lesson fields are null if the course has no lessons.
+ */
+public interface CourseViewRowView {
+    String getName();
+
+    String getDescription();
+
+    String getImage();
+
+    OffsetDateTime getEndDateTime();
+
+    OffsetDateTime getRegistrationClosingDateTime();
+
+    CourseRole getRole();
+
+    Boolean getAccessible();
+
+    Long getLessonId();
+
+    Integer getLessonOrdinal();
+
+    String getLessonTopic();
+
+    String getLessonDescription();
+
+    OffsetDateTime getLessonStartDateTime();
+}
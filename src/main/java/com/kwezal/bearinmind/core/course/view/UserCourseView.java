@@ -5,7 +5,7 @@ import com.kwezal.bearinmind.core.course.enumeration.CourseRole;
 public interface UserCourseView {
     Long getId();
 
-    Integer getNameIdentifier();
+    String getName();
 
     String getImage();
 
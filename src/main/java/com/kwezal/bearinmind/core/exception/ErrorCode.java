@@ -12,7 +12,12 @@ public final class ErrorCode {
     public static final String CANNOT_ENROLL = "CANNOT_ENROLL";
     public static final String CANNOT_JOIN_GROUP = "CANNOT_JOIN_GROUP";
     public static final String FILE_SIZE_LIMIT_EXCEEDED = "FILE_SIZE_LIMIT_EXCEEDED";
+    public static final String INVALID_UPLOAD_OFFSET = "INVALID_UPLOAD_OFFSET";
+    public static final String UPLOAD_INCOMPLETE = "UPLOAD_INCOMPLETE";
+    public static final String UPLOAD_IN_PROGRESS = "UPLOAD_IN_PROGRESS";
+    public static final String UPLOAD_LIMIT_EXCEEDED = "UPLOAD_LIMIT_EXCEEDED";
     public static final String USER_EXISTS = "USER_EXISTS";
+    public static final String INVALID_PAGE_CURSOR = "INVALID_PAGE_CURSOR";
 
     public static final String INVALID_COURSE_START_DATE_TIME_IS_AFTER_END_DATE_TIME =
         "INVALID_COURSE_START_DATE_TIME_IS_AFTER_END_DATE_TIME";
@@ -0,0 +1,67 @@
+package com.kwezal.bearinmind.core.exception;
+
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.exception.AuthorizationException;
+import com.kwezal.bearinmind.exception.ForbiddenException;
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Counts requests rejected with one of the {@link #COUNTED_EXCEPTIONS counted exceptions} or their subclasses,
+ * tagged by HTTP method, route template and exception type.
+ * It never resolves an exception itself, so the response is still produced by the regular exception handlers.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExceptionMetricsResolver implements HandlerExceptionResolver, Ordered {
+
+    private static final String METER_NAME = "http.server.exceptions";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private static final Set<Class<? extends Exception>> COUNTED_EXCEPTIONS = Set.of(
+        ForbiddenException.class,
+        InvalidRequestDataException.class,
+        AuthorizationException.class
+    );
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ModelAndView resolveException(
+        @NonNull final HttpServletRequest request,
+        @NonNull final HttpServletResponse response,
+        final Object handler,
+        @NonNull final Exception ex
+    ) {
+        if (COUNTED_EXCEPTIONS.stream().anyMatch(exceptionClass -> exceptionClass.isInstance(ex))) {
+            final var uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Counter
+                .builder(METER_NAME)
+                .description("Number of requests rejected with an exception")
+                .tag("method", request.getMethod())
+                .tag("uri", isNull(uri) ? UNKNOWN_URI : uri.toString())
+                .tag("exception", ex.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+        }
+
+        return null;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
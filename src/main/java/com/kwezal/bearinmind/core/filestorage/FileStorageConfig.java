@@ -0,0 +1,61 @@
+package com.kwezal.bearinmind.core.filestorage;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+public class FileStorageConfig {
+
+    @Value("${application.file-storage.base-path}")
+    private String basePath;
+
+    @Value("${application.file-storage.connect-timeout-millis}")
+    private Integer connectTimeoutMillis;
+
+    @Value("${application.file-storage.read-timeout-millis}")
+    private Integer readTimeoutMillis;
+
+    @Value("${application.file-storage.upload-timeout-millis}")
+    private Integer uploadTimeoutMillis;
+
+    @Value("${application.file-storage.max-concurrent-requests}")
+    private Integer maxConcurrentRequests;
+
+    @Value("${application.file-storage.max-wait-millis}")
+    private Integer maxWaitMillis;
+
+    @Value("${application.file-storage.delete-max-attempts}")
+    private Integer deleteMaxAttempts;
+
+    @Value("${application.file-storage.retry-backoff-millis}")
+    private Integer retryBackoffMillis;
+
+    @Value("${application.file-storage.image-processing.threads}")
+    private Integer imageProcessingThreads;
+
+    @Value("${application.file-storage.image-processing.queue-capacity}")
+    private Integer imageProcessingQueueCapacity;
+
+    @Value("${application.file-storage.image-processing.max-pixels}")
+    private Long imageProcessingMaxPixels;
+
+    @Value("${application.file-storage.upload.staging-path}")
+    private String uploadStagingPath;
+
+    @Value("${application.file-storage.upload.max-file-size}")
+    private Long uploadMaxFileSize;
+
+    @Value("${application.file-storage.upload.max-chunk-size}")
+    private Integer uploadMaxChunkSize;
+
+    @Value("${application.file-storage.upload.expiry-minutes}")
+    private Integer uploadExpiryMinutes;
+
+    @Value("${application.file-storage.upload.max-open-uploads-per-user}")
+    private Integer uploadMaxOpenUploadsPerUser;
+
+    @Value("${application.file-storage.upload.max-staged-bytes-per-user}")
+    private Long uploadMaxStagedBytesPerUser;
+}
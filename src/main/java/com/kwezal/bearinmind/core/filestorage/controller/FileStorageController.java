@@ -1,9 +1,15 @@
 package com.kwezal.bearinmind.core.filestorage.controller;
 
+import com.kwezal.bearinmind.core.filestorage.dto.InitiateUploadDto;
+import com.kwezal.bearinmind.core.filestorage.dto.UploadStatusDto;
 import com.kwezal.bearinmind.core.filestorage.ennumeration.FileAssetType;
+import com.kwezal.bearinmind.core.filestorage.service.ChunkedUploadService;
 import com.kwezal.bearinmind.core.filestorage.service.FileStorageService;
 import com.kwezal.bearinmind.core.logging.ControllerLogging;
+import jakarta.validation.constraints.Min;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,6 +22,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileStorageController {
 
     private final FileStorageService fileStorageService;
+    private final ChunkedUploadService chunkedUploadService;
 
     /**
      * Uploads the image to the file storage pointing to the asset it concerns.
@@ -35,12 +42,69 @@ public class FileStorageController {
     }
 
     /**
-     * Deletes the file of a given URL from the file storage.
+     * Removes the image of the asset, deleting its files from the file storage unless another asset uses the same image.
      *
-     * @param url file URL
+     * @param fileAssetType asset type
+     * @param identifier    asset identifier
+     */
+    @DeleteMapping("/image")
+    public void deleteImage(@RequestParam FileAssetType fileAssetType, @RequestParam String identifier) {
+        fileStorageService.deleteImage(fileAssetType, identifier);
+    }
+
+    /**
+     * Starts an upload of a lesson attachment in chunks, for files too large to be sent in a single request.
+     *
+     * @param dto upload details
+     * @return status of the new upload with its ID
+     */
+    @PostMapping("/upload")
+    public UploadStatusDto initiateUpload(@RequestBody @Validated InitiateUploadDto dto) {
+        return chunkedUploadService.initiate(dto);
+    }
+
+    /**
+     * Returns the status of an upload in chunks, which tells from which offset to resume it.
+     *
+     * @param uploadId upload ID
+     * @return upload status
+     */
+    @GetMapping("/upload/{uploadId}")
+    public UploadStatusDto findUploadStatus(@PathVariable String uploadId) {
+        return chunkedUploadService.getStatus(uploadId);
+    }
+
+    /**
+     * Uploads a chunk of a file, sent as the raw request body.
+     *
+     * @param uploadId upload ID
+     * @param offset   offset of the chunk from the beginning of the file
+     * @param content  chunk content
+     * @return upload status
+     */
+    @PutMapping(value = "/upload/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public UploadStatusDto uploadChunk(@PathVariable String uploadId, @RequestParam @Min(0) Long offset, InputStream content) {
+        return chunkedUploadService.uploadChunk(uploadId, offset, content);
+    }
+
+    /**
+     * Completes an upload in chunks, saving the file to the file storage and attaching it to the lesson.
+     *
+     * @param uploadId upload ID
+     * @return URL to the saved file
+     */
+    @PostMapping("/upload/{uploadId}/complete")
+    public String completeUpload(@PathVariable String uploadId) {
+        return chunkedUploadService.complete(uploadId);
+    }
+
+    /**
+     * Cancels an upload in chunks.
+     *
+     * @param uploadId upload ID
      */
-    @DeleteMapping
-    public void delete(@RequestParam String url) {
-        fileStorageService.delete(url);
+    @DeleteMapping("/upload/{uploadId}")
+    public void abortUpload(@PathVariable String uploadId) {
+        chunkedUploadService.abort(uploadId);
     }
 }
@@ -0,0 +1,18 @@
+package com.kwezal.bearinmind.core.filestorage.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * @param courseLessonId ID of the lesson the file is attached to
+ * @param fileName       name the file is stored under, without a directory
+ * @param size           file size in bytes
+ */
+public record InitiateUploadDto(
+    @NotNull Long courseLessonId,
+
+    @NotBlank String fileName,
+
+    @NotNull @Positive Long size
+) {}
@@ -0,0 +1,16 @@
+package com.kwezal.bearinmind.core.filestorage.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * @param uploadId      upload ID
+ * @param size          file size in bytes
+ * @param receivedBytes number of bytes received from the beginning of the file; the next chunk starts at this offset
+ */
+public record UploadStatusDto(
+    @NotNull String uploadId,
+
+    @NotNull Long size,
+
+    @NotNull Long receivedBytes
+) {}
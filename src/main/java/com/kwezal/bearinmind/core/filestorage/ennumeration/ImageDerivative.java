@@ -0,0 +1,11 @@
+package com.kwezal.bearinmind.core.filestorage.ennumeration;
+
+/**
+ * Resized variant of an uploaded image: the full view of an asset shows the full derivative,
+ * list cards show the card derivative, and avatars show the thumbnail.
+ */
+public enum ImageDerivative {
+    FULL,
+    CARD,
+    THUMBNAIL
+}
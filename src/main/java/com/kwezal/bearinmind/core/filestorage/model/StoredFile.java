@@ -0,0 +1,38 @@
+package com.kwezal.bearinmind.core.filestorage.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "stored_files")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    String contentHash;
+
+    @Column(nullable = false)
+    String maxEdges;
+
+    @Column(nullable = false)
+    String url;
+
+    @Column(nullable = false)
+    String cardUrl;
+
+    @Column(nullable = false)
+    String thumbnailUrl;
+
+    @Column(nullable = false)
+    Integer referenceCount;
+}
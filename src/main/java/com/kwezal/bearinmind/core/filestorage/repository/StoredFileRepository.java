@@ -0,0 +1,31 @@
+package com.kwezal.bearinmind.core.filestorage.repository;
+
+import com.kwezal.bearinmind.core.filestorage.model.StoredFile;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import lombok.NonNull;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+public interface StoredFileRepository extends JpaRepository<@NonNull StoredFile, @NonNull Long> {
+    /**
+     * Finds and locks the stored files of given content resized to given dimensions.
+     *
+     * @param contentHash hex-encoded SHA-256 digest of the original file
+     * @param maxEdges    maximum edges of derivatives the files were created with
+     * @return stored files, empty if such content has not been stored
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StoredFile> findByContentHashAndMaxEdges(String contentHash, String maxEdges);
+
+    /**
+     * Finds and locks the stored files which include a file of a given URL.
+     *
+     * @param url          URL of the full-size derivative
+     * @param cardUrl      URL of the card derivative
+     * @param thumbnailUrl URL of the thumbnail derivative
+     * @return stored files, empty if the file is not indexed
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StoredFile> findFirstByUrlOrCardUrlOrThumbnailUrl(String url, String cardUrl, String thumbnailUrl);
+}
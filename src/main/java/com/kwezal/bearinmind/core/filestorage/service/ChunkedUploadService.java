@@ -0,0 +1,378 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import static com.kwezal.bearinmind.core.exception.ErrorCode.FILE_SIZE_LIMIT_EXCEEDED;
+import static com.kwezal.bearinmind.core.exception.ErrorCode.INVALID_UPLOAD_OFFSET;
+import static com.kwezal.bearinmind.core.exception.ErrorCode.UPLOAD_INCOMPLETE;
+import static com.kwezal.bearinmind.core.exception.ErrorCode.UPLOAD_IN_PROGRESS;
+import static com.kwezal.bearinmind.core.exception.ErrorCode.UPLOAD_LIMIT_EXCEEDED;
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.core.auth.service.LoggedInUserService;
+import com.kwezal.bearinmind.core.course.service.CourseLessonService;
+import com.kwezal.bearinmind.core.filestorage.FileStorageConfig;
+import com.kwezal.bearinmind.core.filestorage.dto.InitiateUploadDto;
+import com.kwezal.bearinmind.core.filestorage.dto.UploadStatusDto;
+import com.kwezal.bearinmind.core.filestorage.ennumeration.FileAssetType;
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import com.kwezal.bearinmind.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Receives lesson attachments too large for a single request in chunks, which a client can resume after a dropped
+ * connection from the last byte the server has received. Chunks are written at their offsets to a file in a staging
+ * directory on the local disk, and the file is sent to the file storage as a whole once all bytes have been received,
+ * then attached to the lesson. Uploads are kept in memory of the instance which initiated them, limited in number and
+ * declared size per user, and expire after a configured period of inactivity. The staging directory belongs to a single
+ * instance, so files left in it by a previous run are deleted on startup.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ChunkedUploadService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileStorageConfig fileStorageConfig;
+    private final FileStorageClient fileStorageClient;
+    private final FileValidationService fileValidationService;
+    private final LoggedInUserService loggedInUserService;
+    private final CourseLessonService courseLessonService;
+
+    private final Map<String, ChunkedUpload> uploads = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void deleteOrphanedStagingFiles() {
+        final var directory = Path.of(fileStorageConfig.getUploadStagingPath());
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (final var paths = Files.walk(directory)) {
+            paths
+                .filter(path -> !path.equals(directory))
+                .sorted(Comparator.reverseOrder())
+                .forEach(path -> {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (IOException e) {
+                        log.warn("Could not delete orphaned staging file {}", path, e);
+                    }
+                });
+        } catch (IOException e) {
+            log.warn("Could not list staging directory {}", directory, e);
+        }
+    }
+
+    @PreDestroy
+    void deleteStagedFiles() {
+        uploads.values().forEach(upload -> discard(upload, true));
+    }
+
+    /**
+     * Discards uploads which have not received any bytes for the configured period.
+     * An upload whose chunk is still being received is left until the request ends.
+     */
+    @Scheduled(
+        fixedDelayString = "${application.file-storage.upload.sweep-interval-minutes}",
+        timeUnit = TimeUnit.MINUTES
+    )
+    void discardExpiredUploads() {
+        final var expiryTime = Instant.now().minus(Duration.ofMinutes(fileStorageConfig.getUploadExpiryMinutes()));
+        uploads
+            .values()
+            .stream()
+            .filter(upload -> upload.lastActivity.isBefore(expiryTime))
+            .forEach(upload -> discard(upload, false));
+    }
+
+    /**
+     * Starts an upload of a lesson attachment of a given size and creates an empty staging file for it.
+     * Only the owner of the course may attach files to its lessons.
+     *
+     * @param dto upload details
+     * @return status of the new upload
+     * @throws InvalidRequestDataException if the file is too large or the user has too many uploads in progress
+     */
+    public UploadStatusDto initiate(final InitiateUploadDto dto) {
+        final var userId = loggedInUserService.getLoggedInUserId();
+        final var identifier = dto.courseLessonId().toString();
+        fileValidationService.validateFileNameHasNoDirectory(dto.fileName());
+        fileValidationService.validateUploadDoesNotExceedSizeLimit(dto, fileStorageConfig.getUploadMaxFileSize());
+        fileValidationService.validateUserHasWritePermissionToFile(userId, FileAssetType.COURSE_LESSON, identifier);
+
+        final var uploadId = UUID.randomUUID().toString();
+        final var file = createStagingFile(uploadId, dto.fileName());
+        final var upload = new ChunkedUpload(uploadId, userId, dto.courseLessonId(), dto.fileName(), dto.size(), file);
+        try {
+            register(upload);
+        } catch (RuntimeException e) {
+            deleteStagingFile(file);
+            throw e;
+        }
+        return upload.getStatus();
+    }
+
+    /**
+     * Returns the status of an upload, so that a client knows which offset to resume from.
+     *
+     * @param uploadId upload ID
+     * @return upload status
+     */
+    public UploadStatusDto getStatus(final String uploadId) {
+        // Not synchronized, so that the status is available while a dropped request is still being written
+        return fetch(uploadId).getStatus();
+    }
+
+    /**
+     * Writes a chunk of the file at a given offset. The offset must not be greater than the number of bytes received so far,
+     * so a chunk can be sent again if its response was lost, but no gaps are left in the file.
+     * Bytes written before the connection drops are kept, so the upload can be resumed from the last received byte.
+     *
+     * @param uploadId upload ID
+     * @param offset   offset of the chunk from the beginning of the file
+     * @param content  chunk content
+     * @return upload status
+     * @throws InvalidRequestDataException if the offset is invalid or the chunk is too large
+     */
+    public UploadStatusDto uploadChunk(final String uploadId, final long offset, final InputStream content) {
+        final var upload = fetch(uploadId);
+        synchronized (upload) {
+            validateUploadIsActive(upload);
+            validateNoChunkIsBeingWritten(upload);
+            if (offset < 0 || offset > upload.receivedBytes) {
+                throw new InvalidRequestDataException(
+                    ChunkedUpload.class,
+                    Map.of("uploadId", uploadId, "offset", offset, "receivedBytes", upload.receivedBytes),
+                    INVALID_UPLOAD_OFFSET
+                );
+            }
+            upload.writing = true;
+        }
+
+        // The chunk is received without holding the lock, so that the status of the upload can be read meanwhile
+        try {
+            write(upload, offset, content);
+        } finally {
+            synchronized (upload) {
+                upload.writing = false;
+            }
+        }
+        return upload.getStatus();
+    }
+
+    /**
+     * Sends a fully received file to the file storage, attaches it to the lesson and deletes its staging file.
+     *
+     * @param uploadId upload ID
+     * @return URL to the saved file
+     * @throws InvalidRequestDataException if not all bytes of the file have been received
+     */
+    public String complete(final String uploadId) {
+        final var upload = fetch(uploadId);
+        synchronized (upload) {
+            validateUploadIsActive(upload);
+            validateNoChunkIsBeingWritten(upload);
+            if (upload.receivedBytes != upload.size) {
+                throw new InvalidRequestDataException(
+                    ChunkedUpload.class,
+                    Map.of("uploadId", uploadId, "size", upload.size, "receivedBytes", upload.receivedBytes),
+                    UPLOAD_INCOMPLETE
+                );
+            }
+            upload.finished = true;
+            uploads.remove(uploadId);
+        }
+
+        final String url;
+        try {
+            final var identifier = String.valueOf(upload.courseLessonId);
+            fileValidationService.validateUserHasWritePermissionToFile(
+                upload.userId,
+                FileAssetType.COURSE_LESSON,
+                identifier
+            );
+            url = fileStorageClient.upload(upload.file.toFile(), FileAssetType.COURSE_LESSON.name(), identifier);
+        } finally {
+            deleteStagingFile(upload.file);
+        }
+
+        try {
+            courseLessonService.addAttachment(upload.courseLessonId, upload.fileName, url);
+        } catch (RuntimeException e) {
+            deleteQuietly(url);
+            throw e;
+        }
+        return url;
+    }
+
+    /**
+     * Cancels an upload and deletes its staging file.
+     *
+     * @param uploadId upload ID
+     * @throws InvalidRequestDataException if a chunk of the upload is being received
+     */
+    public void abort(final String uploadId) {
+        final var upload = fetch(uploadId);
+        synchronized (upload) {
+            validateNoChunkIsBeingWritten(upload);
+            discard(upload, false);
+        }
+    }
+
+    /**
+     * Adds an upload to the uploads in progress unless its user would exceed the limits of uploads in progress.
+     */
+    private synchronized void register(final ChunkedUpload upload) {
+        final var userUploads = uploads.values().stream().filter(userUpload -> userUpload.userId == upload.userId).toList();
+        final var stagedBytes = userUploads.stream().mapToLong(userUpload -> userUpload.size).sum() + upload.size;
+        if (
+            userUploads.size() >= fileStorageConfig.getUploadMaxOpenUploadsPerUser() ||
+            stagedBytes > fileStorageConfig.getUploadMaxStagedBytesPerUser()
+        ) {
+            throw new InvalidRequestDataException(
+                ChunkedUpload.class,
+                Map.of("userId", upload.userId, "openUploads", userUploads.size(), "stagedBytes", stagedBytes),
+                UPLOAD_LIMIT_EXCEEDED
+            );
+        }
+
+        uploads.put(upload.id, upload);
+    }
+
+    private ChunkedUpload fetch(final String uploadId) {
+        final var upload = uploads.get(uploadId);
+        if (isNull(upload) || upload.userId != loggedInUserService.getLoggedInUserId()) {
+            throw new ResourceNotFoundException(ChunkedUpload.class, Map.of("uploadId", uploadId));
+        }
+        return upload;
+    }
+
+    private static void validateUploadIsActive(final ChunkedUpload upload) {
+        if (upload.finished) {
+            throw new ResourceNotFoundException(ChunkedUpload.class, Map.of("uploadId", upload.id));
+        }
+    }
+
+    private static void validateNoChunkIsBeingWritten(final ChunkedUpload upload) {
+        if (upload.writing) {
+            throw new InvalidRequestDataException(ChunkedUpload.class, Map.of("uploadId", upload.id), UPLOAD_IN_PROGRESS);
+        }
+    }
+
+    /**
+     * Copies a chunk to the staging file with positional writes, counting received bytes after every buffer.
+     * Must be called only by the request which has reserved the upload for writing.
+     */
+    private void write(final ChunkedUpload upload, final long offset, final InputStream content) {
+        final var limit = Math.min(upload.size, offset + fileStorageConfig.getUploadMaxChunkSize());
+        final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (final var channel = FileChannel.open(upload.file, StandardOpenOption.WRITE)) {
+            var position = offset;
+            int read;
+            while ((read = content.read(buffer.array())) != -1) {
+                if (position + read > limit) {
+                    throw new InvalidRequestDataException(
+                        ChunkedUpload.class,
+                        Map.of("uploadId", upload.id, "offset", offset, "size", upload.size),
+                        FILE_SIZE_LIMIT_EXCEEDED
+                    );
+                }
+
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                upload.receivedBytes = Math.max(upload.receivedBytes, position);
+                upload.lastActivity = Instant.now();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path createStagingFile(final String uploadId, final String fileName) {
+        try {
+            // The file keeps its name, so that the file storage receives it under the name given by the client
+            final var directory = Files.createDirectories(Path.of(fileStorageConfig.getUploadStagingPath(), uploadId));
+            return Files.createFile(directory.resolve(fileName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ends an upload and deletes its staging file. Unless forced, an upload whose chunk is being received is kept.
+     */
+    private void discard(final ChunkedUpload upload, final boolean force) {
+        synchronized (upload) {
+            if (upload.finished || (!force && upload.writing)) {
+                return;
+            }
+            upload.finished = true;
+            uploads.remove(upload.id);
+        }
+        deleteStagingFile(upload.file);
+    }
+
+    private void deleteQuietly(final String url) {
+        try {
+            fileStorageClient.delete(url);
+        } catch (RuntimeException e) {
+            log.warn("Could not delete file '{}' of a failed upload", url, e);
+        }
+    }
+
+    private void deleteStagingFile(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.getParent());
+        } catch (IOException e) {
+            log.warn("Could not delete staging file {}", file, e);
+        }
+    }
+
+    /**
+     * State of an upload. Flags are accessed only while holding the lock of the upload itself; received bytes and
+     * the time of last activity are written only by the request which has reserved the upload for writing.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ChunkedUpload {
+
+        private final String id;
+        private final long userId;
+        private final long courseLessonId;
+        private final String fileName;
+        private final long size;
+        private final Path file;
+
+        private volatile long receivedBytes;
+        private volatile Instant lastActivity = Instant.now();
+        private boolean writing;
+        private boolean finished;
+
+        private UploadStatusDto getStatus() {
+            return new UploadStatusDto(id, size, receivedBytes);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import static java.util.Objects.isNull;
+
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reads the EXIF orientation tag of JPEG images, which cameras set instead of rotating pixels,
+ * so that derivatives can be rotated to the orientation in which the image is meant to be displayed.
+ * Image decoders ignore the tag, and derivatives are written without metadata.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int JPEG_START_OF_IMAGE = 0xFFD8;
+    private static final int JPEG_START_OF_SCAN = 0xFFDA;
+    private static final int JPEG_END_OF_IMAGE = 0xFFD9;
+    private static final int JPEG_APP1 = 0xFFE1;
+
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int TIFF_MAGIC_NUMBER = 42;
+    private static final int IFD_ENTRY_SIZE = 12;
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    /**
+     * Reads the orientation of an image from the EXIF segment preceding its pixel data.
+     *
+     * @param image image file
+     * @return orientation from 1 to 8 as defined by EXIF, {@link #NORMAL} if the image is not a JPEG or has no valid tag
+     * @throws IOException if the file cannot be read
+     */
+    static int read(final Path image) throws IOException {
+        try (final var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(image)))) {
+            if (input.readUnsignedShort() != JPEG_START_OF_IMAGE) {
+                return NORMAL;
+            }
+
+            while (true) {
+                final var marker = input.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == JPEG_START_OF_SCAN || marker == JPEG_END_OF_IMAGE) {
+                    return NORMAL;
+                }
+
+                final var length = input.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NORMAL;
+                }
+
+                if (marker == JPEG_APP1) {
+                    // APP1 may hold XMP instead of EXIF, so the search goes on if it has no orientation
+                    final var orientation = readFromExifSegment(ByteBuffer.wrap(input.readNBytes(length)));
+                    if (orientation != NORMAL) {
+                        return orientation;
+                    }
+                } else {
+                    input.skipNBytes(length);
+                }
+            }
+        } catch (EOFException e) {
+            return NORMAL;
+        }
+    }
+
+    /**
+     * Transforms an image so that it is displayed upright without its orientation tag.
+     *
+     * @param image       decoded image
+     * @param orientation EXIF orientation of the image
+     * @return transformed image, or the given one if its orientation is normal
+     */
+    static BufferedImage apply(final BufferedImage image, final int orientation) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final var transform =
+            switch (orientation) {
+                case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+                case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+                case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+                case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+                case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+                case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+                case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+                default -> null;
+            };
+        if (isNull(transform)) {
+            return image;
+        }
+
+        // Orientations from 5 to 8 turn the image by a quarter, swapping its edges
+        final var isTurned = orientation >= 5;
+        final var type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        final var result = new BufferedImage(isTurned ? height : width, isTurned ? width : height, type);
+        final var graphics = result.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    /**
+     * Finds the orientation tag in the first image file directory of a TIFF structure following the EXIF header.
+     */
+    private static int readFromExifSegment(final ByteBuffer segment) {
+        final var tiffStart = EXIF_HEADER.length;
+        if (segment.limit() < tiffStart + 8 || !segment.slice(0, tiffStart).equals(ByteBuffer.wrap(EXIF_HEADER))) {
+            return NORMAL;
+        }
+
+        final var byteOrder = segment.getShort(tiffStart);
+        if (byteOrder == 0x4949) {
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (byteOrder != 0x4D4D) {
+            return NORMAL;
+        }
+        if (segment.getShort(tiffStart + 2) != TIFF_MAGIC_NUMBER) {
+            return NORMAL;
+        }
+
+        final var directoryOffset = Integer.toUnsignedLong(segment.getInt(tiffStart + 4));
+        if (directoryOffset > segment.limit() - tiffStart - 2L) {
+            return NORMAL;
+        }
+
+        final var directory = tiffStart + (int) directoryOffset;
+        final var entries = Short.toUnsignedInt(segment.getShort(directory));
+        for (var i = 0; i < entries; i++) {
+            final var entry = directory + 2 + i * IFD_ENTRY_SIZE;
+            if (entry + IFD_ENTRY_SIZE > segment.limit()) {
+                return NORMAL;
+            }
+
+            if (Short.toUnsignedInt(segment.getShort(entry)) == ORIENTATION_TAG) {
+                // The value of type SHORT is stored in the first two bytes of the value field
+                final var orientation = Short.toUnsignedInt(segment.getShort(entry + 8));
+                return orientation >= 1 && orientation <= 8 ? orientation : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+}
@@ -0,0 +1,109 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import static com.kwezal.bearinmind.core.utils.RepositoryUtils.fetch;
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.core.course.model.Course;
+import com.kwezal.bearinmind.core.course.model.CourseLesson;
+import com.kwezal.bearinmind.core.course.repository.CourseLessonRepository;
+import com.kwezal.bearinmind.core.course.repository.CourseRepository;
+import com.kwezal.bearinmind.core.filestorage.ennumeration.FileAssetType;
+import com.kwezal.bearinmind.core.filestorage.ennumeration.ImageDerivative;
+import com.kwezal.bearinmind.core.user.model.User;
+import com.kwezal.bearinmind.core.user.model.UserGroup;
+import com.kwezal.bearinmind.core.user.repository.UserGroupRepository;
+import com.kwezal.bearinmind.core.user.repository.UserRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the image columns of assets and the references to stored files in step:
+ * every asset holds exactly one reference to the stored files its image points to.
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional
+class FileAssetService {
+
+    private final CourseRepository courseRepository;
+    private final CourseLessonRepository courseLessonRepository;
+    private final UserRepository userRepository;
+    private final UserGroupRepository userGroupRepository;
+    private final StoredFileService storedFileService;
+
+    /**
+     * Sets the image of a given asset to given derivatives and releases the reference to its previous image.
+     * The caller must already hold a reference to the new derivatives.
+     *
+     * @param fileAssetType asset type
+     * @param id            asset ID
+     * @param urls          URLs of all image derivatives
+     * @return URLs of files which are no longer referenced and have to be deleted from the file storage
+     */
+    List<String> updateImage(final FileAssetType fileAssetType, final long id, final Map<ImageDerivative, String> urls) {
+        final var image = fetchImage(fileAssetType, id);
+        final var previousUrl = image.url().get();
+        image.set(urls);
+        return release(previousUrl);
+    }
+
+    /**
+     * Removes the image of a given asset and releases the reference to it.
+     *
+     * @param fileAssetType asset type
+     * @param id            asset ID
+     * @return URLs of files which are no longer referenced and have to be deleted from the file storage
+     */
+    List<String> clearImage(final FileAssetType fileAssetType, final long id) {
+        final var image = fetchImage(fileAssetType, id);
+        final var previousUrl = image.url().get();
+        image.set(Map.of());
+        return release(previousUrl);
+    }
+
+    private List<String> release(final String url) {
+        return isNull(url) ? List.of() : storedFileService.release(url);
+    }
+
+    private AssetImage fetchImage(final FileAssetType fileAssetType, final long id) {
+        return switch (fileAssetType) {
+            case USER -> {
+                final var user = fetch(id, userRepository, User.class);
+                yield new AssetImage(user::getImage, user::setImage, user::setImageCard, user::setImageThumbnail);
+            }
+            case USER_GROUP -> {
+                final var group = fetch(id, userGroupRepository, UserGroup.class);
+                yield new AssetImage(group::getImage, group::setImage, group::setImageCard, group::setImageThumbnail);
+            }
+            case COURSE -> {
+                final var course = fetch(id, courseRepository, Course.class);
+                yield new AssetImage(course::getImage, course::setImage, course::setImageCard, course::setImageThumbnail);
+            }
+            case COURSE_LESSON -> {
+                final var lesson = fetch(id, courseLessonRepository, CourseLesson.class);
+                yield new AssetImage(lesson::getImage, lesson::setImage, lesson::setImageCard, lesson::setImageThumbnail);
+            }
+        };
+    }
+
+    /**
+     * Image columns of an asset; the full-size derivative is kept in the "image" column.
+     */
+    private record AssetImage(
+        Supplier<String> url,
+        Consumer<String> fullSetter,
+        Consumer<String> cardSetter,
+        Consumer<String> thumbnailSetter
+    ) {
+        void set(final Map<ImageDerivative, String> urls) {
+            fullSetter.accept(urls.get(ImageDerivative.FULL));
+            cardSetter.accept(urls.get(ImageDerivative.CARD));
+            thumbnailSetter.accept(urls.get(ImageDerivative.THUMBNAIL));
+        }
+    }
+}
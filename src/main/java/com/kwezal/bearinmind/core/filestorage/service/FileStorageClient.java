@@ -0,0 +1,109 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import com.kwezal.bearinmind.core.config.FileStorageClientConfig;
+import com.kwezal.bearinmind.core.filestorage.FileStorageConfig;
+import com.kwezal.bearinmind.filestorage.api.FileStorageClientApi;
+import java.io.File;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Sends requests to the file storage, at most a configured number at once, so that a slow file storage
+ * cannot occupy all request threads. A request which cannot be sent in time is rejected with 503 Service Unavailable.
+ * Uploads go through a client with a longer timeout, which bounds the transfer of the whole file.
+ * Deletions are idempotent, so they are retried after connection failures and server errors.
+ */
+@Slf4j
+@Component
+class FileStorageClient {
+
+    private final FileStorageClientApi fileStorageClientApi;
+    private final FileStorageClientApi uploadClientApi;
+    private final FileStorageConfig fileStorageConfig;
+    private final Semaphore bulkhead;
+
+    FileStorageClient(
+        final FileStorageClientApi fileStorageClientApi,
+        @Qualifier(FileStorageClientConfig.UPLOAD_CLIENT_API) final FileStorageClientApi uploadClientApi,
+        final FileStorageConfig fileStorageConfig
+    ) {
+        this.fileStorageClientApi = fileStorageClientApi;
+        this.uploadClientApi = uploadClientApi;
+        this.fileStorageConfig = fileStorageConfig;
+        this.bulkhead = new Semaphore(fileStorageConfig.getMaxConcurrentRequests(), true);
+    }
+
+    /**
+     * Uploads a file.
+     *
+     * @param file          file to be uploaded
+     * @param fileAssetType asset type
+     * @param identifier    asset identifier
+     * @return URL to the saved file
+     */
+    String upload(final File file, final String fileAssetType, final String identifier) {
+        return withinBulkhead(() -> uploadClientApi.upload(file, fileAssetType, identifier));
+    }
+
+    /**
+     * Deletes the file of a given URL, retrying with a growing delay if the file storage is unavailable.
+     *
+     * @param url file URL
+     */
+    void delete(final String url) {
+        for (var attempt = 1; ; attempt++) {
+            try {
+                withinBulkhead(() -> {
+                    fileStorageClientApi.delete(url);
+                    return null;
+                });
+                return;
+            } catch (ResourceAccessException | HttpServerErrorException e) {
+                if (attempt >= fileStorageConfig.getDeleteMaxAttempts()) {
+                    throw e;
+                }
+
+                log.warn("Attempt {} to delete file '{}' failed, retrying", attempt, url, e);
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    private <T> T withinBulkhead(final Supplier<T> request) {
+        if (!tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent file storage requests");
+        }
+
+        try {
+            return request.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return bulkhead.tryAcquire(fileStorageConfig.getMaxWaitMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void backOff(final int attempt, final RuntimeException cause) {
+        try {
+            Thread.sleep((long) fileStorageConfig.getRetryBackoffMillis() << (attempt - 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -4,29 +4,43 @@ import static java.util.Objects.isNull;
 
 import com.kwezal.bearinmind.core.auth.service.LoggedInUserService;
 import com.kwezal.bearinmind.core.filestorage.ennumeration.FileAssetType;
-import com.kwezal.bearinmind.exception.InvalidRequestDataException;
-import com.kwezal.bearinmind.filestorage.api.FileStorageClientApi;
-import java.io.File;
-import java.io.FileOutputStream;
+import com.kwezal.bearinmind.core.filestorage.ennumeration.ImageDerivative;
+import com.kwezal.bearinmind.filestorage.model.ImageExtension;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.StringUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class FileStorageService {
 
-    private final FileStorageClientApi fileStorageClientApi;
+    private static final String TEMPORARY_FILE_PREFIX = "upload-";
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
+    private final FileStorageClient fileStorageClient;
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileAssetService fileAssetService;
+    private final StoredFileService storedFileService;
     private final FileValidationService fileValidationService;
     private final LoggedInUserService loggedInUserService;
 
     public String uploadImage(final MultipartFile multipartFile, final FileAssetType fileAssetType, final String identifier) {
-        fileValidationService.validateImageHasSupportedExtension(multipartFile);
+        final var extension = fileValidationService.validateImageHasSupportedExtension(multipartFile);
         fileValidationService.validateImageDoesNotExceedSizeLimit(multipartFile, fileAssetType, identifier);
         fileValidationService.validateUserHasWritePermissionToFile(
             loggedInUserService.getLoggedInUserId(),
@@ -34,37 +48,158 @@ public class FileStorageService {
             identifier
         );
 
-        final var file = getFile(multipartFile);
-        final var fileUrl = fileStorageClientApi.upload(file, fileAssetType.name(), identifier);
-        file.deleteOnExit();
-        return fileUrl;
+        final var id = fileValidationService.getLongIdentifier(identifier);
+        final var file = createTemporaryFile(multipartFile, extension);
+        try {
+            final var maxEdges = imageDerivativeService.getMaxEdges(fileAssetType);
+            final var urls = storedFileService
+                .acquire(file.contentHash(), maxEdges)
+                .orElseGet(() -> storeImage(file, maxEdges, fileAssetType, identifier));
+            updateImage(fileAssetType, id, urls);
+            return urls.get(ImageDerivative.FULL);
+        } finally {
+            deleteTemporaryFile(file.path());
+        }
     }
 
-    private File getFile(final MultipartFile multipartFile) {
-        final var filename = getFilename(multipartFile);
-        final var file = new File(filename);
-        try (OutputStream os = new FileOutputStream(file)) {
-            os.write(multipartFile.getBytes());
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * Points the image of an asset to given derivatives, to which a reference has just been taken,
+     * and deletes the files of the previous image if no other asset references them.
+     * If the asset cannot be updated, the reference to the new derivatives is released.
+     */
+    private void updateImage(final FileAssetType fileAssetType, final long id, final Map<ImageDerivative, String> urls) {
+        final List<String> unreferencedUrls;
+        try {
+            unreferencedUrls = fileAssetService.updateImage(fileAssetType, id, urls);
+        } catch (RuntimeException e) {
+            storedFileService.release(urls.get(ImageDerivative.FULL)).forEach(this::deleteQuietly);
+            throw e;
+        }
+        unreferencedUrls.forEach(this::deleteQuietly);
+    }
+
+    /**
+     * Creates derivatives of an image, uploads them and indexes them by the image content.
+     * If identical content has been indexed in the meantime, the uploaded derivatives are deleted
+     * and the indexed ones are used instead.
+     *
+     * @param file          original image
+     * @param maxEdges      maximum edges of derivatives
+     * @param fileAssetType asset type
+     * @param identifier    asset identifier
+     * @return URLs of stored derivatives
+     */
+    private Map<ImageDerivative, String> storeImage(
+        final TemporaryFile file,
+        final String maxEdges,
+        final FileAssetType fileAssetType,
+        final String identifier
+    ) {
+        final var derivatives = imageDerivativeService.createDerivatives(file.path(), fileAssetType);
+        final Map<ImageDerivative, String> urls;
+        try {
+            urls = uploadDerivatives(derivatives, fileAssetType, identifier);
+        } finally {
+            derivatives.values().forEach(this::deleteTemporaryFile);
+        }
+
+        try {
+            storedFileService.register(file.contentHash(), maxEdges, urls);
+            return urls;
+        } catch (DataIntegrityViolationException e) {
+            urls.values().forEach(this::deleteQuietly);
+            return storedFileService.acquire(file.contentHash(), maxEdges).orElseThrow(() -> e);
         }
-        return file;
     }
 
-    private String getFilename(final MultipartFile multipartFile) {
-        if (isNull(multipartFile.getOriginalFilename())) {
-            throw new InvalidRequestDataException(
-                MultipartFile.class,
-                Map.of("filename", Objects.toString(multipartFile.getOriginalFilename()))
+    /**
+     * Uploads all derivatives of an image. If any upload fails, the derivatives uploaded so far are deleted.
+     *
+     * @param derivatives   paths to derivative files
+     * @param fileAssetType asset type
+     * @param identifier    asset identifier
+     * @return URLs of uploaded derivatives
+     */
+    private Map<ImageDerivative, String> uploadDerivatives(
+        final Map<ImageDerivative, Path> derivatives,
+        final FileAssetType fileAssetType,
+        final String identifier
+    ) {
+        final var urls = new EnumMap<ImageDerivative, String>(ImageDerivative.class);
+        try {
+            derivatives.forEach((derivative, path) ->
+                urls.put(derivative, fileStorageClient.upload(path.toFile(), fileAssetType.name(), identifier))
             );
+            return urls;
+        } catch (RuntimeException e) {
+            urls.values().forEach(this::deleteQuietly);
+            throw e;
         }
-        return (
-            Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) +
-            StringUtils.right(multipartFile.getOriginalFilename(), 4)
-        );
     }
 
-    public void delete(final String url) {
-        fileStorageClientApi.delete(url);
+    private void deleteQuietly(final String url) {
+        try {
+            fileStorageClient.delete(url);
+        } catch (RuntimeException e) {
+            log.warn("Could not delete unreferenced file '{}'", url, e);
+        }
     }
+
+    /**
+     * Streams the content of a multipart file to a new temporary file, so that it is never fully loaded into memory,
+     * and computes the digest of the content on the way.
+     *
+     * @param multipartFile multipart file
+     * @param extension     validated extension of the file, used as the suffix instead of the client-supplied name
+     * @return temporary file, which must be deleted by the caller
+     */
+    private TemporaryFile createTemporaryFile(final MultipartFile multipartFile, final ImageExtension extension) {
+        Path file = null;
+        try {
+            file = Files.createTempFile(TEMPORARY_FILE_PREFIX, extension.getValue());
+            final var digest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+            try (final var input = new DigestInputStream(multipartFile.getInputStream(), digest)) {
+                Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new TemporaryFile(file, HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException e) {
+            deleteTemporaryFile(file);
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            deleteTemporaryFile(file);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteTemporaryFile(final Path file) {
+        if (isNull(file)) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", file, e);
+        }
+    }
+
+    /**
+     * Removes the image of an asset. Its files are deleted from the file storage only when no other asset references them,
+     * as identical uploads share files.
+     *
+     * @param fileAssetType asset type
+     * @param identifier    asset identifier
+     */
+    public void deleteImage(final FileAssetType fileAssetType, final String identifier) {
+        fileValidationService.validateUserHasWritePermissionToFile(
+            loggedInUserService.getLoggedInUserId(),
+            fileAssetType,
+            identifier
+        );
+
+        final var id = fileValidationService.getLongIdentifier(identifier);
+        fileAssetService.clearImage(fileAssetType, id).forEach(this::deleteQuietly);
+    }
+
+    private record TemporaryFile(Path path, String contentHash) {}
 }
@@ -1,9 +1,11 @@
 package com.kwezal.bearinmind.core.filestorage.service;
 
 import static com.kwezal.bearinmind.core.exception.ErrorCode.FILE_SIZE_LIMIT_EXCEEDED;
+import static java.util.Objects.nonNull;
 
 import com.kwezal.bearinmind.core.course.enumeration.CourseRole;
 import com.kwezal.bearinmind.core.course.repository.CourseUserDataRepository;
+import com.kwezal.bearinmind.core.filestorage.dto.InitiateUploadDto;
 import com.kwezal.bearinmind.core.filestorage.ennumeration.FileAssetType;
 import com.kwezal.bearinmind.core.user.enumeration.UserGroupRole;
 import com.kwezal.bearinmind.core.user.repository.UserGroupMemberRepository;
@@ -11,6 +13,8 @@ import com.kwezal.bearinmind.exception.ForbiddenException;
 import com.kwezal.bearinmind.exception.InvalidRequestDataException;
 import com.kwezal.bearinmind.filestorage.model.ImageExtension;
 import com.kwezal.bearinmind.filestorage.model.ImageLimitSize;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -59,21 +63,59 @@ class FileValidationService {
         }
     }
 
+    /**
+     * Throws exception if a file to be uploaded in chunks exceeds the size limit.
+     *
+     * @param dto       upload details
+     * @param sizeLimit maximum file size in bytes
+     * @throws InvalidRequestDataException if validation fails
+     */
+    void validateUploadDoesNotExceedSizeLimit(final InitiateUploadDto dto, final long sizeLimit) {
+        if (sizeLimit < dto.size()) {
+            throw new InvalidRequestDataException(
+                InitiateUploadDto.class,
+                Map.of("size", dto.size(), "courseLessonId", dto.courseLessonId()),
+                FILE_SIZE_LIMIT_EXCEEDED
+            );
+        }
+    }
+
+    /**
+     * Throws exception if a given file name contains a directory or cannot be used as a file name.
+     *
+     * @param fileName file name
+     * @throws InvalidRequestDataException if validation fails
+     */
+    void validateFileNameHasNoDirectory(final String fileName) {
+        final boolean isPlainFileName;
+        try {
+            final var path = Path.of(fileName).getFileName();
+            isPlainFileName =
+                nonNull(path) && path.toString().equals(fileName) && !".".equals(fileName) && !"..".equals(fileName);
+        } catch (InvalidPathException e) {
+            throw new InvalidRequestDataException(InitiateUploadDto.class, Map.of("fileName", fileName));
+        }
+
+        if (!isPlainFileName) {
+            throw new InvalidRequestDataException(InitiateUploadDto.class, Map.of("fileName", fileName));
+        }
+    }
+
     /**
      * Throws exception if a given image has unsupported extension.
      *
      * @param multipartFile image file
+     * @return supported extension of the image
      * @throws InvalidRequestDataException if validation fails
      */
-    void validateImageHasSupportedExtension(final MultipartFile multipartFile) {
+    ImageExtension validateImageHasSupportedExtension(final MultipartFile multipartFile) {
         final var dot = ".";
         final var extension = dot + StringUtils.substringAfterLast(multipartFile.getOriginalFilename(), dot);
-        final var isAllowedExtension = Stream
+        return Stream
             .of(ImageExtension.values())
-            .anyMatch(imageExtension -> imageExtension.getValue().equals(extension));
-        if (!isAllowedExtension) {
-            throw new InvalidRequestDataException(MultipartFile.class, Map.of("imageExtension", extension));
-        }
+            .filter(imageExtension -> imageExtension.getValue().equals(extension))
+            .findFirst()
+            .orElseThrow(() -> new InvalidRequestDataException(MultipartFile.class, Map.of("imageExtension", extension)));
     }
 
     /**
@@ -107,7 +149,14 @@ class FileValidationService {
         }
     }
 
-    private long getLongIdentifier(final String identifier) {
+    /**
+     * Parses a numeric asset identifier.
+     *
+     * @param identifier asset identifier
+     * @return asset ID
+     * @throws InvalidRequestDataException if the identifier is not a number
+     */
+    long getLongIdentifier(final String identifier) {
         try {
             return Long.parseLong(identifier);
         } catch (NumberFormatException e) {
@@ -0,0 +1,259 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.core.filestorage.FileStorageConfig;
+import com.kwezal.bearinmind.core.filestorage.ennumeration.FileAssetType;
+import com.kwezal.bearinmind.core.filestorage.ennumeration.ImageDerivative;
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import jakarta.annotation.PreDestroy;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Creates resized and re-encoded derivatives of uploaded images on a bounded pool of worker threads,
+ * so that image processing never takes more CPU than configured, however many images are uploaded at once.
+ * An image is decoded once and turned upright according to its EXIF orientation,
+ * and every derivative is scaled down from the next larger one.
+ * Images with transparency are encoded as PNG, all others as JPEG.
+ */
+@Service
+class ImageDerivativeService {
+
+    // Maximum length of the longer edge of every derivative, in pixels
+    private static final Map<FileAssetType, Map<ImageDerivative, Integer>> IMAGE_DERIVATIVE_MAX_EDGE = new EnumMap<>(
+        Map.of(
+            FileAssetType.USER,
+            derivativeMaxEdges(512, 160, 64),
+            FileAssetType.USER_GROUP,
+            derivativeMaxEdges(1024, 320, 64),
+            FileAssetType.COURSE,
+            derivativeMaxEdges(1600, 480, 96),
+            FileAssetType.COURSE_LESSON,
+            derivativeMaxEdges(1600, 480, 96)
+        )
+    );
+
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final String TEMPORARY_FILE_PREFIX = "derivative-";
+
+    private final FileStorageConfig fileStorageConfig;
+    private final ExecutorService executor;
+
+    ImageDerivativeService(final FileStorageConfig fileStorageConfig) {
+        this.fileStorageConfig = fileStorageConfig;
+        final var threads = fileStorageConfig.getImageProcessingThreads();
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(fileStorageConfig.getImageProcessingQueueCapacity()),
+            Thread.ofPlatform().name("image-processing-", 0).daemon().factory()
+        );
+    }
+
+    @PreDestroy
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Creates derivatives of an image in temporary files.
+     * If the worker pool and its queue are full, the request is rejected with 503 Service Unavailable.
+     *
+     * @param image         image file
+     * @param fileAssetType type of the asset the image concerns
+     * @return paths to temporary files with derivatives, which must be deleted by the caller
+     * @throws InvalidRequestDataException if the file is not a readable image or it has too many pixels
+     */
+    Map<ImageDerivative, Path> createDerivatives(final Path image, final FileAssetType fileAssetType) {
+        try {
+            return executor.submit(() -> createDerivativesNow(image, fileAssetType)).get();
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many images are being processed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Image processing was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Describes the dimensions of derivatives of images of a given asset type, e.g. {@code 1600/480/96}.
+     * Images of asset types with equal dimensions have identical derivatives.
+     *
+     * @param fileAssetType asset type
+     * @return maximum edges of all derivatives, from the largest to the smallest one
+     */
+    String getMaxEdges(final FileAssetType fileAssetType) {
+        return IMAGE_DERIVATIVE_MAX_EDGE.get(fileAssetType)
+            .values()
+            .stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining("/"));
+    }
+
+    private Map<ImageDerivative, Path> createDerivativesNow(final Path image, final FileAssetType fileAssetType) {
+        final var maxEdges = IMAGE_DERIVATIVE_MAX_EDGE.get(fileAssetType);
+        final var derivatives = new EnumMap<ImageDerivative, Path>(ImageDerivative.class);
+        try {
+            var scaled = ExifOrientation.apply(read(image), ExifOrientation.read(image));
+            final var hasAlpha = scaled.getColorModel().hasAlpha();
+            // Derivatives are declared from the largest to the smallest one
+            for (final var derivative : ImageDerivative.values()) {
+                scaled = scaleDown(scaled, maxEdges.get(derivative), hasAlpha);
+                derivatives.put(derivative, write(scaled, hasAlpha, derivative));
+            }
+            return derivatives;
+        } catch (IOException e) {
+            derivatives.values().forEach(ImageDerivativeService::deleteQuietly);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            derivatives.values().forEach(ImageDerivativeService::deleteQuietly);
+            throw e;
+        }
+    }
+
+    /**
+     * Decodes an image, checking its dimensions before decoding pixels, so that a small file cannot expand to a huge bitmap.
+     */
+    private BufferedImage read(final Path image) throws IOException {
+        try (final var input = ImageIO.createImageInputStream(image.toFile())) {
+            final var readers = isNull(input) ? null : ImageIO.getImageReaders(input);
+            if (isNull(readers) || !readers.hasNext()) {
+                throw invalidImageException("format", "unsupported");
+            }
+
+            final var reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                final var pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > fileStorageConfig.getImageProcessingMaxPixels()) {
+                    throw invalidImageException("pixels", pixels);
+                }
+                return reader.read(0);
+            } catch (IOException e) {
+                throw invalidImageException("content", "unreadable");
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scales an image down so that its longer edge does not exceed a given length; smaller images are left as they are.
+     * Large reductions are done in steps of at most a half, as bilinear interpolation skips pixels in a single big step.
+     */
+    private static BufferedImage scaleDown(final BufferedImage image, final int maxEdge, final boolean hasAlpha) {
+        final var longerEdge = Math.max(image.getWidth(), image.getHeight());
+        if (longerEdge <= maxEdge) {
+            return image;
+        }
+
+        final var scale = (double) maxEdge / longerEdge;
+        final var targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        final var targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        var scaled = image;
+        do {
+            final var width = Math.max(targetWidth, scaled.getWidth() / 2);
+            final var height = Math.max(targetHeight, scaled.getHeight() / 2);
+            scaled = draw(scaled, width, height, hasAlpha);
+        } while (scaled.getWidth() > targetWidth || scaled.getHeight() > targetHeight);
+
+        return scaled;
+    }
+
+    private static BufferedImage draw(final BufferedImage image, final int width, final int height, final boolean hasAlpha) {
+        final var type = hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        final var result = new BufferedImage(width, height, type);
+        final var graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    private static Path write(final BufferedImage image, final boolean hasAlpha, final ImageDerivative derivative)
+        throws IOException {
+        final var format = hasAlpha ? "png" : "jpg";
+        final var file = Files.createTempFile(TEMPORARY_FILE_PREFIX, "-" + derivative.name().toLowerCase() + "." + format);
+        try {
+            if (hasAlpha) {
+                ImageIO.write(image, "png", file.toFile());
+            } else {
+                writeJpeg(toRgb(image), file);
+            }
+            return file;
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static void writeJpeg(final BufferedImage image, final Path file) throws IOException {
+        final var writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (final var output = ImageIO.createImageOutputStream(file.toFile())) {
+            writer.setOutput(output);
+            final var param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Converts an image which has not been scaled, and so may have any type, to the RGB type the JPEG writer expects.
+     */
+    private static BufferedImage toRgb(final BufferedImage image) {
+        return image.getType() == BufferedImage.TYPE_INT_RGB ? image : draw(image, image.getWidth(), image.getHeight(), false);
+    }
+
+    private static void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // The file is in the temporary directory, which is cleaned up by the system
+        }
+    }
+
+    private static InvalidRequestDataException invalidImageException(final String key, final Object value) {
+        return new InvalidRequestDataException(BufferedImage.class, Map.of(key, value));
+    }
+
+    private static Map<ImageDerivative, Integer> derivativeMaxEdges(final int full, final int card, final int thumbnail) {
+        return new EnumMap<>(
+            Map.of(ImageDerivative.FULL, full, ImageDerivative.CARD, card, ImageDerivative.THUMBNAIL, thumbnail)
+        );
+    }
+}
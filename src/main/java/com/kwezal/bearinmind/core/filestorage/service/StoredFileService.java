@@ -0,0 +1,94 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import com.kwezal.bearinmind.core.filestorage.ennumeration.ImageDerivative;
+import com.kwezal.bearinmind.core.filestorage.model.StoredFile;
+import com.kwezal.bearinmind.core.filestorage.repository.StoredFileRepository;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the index of stored images by content digest, so that identical uploads share files in the file storage.
+ * Every asset whose image points to indexed files holds one reference to them; files are deleted from the file storage
+ * only when the count drops to zero.
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional
+class StoredFileService {
+
+    private final StoredFileRepository storedFileRepository;
+
+    /**
+     * Adds a reference to already stored files of given content.
+     *
+     * @param contentHash hex-encoded SHA-256 digest of the original file
+     * @param maxEdges    maximum edges of derivatives
+     * @return URLs of stored derivatives, empty if such content has not been stored
+     */
+    Optional<Map<ImageDerivative, String>> acquire(final String contentHash, final String maxEdges) {
+        return storedFileRepository
+            .findByContentHashAndMaxEdges(contentHash, maxEdges)
+            .map(storedFile -> {
+                storedFile.setReferenceCount(storedFile.getReferenceCount() + 1);
+                return getUrls(storedFile);
+            });
+    }
+
+    /**
+     * Indexes newly stored files of given content with a single reference.
+     *
+     * @param contentHash hex-encoded SHA-256 digest of the original file
+     * @param maxEdges    maximum edges of derivatives
+     * @param urls        URLs of stored derivatives
+     * @throws DataIntegrityViolationException if files of the same content have been indexed in the meantime
+     */
+    void register(final String contentHash, final String maxEdges, final Map<ImageDerivative, String> urls) {
+        storedFileRepository.saveAndFlush(
+            StoredFile.builder()
+                .contentHash(contentHash)
+                .maxEdges(maxEdges)
+                .url(urls.get(ImageDerivative.FULL))
+                .cardUrl(urls.get(ImageDerivative.CARD))
+                .thumbnailUrl(urls.get(ImageDerivative.THUMBNAIL))
+                .referenceCount(1)
+                .build()
+        );
+    }
+
+    /**
+     * Removes a reference to the stored files which include a file of a given URL.
+     *
+     * @param url file URL
+     * @return URLs of files which are no longer referenced and have to be deleted from the file storage;
+     * a file which is not indexed is returned as it is
+     */
+    List<String> release(final String url) {
+        final var storedFile = storedFileRepository.findFirstByUrlOrCardUrlOrThumbnailUrl(url, url, url);
+        if (storedFile.isEmpty()) {
+            return List.of(url);
+        }
+
+        final var file = storedFile.get();
+        if (file.getReferenceCount() > 1) {
+            file.setReferenceCount(file.getReferenceCount() - 1);
+            return List.of();
+        }
+
+        storedFileRepository.delete(file);
+        return List.copyOf(getUrls(file).values());
+    }
+
+    private static Map<ImageDerivative, String> getUrls(final StoredFile storedFile) {
+        final var urls = new EnumMap<ImageDerivative, String>(ImageDerivative.class);
+        urls.put(ImageDerivative.FULL, storedFile.getUrl());
+        urls.put(ImageDerivative.CARD, storedFile.getCardUrl());
+        urls.put(ImageDerivative.THUMBNAIL, storedFile.getThumbnailUrl());
+        return urls;
+    }
+}
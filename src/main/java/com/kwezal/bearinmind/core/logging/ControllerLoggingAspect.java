@@ -1,22 +1,43 @@
 package com.kwezal.bearinmind.core.logging;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
+import com.kwezal.bearinmind.core.utils.LoggingUtils;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
-
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Logs requests handled by controllers annotated with {@link ControllerLogging}.
+ * Method and path of every endpoint are resolved once, when the application context is refreshed,
+ * and arguments and returned values are formatted only if a request is actually logged.
+ * Only a configured fraction of requests is logged, and large values are summarized rather than fully serialized.
+ */
 @Aspect
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class ControllerLoggingAspect {
 
@@ -26,50 +47,105 @@ public class ControllerLoggingAspect {
     private static final String REQUEST_SUCCESS_WITHOUT_VALUE = "Request '{} {}' completed successfully";
     private static final String REQUEST_SUCCESS_WITH_VALUE = "Request '{} {}' successfully returned '{}'";
 
-    @Before("@within(com.kwezal.bearinmind.core.logging.ControllerLogging)")
-    public void logRequestStart(JoinPoint joinPoint) {
-        if (joinPoint.getSignature() instanceof MethodSignature methodSignature) {
-            final var controllerPath = getControllerBasePath(joinPoint);
-            final var endpointPath = getEndpointPath(methodSignature);
-            final var absoluteEndpointPath = controllerPath + endpointPath.path;
-            final var arguments = getArguments(joinPoint, methodSignature);
-
-            if (arguments.isEmpty()) {
-                log.info(PROCESSING_REQUEST_WITHOUT_ARGUMENTS, endpointPath.method, absoluteEndpointPath);
-            } else {
-                log.info(PROCESSING_REQUEST_WITH_ARGUMENTS, endpointPath.method, absoluteEndpointPath, arguments);
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    private final ControllerLoggingConfig controllerLoggingConfig;
+
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void registerHandlerMethods(final ContextRefreshedEvent event) {
+        event
+            .getApplicationContext()
+            .getBeansOfType(RequestMappingHandlerMapping.class)
+            .values()
+            .forEach(handlerMapping -> registerHandlerMethods(handlerMapping.getHandlerMethods().values()));
+    }
+
+    /**
+     * Resolves endpoints of given handler methods which belong to controllers annotated with {@link ControllerLogging}.
+     *
+     * @param handlerMethods handler methods
+     */
+    public void registerHandlerMethods(final Collection<HandlerMethod> handlerMethods) {
+        for (final var handlerMethod : handlerMethods) {
+            final var controllerLogging = AnnotatedElementUtils.findMergedAnnotation(
+                handlerMethod.getBeanType(),
+                ControllerLogging.class
+            );
+            if (nonNull(controllerLogging)) {
+                endpoints.computeIfAbsent(handlerMethod.getMethod(), method -> createEndpoint(controllerLogging, method));
             }
         }
     }
 
-    @AfterReturning(value = "@within(com.kwezal.bearinmind.core.logging.ControllerLogging)", returning = "value")
-    public void logRequestSuccess(JoinPoint joinPoint, Object value) {
-        if (joinPoint.getSignature() instanceof MethodSignature methodSignature) {
-            final var controllerPath = getControllerBasePath(joinPoint);
-            final var endpointPath = getEndpointPath(methodSignature);
+    @Around("@within(com.kwezal.bearinmind.core.logging.ControllerLogging)")
+    public Object logRequest(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!log.isInfoEnabled() || !isSampled() || !(joinPoint.getSignature() instanceof MethodSignature methodSignature)) {
+            return joinPoint.proceed();
+        }
 
-            if (isNull(value)) {
-                log.info(REQUEST_SUCCESS_WITHOUT_VALUE, endpointPath.method, controllerPath + endpointPath.path);
-            } else {
-                log.info(REQUEST_SUCCESS_WITH_VALUE, endpointPath.method, controllerPath + endpointPath.path, value);
-            }
+        final var endpoint = getEndpoint(joinPoint, methodSignature.getMethod());
+        final var args = joinPoint.getArgs();
+        if (args.length == 0) {
+            log.info(PROCESSING_REQUEST_WITHOUT_ARGUMENTS, endpoint.method(), endpoint.path());
+        } else {
+            log.info(PROCESSING_REQUEST_WITH_ARGUMENTS, endpoint.method(), endpoint.path(), formatArguments(endpoint, args));
+        }
+
+        final var value = joinPoint.proceed();
+
+        if (isNull(value)) {
+            log.info(REQUEST_SUCCESS_WITHOUT_VALUE, endpoint.method(), endpoint.path());
+        } else {
+            log.info(
+                REQUEST_SUCCESS_WITH_VALUE,
+                endpoint.method(),
+                endpoint.path(),
+                LoggingUtils.summarize(value, controllerLoggingConfig.getMaxValueLength())
+            );
         }
+
+        return value;
     }
 
-    private String getControllerBasePath(JoinPoint joinPoint) {
-        for (final var annotation : joinPoint.getTarget().getClass().getAnnotations()) {
-            if (annotation instanceof ControllerLogging controllerLogging) {
-                return controllerLogging.value();
-            }
+    private boolean isSampled() {
+        final double samplingRate = controllerLoggingConfig.getSamplingRate();
+        return samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    private Endpoint getEndpoint(final ProceedingJoinPoint joinPoint, final Method method) {
+        return endpoints.computeIfAbsent(method, key -> {
+            final var controllerLogging = AnnotatedElementUtils.findMergedAnnotation(
+                joinPoint.getTarget().getClass(),
+                ControllerLogging.class
+            );
+            return createEndpoint(controllerLogging, key);
+        });
+    }
+
+    private String formatArguments(final Endpoint endpoint, final Object[] args) {
+        final var maxValueLength = controllerLoggingConfig.getMaxValueLength();
+        final var joiner = new StringJoiner(", ");
+        for (var i = 0; i < args.length; i++) {
+            joiner.add(endpoint.parameterNames()[i] + "=" + LoggingUtils.summarize(args[i], maxValueLength));
         }
 
-        return "";
+        return joiner.toString();
+    }
+
+    private record Endpoint(String method, String path, String[] parameterNames) {}
+
+    private static Endpoint createEndpoint(final ControllerLogging controllerLogging, final Method method) {
+        final var controllerPath = isNull(controllerLogging) ? "" : controllerLogging.value();
+        final var endpointPath = getEndpointPath(method);
+        return new Endpoint(endpointPath.method(), controllerPath + endpointPath.path(), getParameterNames(method));
     }
 
     private record EndpointMethodAndPath(String method, String path) {}
 
-    private EndpointMethodAndPath getEndpointPath(MethodSignature methodSignature) {
-        for (final var annotation : methodSignature.getMethod().getAnnotations()) {
+    private static EndpointMethodAndPath getEndpointPath(final Method method) {
+        for (final var annotation : method.getAnnotations()) {
             if (annotation instanceof GetMapping mapping) {
                 return new EndpointMethodAndPath("GET", getMappingPath(mapping.value()));
             } else if (annotation instanceof PostMapping mapping) {
@@ -84,18 +160,21 @@ public class ControllerLoggingAspect {
         return new EndpointMethodAndPath("", "");
     }
 
-    private String getMappingPath(String[] mappingValue) {
+    private static String getMappingPath(final String[] mappingValue) {
         return mappingValue.length == 0 ? "" : mappingValue[0];
     }
 
-    private String getArguments(JoinPoint joinPoint, MethodSignature methodSignature) {
-        final var params = methodSignature.getParameterNames();
-        final var args = joinPoint.getArgs();
-        final var joiner = new StringJoiner(", ");
-        for (var i = 0; i < params.length; i++) {
-            joiner.add(params[i] + "=" + args[i]);
+    private static String[] getParameterNames(final Method method) {
+        final var parameterNames = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+        if (nonNull(parameterNames)) {
+            return parameterNames;
         }
 
-        return joiner.toString();
+        final var parameters = method.getParameters();
+        final var names = new String[parameters.length];
+        for (var i = 0; i < parameters.length; i++) {
+            names[i] = parameters[i].getName();
+        }
+        return names;
     }
 }
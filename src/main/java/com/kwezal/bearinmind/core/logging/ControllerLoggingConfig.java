@@ -0,0 +1,16 @@
+package com.kwezal.bearinmind.core.logging;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+public class ControllerLoggingConfig {
+
+    @Value("${application.logging.controller.sampling-rate}")
+    private Double samplingRate;
+
+    @Value("${application.logging.controller.max-value-length}")
+    private Integer maxValueLength;
+}
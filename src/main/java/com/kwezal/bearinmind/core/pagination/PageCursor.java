@@ -0,0 +1,66 @@
+package com.kwezal.bearinmind.core.pagination;
+
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.core.exception.ErrorCode;
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import jakarta.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Position in a list sorted descending by a sort key and then by ID.
+ * The next page contains items that come strictly after the position, so the position itself is never repeated.
+ *
+ * @param sortKey sort key of the last item on the previous page
+ * @param id      ID of the last item on the previous page
+ */
+public record PageCursor(OffsetDateTime sortKey, Long id) {
+    /**
+     * Position before the first item of any list.
+     */
+    public static final PageCursor FIRST = new PageCursor(
+        OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC),
+        Long.MAX_VALUE
+    );
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Decodes an opaque continuation token.
+     *
+     * @param token continuation token returned with the previous page or {@code null} for the first page
+     * @return decoded position
+     * @throws InvalidRequestDataException if the token is malformed
+     */
+    public static PageCursor decode(@Nullable final String token) {
+        if (isNull(token)) {
+            return FIRST;
+        }
+
+        try {
+            final var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final var separatorIndex = value.indexOf(SEPARATOR);
+            final var sortKey = Instant.parse(value.substring(0, separatorIndex)).atOffset(ZoneOffset.UTC);
+            final var id = Long.valueOf(value.substring(separatorIndex + 1));
+            return new PageCursor(sortKey, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestDataException(PageCursor.class, Map.of("cursor", token), ErrorCode.INVALID_PAGE_CURSOR);
+        }
+    }
+
+    /**
+     * Encodes the position as an opaque continuation token.
+     *
+     * @return continuation token
+     */
+    public String encode() {
+        final var value = sortKey.toInstant() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
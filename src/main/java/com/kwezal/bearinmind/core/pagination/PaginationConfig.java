@@ -0,0 +1,16 @@
+package com.kwezal.bearinmind.core.pagination;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+public class PaginationConfig {
+
+    @Value("${application.pagination.total-elements-cache.expire-after-write-seconds}")
+    private Integer totalElementsCacheExpireAfterWriteSeconds;
+
+    @Value("${application.pagination.total-elements-cache.maximum-size}")
+    private Long totalElementsCacheMaximumSize;
+}
@@ -0,0 +1,6 @@
+package com.kwezal.bearinmind.core.pagination.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public record CursorPageDto<T>(@NotNull List<T> content, String nextCursor) {}
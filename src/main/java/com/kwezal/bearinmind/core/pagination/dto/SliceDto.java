@@ -0,0 +1,30 @@
+package com.kwezal.bearinmind.core.pagination.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page of items that does not require counting all items of a list.
+ *
+ * @param content                  items on the page
+ * @param number                   page number
+ * @param size                     requested page size
+ * @param hasNext                  whether there is a next page
+ * @param approximateTotalElements number of all items in the list, possibly a few seconds stale, if requested
+ */
+public record SliceDto<T>(
+    @NotNull List<T> content,
+
+    int number,
+
+    int size,
+
+    boolean hasNext,
+
+    Long approximateTotalElements
+) {
+    public <R> SliceDto<R> map(final Function<? super T, ? extends R> mapper) {
+        return new SliceDto<>(content.stream().<R>map(mapper).toList(), number, size, hasNext, approximateTotalElements);
+    }
+}
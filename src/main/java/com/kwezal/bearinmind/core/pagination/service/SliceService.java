@@ -0,0 +1,76 @@
+package com.kwezal.bearinmind.core.pagination.service;
+
+import static java.util.Objects.nonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kwezal.bearinmind.core.pagination.PaginationConfig;
+import com.kwezal.bearinmind.core.pagination.dto.SliceDto;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+/**
+ * Finds slices of lists without counting their items.
+ * Total numbers of items are counted only on request and then cached per user and list for a short time,
+ * so clients that display totals and page through a list trigger a single count query.
+ */
+@Service
+public class SliceService {
+
+    private final Cache<TotalElementsKey, Long> totalElementsCache;
+
+    public SliceService(final PaginationConfig paginationConfig) {
+        totalElementsCache = Caffeine
+            .newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(paginationConfig.getTotalElementsCacheExpireAfterWriteSeconds()))
+            .maximumSize(paginationConfig.getTotalElementsCacheMaximumSize())
+            .build();
+    }
+
+    /**
+     * Finds a slice of a list.
+     *
+     * @param listName   name of the list, unique among all lists of a single user
+     * @param userId     ID of the user the list belongs to
+     * @param pageNumber page to be returned
+     * @param pageSize   number of items to be returned
+     * @param withTotal  whether the approximate number of all items should be returned
+     * @param findSlice  function that finds a slice of the list
+     * @param findPage   function that finds a page of the list along with the number of all items
+     * @return list slice
+     */
+    public <T> SliceDto<T> findSlice(
+        final String listName,
+        final Long userId,
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal,
+        final Function<Pageable, Slice<T>> findSlice,
+        final Function<Pageable, Page<T>> findPage
+    ) {
+        final var pageable = Pageable.ofSize(pageSize).withPage(pageNumber);
+        if (!withTotal) {
+            return mapToSliceDto(findSlice.apply(pageable), null);
+        }
+
+        final var key = new TotalElementsKey(listName, userId);
+        final var totalElements = totalElementsCache.getIfPresent(key);
+        if (nonNull(totalElements)) {
+            return mapToSliceDto(findSlice.apply(pageable), totalElements);
+        }
+
+        final var page = findPage.apply(pageable);
+        totalElementsCache.put(key, page.getTotalElements());
+        return mapToSliceDto(page, page.getTotalElements());
+    }
+
+    private static <T> SliceDto<T> mapToSliceDto(final Slice<T> slice, final Long totalElements) {
+        return new SliceDto<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), totalElements);
+    }
+
+    private record TotalElementsKey(String listName, Long userId) {}
+}
@@ -0,0 +1,16 @@
+package com.kwezal.bearinmind.core.statistics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records every SQL statement prepared by Hibernate in {@link RequestStatistics} of the current request.
+ * Statements are recorded with parameter placeholders, so executions of the same query with different values share a shape.
+ */
+public class RequestStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(final String sql) {
+        RequestStatistics.statementPrepared(sql);
+        return sql;
+    }
+}
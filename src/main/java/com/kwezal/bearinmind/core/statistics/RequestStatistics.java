@@ -0,0 +1,85 @@
+package com.kwezal.bearinmind.core.statistics;
+
+import static java.util.Objects.nonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Database work done while handling a single request.
+ * Statistics are collected for the thread that handles the request, between {@link #start()} and {@link #finish()}.
+ * Only work done through Hibernate is counted; statements executed directly with {@code JdbcTemplate},
+ * such as bulk inserts of translations, are not.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private int entityLoadCount;
+    private int collectionFetchCount;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> statementShapeCounts = new HashMap<>();
+
+    /**
+     * Starts collecting statistics for the current thread.
+     */
+    public static void start() {
+        CURRENT.set(new RequestStatistics());
+    }
+
+    /**
+     * Stops collecting statistics for the current thread.
+     *
+     * @return statistics collected since {@link #start()}, null if collecting was not started
+     */
+    public static RequestStatistics finish() {
+        final var statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    static void statementPrepared(final String sql) {
+        final var statistics = CURRENT.get();
+        if (nonNull(statistics)) {
+            statistics.statementCount++;
+            statistics.statementShapeCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void entityLoaded() {
+        final var statistics = CURRENT.get();
+        if (nonNull(statistics)) {
+            statistics.entityLoadCount++;
+        }
+    }
+
+    static void collectionFetched() {
+        final var statistics = CURRENT.get();
+        if (nonNull(statistics)) {
+            statistics.collectionFetchCount++;
+        }
+    }
+
+    /**
+     * Finds statements that were executed more times than a given threshold.
+     *
+     * @param threshold maximum number of executions of the same statement
+     * @return numbers of executions of repeated statements mapped by their SQL
+     */
+    public Map<String, Integer> findRepeatedStatements(final int threshold) {
+        final var repeatedStatements = new HashMap<String, Integer>();
+        statementShapeCounts.forEach((sql, count) -> {
+            if (count > threshold) {
+                repeatedStatements.put(sql, count);
+            }
+        });
+        return repeatedStatements;
+    }
+}
@@ -0,0 +1,13 @@
+package com.kwezal.bearinmind.core.statistics;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+public class RequestStatisticsConfig {
+
+    @Value("${application.request-statistics.repeated-statement-threshold}")
+    private Integer repeatedStatementThreshold;
+}
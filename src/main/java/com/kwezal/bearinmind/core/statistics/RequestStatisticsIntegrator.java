@@ -0,0 +1,45 @@
+package com.kwezal.bearinmind.core.statistics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+
+/**
+ * Records entity loads and collection initializations in {@link RequestStatistics} of the current request
+ * by listening to Hibernate events, so that the statistics rely on the event SPI rather than on internal classes.
+ * Registered through {@code META-INF/services}.
+ */
+public class RequestStatisticsIntegrator implements Integrator {
+
+    @Override
+    public void integrate(
+        final Metadata metadata,
+        final BootstrapContext bootstrapContext,
+        final SessionFactoryImplementor sessionFactory
+    ) {
+        final var eventListenerRegistry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+        eventListenerRegistry.appendListeners(
+            EventType.POST_LOAD,
+            (PostLoadEventListener) RequestStatisticsIntegrator::onPostLoad
+        );
+        eventListenerRegistry.appendListeners(
+            EventType.INIT_COLLECTION,
+            (InitializeCollectionEventListener) RequestStatisticsIntegrator::onInitializeCollection
+        );
+    }
+
+    private static void onPostLoad(final PostLoadEvent event) {
+        RequestStatistics.entityLoaded();
+    }
+
+    private static void onInitializeCollection(final InitializeCollectionEvent event) {
+        RequestStatistics.collectionFetched();
+    }
+}
@@ -0,0 +1,71 @@
+package com.kwezal.bearinmind.core.statistics;
+
+import static java.util.Objects.isNull;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Collects {@link RequestStatistics} for every handled request and publishes them as distribution summaries
+ * tagged by HTTP method and route template. Statements executed with {@code JdbcTemplate} are not included.
+ * A warning is logged when a request executes the same statement more times than configured,
+ * which usually means that a lazy association is loaded separately for every item of a list.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestStatisticsInterceptor implements HandlerInterceptor {
+
+    private static final String REPEATED_STATEMENT = "Request '{} {}' executed the same statement {} times: {}";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final RequestStatisticsConfig requestStatisticsConfig;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(
+        @NonNull final HttpServletRequest request,
+        @NonNull final HttpServletResponse response,
+        @NonNull final Object handler
+    ) {
+        RequestStatistics.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+        @NonNull final HttpServletRequest request,
+        @NonNull final HttpServletResponse response,
+        @NonNull final Object handler,
+        final Exception ex
+    ) {
+        final var statistics = RequestStatistics.finish();
+        if (isNull(statistics)) {
+            return;
+        }
+
+        final var method = request.getMethod();
+        final var uriAttribute = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        final var uri = isNull(uriAttribute) ? UNKNOWN_URI : uriAttribute.toString();
+
+        recordSummary(method, uri, "hibernate.request.statements", statistics.getStatementCount());
+        recordSummary(method, uri, "hibernate.request.entities.loaded", statistics.getEntityLoadCount());
+        recordSummary(method, uri, "hibernate.request.collections.fetched", statistics.getCollectionFetchCount());
+
+        statistics
+            .findRepeatedStatements(requestStatisticsConfig.getRepeatedStatementThreshold())
+            .forEach((sql, count) -> log.warn(REPEATED_STATEMENT, method, uri, count, sql));
+    }
+
+    private void recordSummary(final String method, final String uri, final String name, final int value) {
+        DistributionSummary.builder(name).tag("method", method).tag("uri", uri).register(meterRegistry).record(value);
+    }
+}
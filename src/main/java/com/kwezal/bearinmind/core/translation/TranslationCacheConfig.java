@@ -0,0 +1,16 @@
+package com.kwezal.bearinmind.core.translation;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+public class TranslationCacheConfig {
+
+    @Value("${application.translation-cache.expire-after-write-seconds}")
+    private Integer expireAfterWriteSeconds;
+
+    @Value("${application.translation-cache.maximum-size}")
+    private Long maximumSize;
+}
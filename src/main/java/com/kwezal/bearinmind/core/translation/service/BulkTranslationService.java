@@ -0,0 +1,64 @@
+package com.kwezal.bearinmind.core.translation.service;
+
+import com.kwezal.bearinmind.translation.model.Translation;
+import com.kwezal.bearinmind.translation.repository.TranslationRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Creates translations of many texts at once.
+ * Translations are saved through {@link TranslationRepository} of the translations library together,
+ * so Hibernate inserts them in JDBC batches and the number of round trips depends on the number of batches
+ * rather than the number of texts.
+ * <p>
+ * The library has no method which allocates identifiers for many texts, so all of them are drawn from its
+ * {@value #IDENTIFIER_SEQUENCE} sequence with a single query. This is the only place which relies on the library's schema.
+ */
+@RequiredArgsConstructor
+@Service
+public class BulkTranslationService {
+
+    private static final String IDENTIFIER_SEQUENCE = "translations_identifier_seq";
+
+    private static final String ALLOCATE_IDENTIFIERS_SQL =
+        "SELECT nextval('" + IDENTIFIER_SEQUENCE + "') FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TranslationRepository translationRepository;
+
+    /**
+     * Creates translations of all texts of a given batch and assigns their identifiers to the batch.
+     *
+     * @param batch texts to translate
+     * @return translation identifiers in the order in which texts were added, null for texts without translations
+     */
+    @Transactional
+    public List<Integer> create(final TranslationBatch batch) {
+        final var texts = batch.getTexts();
+        final var translatedTextCount = (int) texts.stream().filter(text -> !text.isEmpty()).count();
+        final var allocatedIdentifiers = translatedTextCount > 0
+            ? jdbcTemplate.queryForList(ALLOCATE_IDENTIFIERS_SQL, Integer.class, translatedTextCount).iterator()
+            : List.<Integer>of().iterator();
+
+        final var identifiers = new ArrayList<Integer>(texts.size());
+        final var translations = new ArrayList<Translation>();
+        for (final var text : texts) {
+            if (text.isEmpty()) {
+                identifiers.add(null);
+            } else {
+                final var identifier = allocatedIdentifiers.next();
+                identifiers.add(identifier);
+                text.forEach((locale, value) -> translations.add(new Translation(null, identifier, locale, value)));
+            }
+        }
+
+        translationRepository.saveAll(translations);
+
+        batch.setIdentifiers(identifiers);
+        return identifiers;
+    }
+}
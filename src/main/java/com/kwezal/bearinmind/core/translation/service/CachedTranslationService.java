@@ -0,0 +1,92 @@
+package com.kwezal.bearinmind.core.translation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kwezal.bearinmind.core.translation.TranslationCacheConfig;
+import com.kwezal.bearinmind.translation.service.TranslationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Finds single translations, such as user group names, through a bounded cache of texts keyed by translation identifier
+ * and locale. Services which change translations read through this cache must {@link #invalidate(Collection) invalidate}
+ * their identifiers. Course and lesson texts are translated in the queries which load them, so they do not pass through it.
+ * Hit and miss counts are published as metrics of the {@value #CACHE_NAME} cache.
+ */
+@Service
+public class CachedTranslationService {
+
+    private static final String CACHE_NAME = "translations";
+
+    private final TranslationService translationService;
+    private final Cache<TranslationKey, String> translationCache;
+
+    public CachedTranslationService(
+        final TranslationService translationService,
+        final TranslationCacheConfig translationCacheConfig,
+        final MeterRegistry meterRegistry
+    ) {
+        this.translationService = translationService;
+        translationCache = Caffeine
+            .newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(translationCacheConfig.getExpireAfterWriteSeconds()))
+            .maximumSize(translationCacheConfig.getMaximumSize())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, translationCache, CACHE_NAME);
+    }
+
+    /**
+     * Finds the text of a translation with a given identifier in a given locale.
+     *
+     * @param identifier translation identifier
+     * @param locale     locale
+     * @return text
+     */
+    public String findTextByIdentifierAndLocale(final Integer identifier, final String locale) {
+        return translationCache.get(new TranslationKey(identifier, locale), key ->
+            translationService.findTextByIdentifierAndLocale(identifier, locale)
+        );
+    }
+
+    /**
+     * Removes translations with given identifiers in all locales from the cache.
+     * Inside a transaction, translations are removed after the transaction is committed,
+     * so that the cache is not refilled with texts that are about to change.
+     *
+     * @param identifiers translation identifiers
+     */
+    public void invalidate(final Collection<Integer> identifiers) {
+        final var invalidatedIdentifiers = identifiers.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (invalidatedIdentifiers.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        removeAll(invalidatedIdentifiers);
+                    }
+                }
+            );
+        } else {
+            removeAll(invalidatedIdentifiers);
+        }
+    }
+
+    private void removeAll(final Set<Integer> identifiers) {
+        translationCache.asMap().keySet().removeIf(key -> identifiers.contains(key.identifier()));
+    }
+
+    private record TranslationKey(Integer identifier, String locale) {}
+}
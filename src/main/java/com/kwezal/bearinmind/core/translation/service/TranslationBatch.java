@@ -0,0 +1,88 @@
+package com.kwezal.bearinmind.core.translation.service;
+
+import static com.kwezal.bearinmind.core.utils.CollectionUtils.swapMapKeys;
+import static java.util.Objects.isNull;
+
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import com.kwezal.bearinmind.translation.model.Translation;
+import jakarta.annotation.Nullable;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Texts which are collected up front and translated at once by {@link BulkTranslationService#create(TranslationBatch)}.
+ * Every added text yields a supplier of its translation identifier which can be used after the batch is created.
+ * The identifier is null if the text is blank in all locales.
+ */
+public class TranslationBatch {
+
+    private final List<Map<String, String>> texts = new ArrayList<>();
+    private List<Integer> identifiers;
+
+    /**
+     * Adds a text in multiple locales.
+     *
+     * @param text mapping of locale to text
+     * @return supplier of the translation identifier
+     */
+    public Supplier<Integer> add(final @Nullable Map<String, String> text) {
+        final var index = texts.size();
+        texts.add(
+            isNull(text)
+                ? Map.of()
+                : text
+                    .entrySet()
+                    .stream()
+                    .filter(entry -> StringUtils.isNotBlank(entry.getValue()))
+                    .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue))
+        );
+        return () -> getIdentifier(index);
+    }
+
+    /**
+     * Adds texts of multiple fields in multiple locales.
+     *
+     * @param translations mapping of locale to field texts
+     * @param requiredKeys keys of fields which must have a text in at least one locale
+     * @param optionalKeys keys of fields which may have no text
+     * @return mapping of field key to the supplier of its translation identifier
+     * @throws InvalidRequestDataException if a required field has no text
+     */
+    public Map<String, Supplier<Integer>> addFields(
+        final Map<String, Map<String, String>> translations,
+        final Set<String> requiredKeys,
+        final Set<String> optionalKeys
+    ) {
+        final var fieldTexts = swapMapKeys(translations);
+        final var fieldIdentifiers = new HashMap<String, Supplier<Integer>>();
+        for (final var key : requiredKeys) {
+            final var fieldIdentifier = add(fieldTexts.get(key));
+            if (texts.getLast().isEmpty()) {
+                throw new InvalidRequestDataException(Translation.class, Map.of("key", key));
+            }
+            fieldIdentifiers.put(key, fieldIdentifier);
+        }
+        for (final var key : optionalKeys) {
+            fieldIdentifiers.put(key, add(fieldTexts.get(key)));
+        }
+
+        return fieldIdentifiers;
+    }
+
+    List<Map<String, String>> getTexts() {
+        return Collections.unmodifiableList(texts);
+    }
+
+    void setIdentifiers(final List<Integer> identifiers) {
+        this.identifiers = identifiers;
+    }
+
+    private Integer getIdentifier(final int index) {
+        if (isNull(identifiers)) {
+            throw new IllegalStateException("Translation batch has not been created yet");
+        }
+        return identifiers.get(index);
+    }
+}
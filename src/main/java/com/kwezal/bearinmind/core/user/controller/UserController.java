@@ -1,6 +1,7 @@
 package com.kwezal.bearinmind.core.user.controller;
 
 import com.kwezal.bearinmind.core.logging.ControllerLogging;
+import com.kwezal.bearinmind.core.pagination.dto.SliceDto;
 import com.kwezal.bearinmind.core.user.dto.UpdateUserDto;
 import com.kwezal.bearinmind.core.user.dto.UserListItemDto;
 import com.kwezal.bearinmind.core.user.dto.UserMainViewDto;
@@ -72,6 +73,23 @@ public class UserController {
         return userService.findGroupMemberPage(pageNumber, pageSize);
     }
 
+    /**
+     * Finds a slice of users who are members of at least one common group with the logged-in user, without counting all of them.
+     *
+     * @param pageNumber page to be returned
+     * @param pageSize   number of items to be returned
+     * @param withTotal  whether the approximate number of all items should be returned
+     * @return user slice
+     */
+    @GetMapping("/list/group-members/slice")
+    public SliceDto<@NonNull UserListItemDto> findGroupMemberSlice(
+        @RequestParam @Min(0) Integer pageNumber,
+        @RequestParam @Min(1) @Max(100) Integer pageSize,
+        @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return userService.findGroupMemberSlice(pageNumber, pageSize, withTotal);
+    }
+
     /**
      * Finds a page of users who are students of the logged-in user in at least one course.
      *
@@ -87,6 +105,23 @@ public class UserController {
         return userService.findStudentPage(pageNumber, pageSize);
     }
 
+    /**
+     * Finds a slice of users who are students of the logged-in user in at least one course, without counting all of them.
+     *
+     * @param pageNumber page to be returned
+     * @param pageSize   number of items to be returned
+     * @param withTotal  whether the approximate number of all items should be returned
+     * @return user slice
+     */
+    @GetMapping("/list/students/slice")
+    public SliceDto<@NonNull UserListItemDto> findStudentSlice(
+        @RequestParam @Min(0) Integer pageNumber,
+        @RequestParam @Min(1) @Max(100) Integer pageSize,
+        @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return userService.findStudentSlice(pageNumber, pageSize, withTotal);
+    }
+
     /**
      * Finds a page of users who are teachers of the logged-in user in at least one course.
      *
@@ -101,4 +136,21 @@ public class UserController {
     ) {
         return userService.findTeacherPage(pageNumber, pageSize);
     }
+
+    /**
+     * Finds a slice of users who are teachers of the logged-in user in at least one course, without counting all of them.
+     *
+     * @param pageNumber page to be returned
+     * @param pageSize   number of items to be returned
+     * @param withTotal  whether the approximate number of all items should be returned
+     * @return user slice
+     */
+    @GetMapping("/list/teachers/slice")
+    public SliceDto<@NonNull UserListItemDto> findTeacherSlice(
+        @RequestParam @Min(0) Integer pageNumber,
+        @RequestParam @Min(1) @Max(100) Integer pageSize,
+        @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return userService.findTeacherSlice(pageNumber, pageSize, withTotal);
+    }
 }
@@ -1,6 +1,7 @@
 package com.kwezal.bearinmind.core.user.controller;
 
 import com.kwezal.bearinmind.core.logging.ControllerLogging;
+import com.kwezal.bearinmind.core.pagination.dto.SliceDto;
 import com.kwezal.bearinmind.core.user.dto.CreateOrUpdateUserGroupDto;
 import com.kwezal.bearinmind.core.user.dto.UserGroupDto;
 import com.kwezal.bearinmind.core.user.dto.UserGroupListItemDto;
@@ -74,6 +75,24 @@ public class UserGroupController {
         return userGroupService.findRegisteredUserGroupPage(pageNumber, pageSize);
     }
 
+    /**
+     * Finds a slice of user groups in which the logged-in user is registered, without counting all of them.
+     * A user is registered in a group if they have the owner or member role.
+     *
+     * @param pageNumber page to be returned
+     * @param pageSize   number of items to be returned
+     * @param withTotal  whether the approximate number of all items should be returned
+     * @return user group slice
+     */
+    @GetMapping("/list/registered/slice")
+    public SliceDto<@NonNull UserGroupListItemDto> findRegisteredUserGroupSlice(
+        @RequestParam @Min(0) Integer pageNumber,
+        @RequestParam @Min(1) @Max(100) Integer pageSize,
+        @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return userGroupService.findRegisteredUserGroupSlice(pageNumber, pageSize, withTotal);
+    }
+
     /**
      * Finds a page of available user groups for the logged-in user.
      * A user group is available if the user is not registered in it yet.
@@ -89,4 +108,22 @@ public class UserGroupController {
     ) {
         return userGroupService.findAvailableUserGroupPage(pageNumber, pageSize);
     }
+
+    /**
+     * Finds a slice of available user groups for the logged-in user, without counting all of them.
+     * A user group is available if the user is not registered in it yet.
+     *
+     * @param pageNumber page to be returned
+     * @param pageSize   number of items to be returned
+     * @param withTotal  whether the approximate number of all items should be returned
+     * @return user group slice
+     */
+    @GetMapping("/list/available/slice")
+    public SliceDto<@NonNull UserGroupListItemDto> findAvailableUserGroupSlice(
+        @RequestParam @Min(0) Integer pageNumber,
+        @RequestParam @Min(1) @Max(100) Integer pageSize,
+        @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return userGroupService.findAvailableUserGroupSlice(pageNumber, pageSize, withTotal);
+    }
 }
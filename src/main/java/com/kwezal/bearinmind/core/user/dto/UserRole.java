@@ -1,6 +1,9 @@
 package com.kwezal.bearinmind.core.user.dto;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,6 +34,40 @@ public enum UserRole {
         }
     }
 
+    /**
+     * Finds roles granted by given authorities. Authorities which are not roles are ignored.
+     *
+     * @param authorities authority names
+     * @return unmodifiable set of roles
+     */
+    public static Set<UserRole> valuesOfAuthorities(Collection<String> authorities) {
+        final var roles = EnumSet.noneOf(UserRole.class);
+        for (final var authority : authorities) {
+            if (authority.startsWith(ROLE_PREFIX)) {
+                roles.add(valueOfAuthority(authority));
+            }
+        }
+        return Collections.unmodifiableSet(roles);
+    }
+
+    /**
+     * Computes a bitmask of given roles, in which each role is represented by the bit at its ordinal.
+     *
+     * @param roles roles
+     * @return bitmask of roles
+     */
+    public static int maskOf(Iterable<UserRole> roles) {
+        var mask = 0;
+        for (final var role : roles) {
+            mask |= role.getMask();
+        }
+        return mask;
+    }
+
+    public int getMask() {
+        return 1 << ordinal();
+    }
+
     public Set<UserRole> getUserRoles() {
         return userRoles.isEmpty() ? Set.of(this) : userRoles;
     }
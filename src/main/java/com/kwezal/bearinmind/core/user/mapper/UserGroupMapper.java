@@ -8,7 +8,6 @@ import com.kwezal.bearinmind.core.user.model.UserGroupMember;
 import com.kwezal.bearinmind.core.user.view.UserGroupListItemView;
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Map;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -21,17 +20,9 @@ public interface UserGroupMapper {
     @Mapping(target = "creationDateTime", expression = "java( OffsetDateTime.now() )")
     UserGroup map(Integer nameIdentifier);
 
-    UserGroupListItemDto mapToUserGroupListItemDto(UserGroupListItemView view, String name);
+    UserGroupListItemDto mapToUserGroupListItemDto(UserGroupListItemView view);
 
-    default List<UserGroupListItemDto> mapToUserGroupListItemDtos(
-        List<UserGroupListItemView> views,
-        Map<Integer, String> translations
-    ) {
-        return views
-            .stream()
-            .map(projection -> mapToUserGroupListItemDto(projection, translations.get(projection.getNameIdentifier())))
-            .toList();
-    }
+    List<UserGroupListItemDto> mapToUserGroupListItemDtos(List<UserGroupListItemView> views);
 
     default UserListItemDto mapToUserListItemDto(UserGroupMember userGroupMember) {
         return userGroupMemberMapper.mapToUserListItemDto(userGroupMember);
@@ -11,7 +11,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 // FIXME Explicitly defining the OffsetDateTime import may be redundant in the future, but due to mapstruct bug it is necessary now
-@Mapper(imports = OffsetDateTime.class)
+@Mapper(imports = OffsetDateTime.class, uses = UserMapper.class)
 public interface UserGroupMemberMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "registrationDateTime", expression = "java( OffsetDateTime.now() )")
@@ -19,7 +19,7 @@ public interface UserGroupMemberMapper {
 
     @Mapping(target = "id", source = "user.id")
     @Mapping(target = "name", source = "user", qualifiedByName = "joinFirstAndLastName")
-    @Mapping(target = "image", source = "user.image")
+    @Mapping(target = "image", source = "user", qualifiedByName = "mapUserToImageThumbnail")
     UserListItemDto mapToUserListItemDto(UserGroupMember userGroupMember);
 
     @Named("joinFirstAndLastName")
@@ -9,7 +9,6 @@ import com.kwezal.bearinmind.core.user.model.User;
 import com.kwezal.bearinmind.core.user.view.UserGroupListItemView;
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.StringJoiner;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -37,25 +36,13 @@ public interface UserMapper {
     User update(@MappingTarget User user, UpdateUserDto updateUserDto);
 
     @Mapping(target = "name", source = "user", qualifiedByName = "mapUserToFullName")
-    @Mapping(target = "courses", expression = "java( courseMapper.mapToUserCourseDtos(courses, translations) )")
-    @Mapping(target = "groups", expression = "java( userGroupMapper.mapToUserGroupListItemDtos(groups, translations) )")
-    UserViewDto mapToUserViewDto(
-        User user,
-        List<UserCourseView> courses,
-        List<UserGroupListItemView> groups,
-        Map<Integer, String> translations
-    );
+    @Mapping(target = "courses", expression = "java( courseMapper.mapToUserCourseDtos(courses) )")
+    @Mapping(target = "groups", expression = "java( userGroupMapper.mapToUserGroupListItemDtos(groups) )")
+    UserViewDto mapToUserViewDto(User user, List<UserCourseView> courses, List<UserGroupListItemView> groups);
 
-    @Mapping(
-        target = "registeredGroups",
-        expression = "java( userGroupMapper.mapToUserGroupListItemDtos(registeredGroups, translations) )"
-    )
-    @Mapping(
-        target = "availableGroups",
-        expression = "java( userGroupMapper.mapToUserGroupListItemDtos(availableGroups, translations) )"
-    )
+    @Mapping(target = "registeredGroups", expression = "java( userGroupMapper.mapToUserGroupListItemDtos(registeredGroups) )")
+    @Mapping(target = "availableGroups", expression = "java( userGroupMapper.mapToUserGroupListItemDtos(availableGroups) )")
     UserMainViewDto mapToUserMainViewDto(
-        Map<Integer, String> translations,
         List<UserGroupListItemView> registeredGroups,
         List<UserGroupListItemView> availableGroups,
         boolean hasTeachers,
@@ -67,6 +54,15 @@ public interface UserMapper {
         return mapToFullName(user.getFirstName(), user.getMiddleName(), user.getLastName());
     }
 
+    /**
+     * @param user user
+     * @return URL of the thumbnail of the user image, or of the image itself if it was uploaded without derivatives
+     */
+    @Named("mapUserToImageThumbnail")
+    default String mapUserToImageThumbnail(User user) {
+        return nonNull(user.getImageThumbnail()) ? user.getImageThumbnail() : user.getImage();
+    }
+
     default String mapToFullName(String firstName, String middleName, String lastName) {
         final var stringJoiner = new StringJoiner(" ");
         stringJoiner.add(firstName);
@@ -47,6 +47,12 @@ public class User {
     @Column
     String image;
 
+    @Column
+    String imageCard;
+
+    @Column
+    String imageThumbnail;
+
     @Column(nullable = false)
     OffsetDateTime registrationDateTime;
 }
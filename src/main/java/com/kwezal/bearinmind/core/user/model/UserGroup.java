@@ -26,6 +26,12 @@ public class UserGroup {
     @Column
     String image;
 
+    @Column
+    String imageCard;
+
+    @Column
+    String imageThumbnail;
+
     @Column(nullable = false)
     OffsetDateTime creationDateTime;
 
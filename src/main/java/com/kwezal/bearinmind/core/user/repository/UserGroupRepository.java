@@ -6,48 +6,105 @@ import java.util.List;
 import lombok.NonNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 public interface UserGroupRepository extends JpaRepository<@NonNull UserGroup, @NonNull Long> {
+    // List queries shared by the page and slice variants of the methods below.
+    // Group names are translated in the list queries, so lists do not need a separate translation lookup.
+    String REGISTERED_USER_GROUP_LIST_QUERY = """
+                    SELECT ug.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(ug.imageCard, ug.image) AS image
+                    FROM UserGroup ug
+                    JOIN UserGroupMember ugm ON (ugm.group = ug)
+                    LEFT JOIN Translation t ON (t.identifier = ug.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = ug.nameIdentifier AND ft.locale = :fallbackLocale)
+                    WHERE ugm.user.id = :userId
+                    AND ugm.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
+                    GROUP BY ug.id, ugm.registrationDateTime, t.text, ft.text
+                    ORDER BY ugm.registrationDateTime DESC""";
+
+    String AVAILABLE_USER_GROUP_LIST_QUERY = """
+                    SELECT ug.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(ug.imageCard, ug.image) AS image
+                    FROM UserGroup ug
+                    LEFT JOIN UserGroupMember ugm ON (ugm.group = ug AND ugm.user.id = :userId)
+                    LEFT JOIN Translation t ON (t.identifier = ug.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = ug.nameIdentifier AND ft.locale = :fallbackLocale)
+                    WHERE ugm.user.id IS NULL
+                    GROUP BY ug.id, t.text, ft.text
+                    ORDER BY ug.creationDateTime DESC""";
+
     /**
      * Finds a page of user groups in which a given user is registered.
      * A user is registered in a group if they have the owner or member role.
      *
-     * @param userId   user ID
-     * @param pageable pagination information
+     * @param userId         user ID
+     * @param locale         locale of group names
+     * @param fallbackLocale locale of group names which are not translated to {@code locale}
+     * @param pageable       pagination information
      * @return user group page
      */
-    @Query(
-        """
-                    SELECT ug.id AS id, ug.nameIdentifier AS nameIdentifier, ug.image AS image
-                    FROM UserGroup ug
-                    JOIN UserGroupMember ugm ON (ugm.group = ug)
-                    WHERE ugm.user.id = :userId
-                    AND ugm.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
-                    GROUP BY ug.id, ugm.registrationDateTime
-                    ORDER BY ugm.registrationDateTime DESC"""
-    )
-    Page<@NonNull UserGroupListItemView> findAllRegisteredUserGroupListItemByUserId(Long userId, Pageable pageable);
+    @Query(REGISTERED_USER_GROUP_LIST_QUERY)
+    Page<@NonNull UserGroupListItemView> findAllRegisteredUserGroupListItemByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds a slice of user groups in which a given user is registered.
+     * A user is registered in a group if they have the owner or member role.
+     *
+     * @param userId         user ID
+     * @param locale         locale of group names
+     * @param fallbackLocale locale of group names which are not translated to {@code locale}
+     * @param pageable       pagination information
+     * @return user group slice
+     */
+    @Query(REGISTERED_USER_GROUP_LIST_QUERY)
+    Slice<@NonNull UserGroupListItemView> findAllRegisteredUserGroupListItemSliceByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
 
     /**
      * Finds a page of available user groups for a given user.
      * A user group is available if the user is not registered in it yet.
      *
-     * @param userId   user ID
-     * @param pageable pagination information
+     * @param userId         user ID
+     * @param locale         locale of group names
+     * @param fallbackLocale locale of group names which are not translated to {@code locale}
+     * @param pageable       pagination information
      * @return user group page
      */
-    @Query(
-        """
-                    SELECT ug.id AS id, ug.nameIdentifier AS nameIdentifier, ug.image AS image
-                    FROM UserGroup ug
-                    LEFT JOIN UserGroupMember ugm ON (ugm.group = ug AND ugm.user.id = :userId)
-                    WHERE ugm.user.id IS NULL
-                    GROUP BY ug.id
-                    ORDER BY ug.creationDateTime DESC"""
-    )
-    Page<@NonNull UserGroupListItemView> findAllAvailableUserGroupListItemByUserId(Long userId, Pageable pageable);
+    @Query(AVAILABLE_USER_GROUP_LIST_QUERY)
+    Page<@NonNull UserGroupListItemView> findAllAvailableUserGroupListItemByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
+
+    /**
+     * Finds a slice of available user groups for a given user.
+     * A user group is available if the user is not registered in it yet.
+     *
+     * @param userId         user ID
+     * @param locale         locale of group names
+     * @param fallbackLocale locale of group names which are not translated to {@code locale}
+     * @param pageable       pagination information
+     * @return user group slice
+     */
+    @Query(AVAILABLE_USER_GROUP_LIST_QUERY)
+    Slice<@NonNull UserGroupListItemView> findAllAvailableUserGroupListItemSliceByUserId(
+        Long userId,
+        String locale,
+        String fallbackLocale,
+        Pageable pageable
+    );
 
     /**
      * Finds a user group and its members for a given group.
@@ -72,17 +129,21 @@ public interface UserGroupRepository extends JpaRepository<@NonNull UserGroup, @
      *
      * @param loggedInUserId logged-in user ID
      * @param userId         user ID
+     * @param locale         locale of group names
+     * @param fallbackLocale locale of group names which are not translated to {@code locale}
      * @return user group list
      */
     @Query(
         """
-                    SELECT ug.id AS id, ug.nameIdentifier AS nameIdentifier, ug.image AS image
+                    SELECT ug.id AS id, COALESCE(t.text, ft.text) AS name, COALESCE(ug.imageCard, ug.image) AS image
                     FROM UserGroup ug
                     JOIN UserGroupMember ugml ON (ugml.group = ug AND ugml.user.id = :loggedInUserId)
                     JOIN UserGroupMember ugmu ON (ugmu.group = ug AND ugmu.user.id = :userId)
+                    LEFT JOIN Translation t ON (t.identifier = ug.nameIdentifier AND t.locale = :locale)
+                    LEFT JOIN Translation ft ON (ft.identifier = ug.nameIdentifier AND ft.locale = :fallbackLocale)
                     WHERE ugml.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
                     AND ugmu.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
-                    GROUP BY ug.id"""
+                    GROUP BY ug.id, t.text, ft.text"""
     )
-    List<UserGroupListItemView> findAllCommonUserGroup(Long loggedInUserId, Long userId);
+    List<UserGroupListItemView> findAllCommonUserGroup(Long loggedInUserId, Long userId, String locale, String fallbackLocale);
 }
@@ -8,11 +8,35 @@ import java.util.Optional;
 import lombok.NonNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
 public interface UserRepository extends JpaRepository<@NonNull User, @NonNull Long>, JpaSpecificationExecutor<@NonNull User> {
+    // List queries shared by the page and slice variants of the methods below
+    String GROUP_MEMBER_USER_LIST_QUERY = """
+                    SELECT new com.kwezal.bearinmind.core.user.dto.UserListItemDto(u.id, CONCAT(u.firstName, ' ', u.lastName), COALESCE(u.imageThumbnail, u.image))
+                    FROM User u
+                    JOIN UserGroupMember ugmm ON (ugmm.user = u)
+                    JOIN UserGroupMember ugmu ON (ugmu.group = ugmm.group AND ugmu.user.id = :userId)
+                    WHERE u.id <> :userId
+                    AND ugmm.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
+                    AND ugmu.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
+                    GROUP BY u.id
+                    """;
+
+    String COURSE_ROLE_USER_LIST_QUERY = """
+                    SELECT new com.kwezal.bearinmind.core.user.dto.UserListItemDto(u.id, CONCAT(u.firstName, ' ', u.lastName), COALESCE(u.imageThumbnail, u.image))
+                    FROM User u
+                    JOIN CourseUserData cuds ON (cuds.user = u)
+                    JOIN CourseUserData cudu ON (cudu.course = cuds.course AND cudu.user.id = :userId)
+                    WHERE u.id <> :userId
+                    AND cuds.role IN :searchedUserRoles
+                    AND cudu.role IN :userRoles
+                    GROUP BY u.id
+                    """;
+
     Optional<User> findByUserCredentialsUsernameAndUserCredentialsActiveTrue(String username);
 
     boolean existsByUserCredentialsUsernameOrEmailAndUserCredentialsActiveTrue(String username, String email);
@@ -24,20 +48,19 @@ public interface UserRepository extends JpaRepository<@NonNull User, @NonNull Lo
      * @param pageable pagination information
      * @return user page
      */
-    @Query(
-        """
-                    SELECT new com.kwezal.bearinmind.core.user.dto.UserListItemDto(u.id, CONCAT(u.firstName, ' ', u.lastName), u.image)
-                    FROM User u
-                    JOIN UserGroupMember ugmm ON (ugmm.user = u)
-                    JOIN UserGroupMember ugmu ON (ugmu.group = ugmm.group AND ugmu.user.id = :userId)
-                    WHERE u.id <> :userId
-                    AND ugmm.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
-                    AND ugmu.role IN (com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.OWNER, com.kwezal.bearinmind.core.user.enumeration.UserGroupRole.MEMBER)
-                    GROUP BY u.id
-                    """
-    )
+    @Query(GROUP_MEMBER_USER_LIST_QUERY)
     Page<@NonNull UserListItemDto> findAllGroupMemberUserListItemByUserId(Long userId, Pageable pageable);
 
+    /**
+     * Finds a slice of users who are members of at least one common group with a given user.
+     *
+     * @param userId   user ID
+     * @param pageable pagination information
+     * @return user slice
+     */
+    @Query(GROUP_MEMBER_USER_LIST_QUERY)
+    Slice<@NonNull UserListItemDto> findAllGroupMemberUserListItemSliceByUserId(Long userId, Pageable pageable);
+
     /**
      * Finds a page of users who have given roles in at least one course where a given user has given roles.
      *
@@ -47,22 +70,28 @@ public interface UserRepository extends JpaRepository<@NonNull User, @NonNull Lo
      * @param pageable          pagination information
      * @return user page
      */
-    @Query(
-        """
-                    SELECT new com.kwezal.bearinmind.core.user.dto.UserListItemDto(u.id, CONCAT(u.firstName, ' ', u.lastName), u.image)
-                    FROM User u
-                    JOIN CourseUserData cuds ON (cuds.user = u)
-                    JOIN CourseUserData cudu ON (cudu.course = cuds.course AND cudu.user.id = :userId)
-                    WHERE u.id <> :userId
-                    AND cuds.role IN :searchedUserRoles
-                    AND cudu.role IN :userRoles
-                    GROUP BY u.id
-                    """
-    )
+    @Query(COURSE_ROLE_USER_LIST_QUERY)
     Page<@NonNull UserListItemDto> findAllUserListItemByUserIdAndCourseRoleIn(
         Long userId,
         EnumSet<CourseRole> userRoles,
         EnumSet<CourseRole> searchedUserRoles,
         Pageable pageable
     );
+
+    /**
+     * Finds a slice of users who have given roles in at least one course where a given user has given roles.
+     *
+     * @param userId            user ID
+     * @param userRoles         roles of the user with a given ID in a course
+     * @param searchedUserRoles roles of searched users in a course
+     * @param pageable          pagination information
+     * @return user slice
+     */
+    @Query(COURSE_ROLE_USER_LIST_QUERY)
+    Slice<@NonNull UserListItemDto> findAllUserListItemSliceByUserIdAndCourseRoleIn(
+        Long userId,
+        EnumSet<CourseRole> userRoles,
+        EnumSet<CourseRole> searchedUserRoles,
+        Pageable pageable
+    );
 }
@@ -4,6 +4,10 @@ import static com.kwezal.bearinmind.core.utils.RepositoryUtils.fetch;
 import static java.util.Objects.isNull;
 
 import com.kwezal.bearinmind.core.auth.service.LoggedInUserService;
+import com.kwezal.bearinmind.core.config.ApplicationConfig;
+import com.kwezal.bearinmind.core.pagination.dto.SliceDto;
+import com.kwezal.bearinmind.core.pagination.service.SliceService;
+import com.kwezal.bearinmind.core.translation.service.CachedTranslationService;
 import com.kwezal.bearinmind.core.user.dto.CreateOrUpdateUserGroupDto;
 import com.kwezal.bearinmind.core.user.dto.UserGroupDto;
 import com.kwezal.bearinmind.core.user.dto.UserGroupListItemDto;
@@ -13,25 +17,32 @@ import com.kwezal.bearinmind.core.user.repository.UserGroupRepository;
 import com.kwezal.bearinmind.core.user.view.UserGroupListItemView;
 import com.kwezal.bearinmind.exception.ResourceNotFoundException;
 import com.kwezal.bearinmind.translation.service.TranslationService;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
 @Service
 public class UserGroupService {
 
+    private static final String REGISTERED_USER_GROUP_LIST_NAME = "user-group.registered";
+    private static final String AVAILABLE_USER_GROUP_LIST_NAME = "user-group.available";
+
     private final UserGroupRepository userGroupRepository;
     private final UserGroupMapper userGroupMapper;
     private final UserGroupValidationService userGroupValidationService;
     private final UserGroupMemberService userGroupMemberService;
 
     private final TranslationService translationService;
+    private final CachedTranslationService cachedTranslationService;
     private final LoggedInUserService loggedInUserService;
+    private final ApplicationConfig applicationConfig;
+    private final SliceService sliceService;
 
     public long createUserGroup(final CreateOrUpdateUserGroupDto dto) {
         final var nameIdentifier = translationService.createMultilingualTranslation(dto.name(), true);
@@ -51,6 +62,7 @@ public class UserGroupService {
         final var nameIdentifier = userGroup.getNameIdentifier();
 
         translationService.updateMultilingualTranslation(nameIdentifier, dto.name());
+        cachedTranslationService.invalidate(List.of(nameIdentifier));
     }
 
     public UserGroupDto findUserGroupDtoBy(final Long id) {
@@ -61,7 +73,7 @@ public class UserGroupService {
             throw new ResourceNotFoundException(UserGroup.class, Map.of("id", id));
         }
 
-        final var translation = translationService.findTextByIdentifierAndLocale(userGroup.getNameIdentifier(), locale);
+        final var translation = cachedTranslationService.findTextByIdentifierAndLocale(userGroup.getNameIdentifier(), locale);
         return userGroupMapper.mapToUserGroupDto(userGroup, translation);
     }
 
@@ -70,15 +82,14 @@ public class UserGroupService {
         final var userId = authDetails.userId();
         final var locale = authDetails.locale();
 
-        final var registeredGroups = userGroupRepository.findAllRegisteredUserGroupListItemByUserId(
-            userId,
-            Pageable.ofSize(pageSize).withPage(pageNumber)
-        );
-        final var translations = getTranslations(registeredGroups, locale);
-
-        return registeredGroups.map(group ->
-            userGroupMapper.mapToUserGroupListItemDto(group, translations.get(group.getNameIdentifier()))
-        );
+        return userGroupRepository
+            .findAllRegisteredUserGroupListItemByUserId(
+                userId,
+                locale,
+                applicationConfig.getApplicationLocale(),
+                Pageable.ofSize(pageSize).withPage(pageNumber)
+            )
+            .map(userGroupMapper::mapToUserGroupListItemDto);
     }
 
     public Page<@NonNull UserGroupListItemDto> findAvailableUserGroupPage(final Integer pageNumber, final Integer pageSize) {
@@ -86,21 +97,74 @@ public class UserGroupService {
         final var userId = authDetails.userId();
         final var locale = authDetails.locale();
 
-        final var availableGroups = userGroupRepository.findAllAvailableUserGroupListItemByUserId(
-            userId,
-            Pageable.ofSize(pageSize).withPage(pageNumber)
-        );
-        final var translations = getTranslations(availableGroups, locale);
+        return userGroupRepository
+            .findAllAvailableUserGroupListItemByUserId(
+                userId,
+                locale,
+                applicationConfig.getApplicationLocale(),
+                Pageable.ofSize(pageSize).withPage(pageNumber)
+            )
+            .map(userGroupMapper::mapToUserGroupListItemDto);
+    }
 
-        return availableGroups.map(group ->
-            userGroupMapper.mapToUserGroupListItemDto(group, translations.get(group.getNameIdentifier()))
+    public SliceDto<@NonNull UserGroupListItemDto> findRegisteredUserGroupSlice(
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal
+    ) {
+        return findUserGroupSlice(
+            REGISTERED_USER_GROUP_LIST_NAME,
+            pageNumber,
+            pageSize,
+            withTotal,
+            userGroupRepository::findAllRegisteredUserGroupListItemSliceByUserId,
+            userGroupRepository::findAllRegisteredUserGroupListItemByUserId
         );
     }
 
-    private Map<Integer, String> getTranslations(final Page<@NonNull UserGroupListItemView> groups, final String locale) {
-        return translationService.findAllIdentifierAndTextByIdentifiersAndLocale(
-            groups.stream().map(UserGroupListItemView::getNameIdentifier).collect(Collectors.toList()),
-            locale
+    public SliceDto<@NonNull UserGroupListItemDto> findAvailableUserGroupSlice(
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal
+    ) {
+        return findUserGroupSlice(
+            AVAILABLE_USER_GROUP_LIST_NAME,
+            pageNumber,
+            pageSize,
+            withTotal,
+            userGroupRepository::findAllAvailableUserGroupListItemSliceByUserId,
+            userGroupRepository::findAllAvailableUserGroupListItemByUserId
         );
     }
+
+    private SliceDto<@NonNull UserGroupListItemDto> findUserGroupSlice(
+        final String listName,
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal,
+        final UserGroupListQuery<Slice<@NonNull UserGroupListItemView>> findAllUserGroupListItemSliceByUserId,
+        final UserGroupListQuery<Page<@NonNull UserGroupListItemView>> findAllUserGroupListItemByUserId
+    ) {
+        final var authDetails = loggedInUserService.getAuthenticationDetails();
+        final var userId = authDetails.userId();
+        final var locale = authDetails.locale();
+        final var fallbackLocale = applicationConfig.getApplicationLocale();
+
+        return sliceService
+            .findSlice(
+                listName,
+                userId,
+                pageNumber,
+                pageSize,
+                withTotal,
+                pageable -> findAllUserGroupListItemSliceByUserId.find(userId, locale, fallbackLocale, pageable),
+                pageable -> findAllUserGroupListItemByUserId.find(userId, locale, fallbackLocale, pageable)
+            )
+            .map(userGroupMapper::mapToUserGroupListItemDto);
+    }
+
+    @FunctionalInterface
+    private interface UserGroupListQuery<T> {
+        T find(Long userId, String locale, String fallbackLocale, Pageable pageable);
+    }
 }
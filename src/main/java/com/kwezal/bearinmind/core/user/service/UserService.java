@@ -7,19 +7,16 @@ import com.kwezal.bearinmind.core.config.ApplicationConfig;
 import com.kwezal.bearinmind.core.course.enumeration.CourseRole;
 import com.kwezal.bearinmind.core.course.repository.CourseRepository;
 import com.kwezal.bearinmind.core.course.repository.CourseUserDataRepository;
-import com.kwezal.bearinmind.core.course.view.UserCourseView;
 import com.kwezal.bearinmind.core.exception.ErrorCode;
+import com.kwezal.bearinmind.core.pagination.dto.SliceDto;
+import com.kwezal.bearinmind.core.pagination.service.SliceService;
 import com.kwezal.bearinmind.core.user.dto.*;
 import com.kwezal.bearinmind.core.user.mapper.UserMapper;
 import com.kwezal.bearinmind.core.user.model.User;
 import com.kwezal.bearinmind.core.user.repository.UserCredentialsRepository;
 import com.kwezal.bearinmind.core.user.repository.UserGroupRepository;
 import com.kwezal.bearinmind.core.user.repository.UserRepository;
-import com.kwezal.bearinmind.core.user.view.UserGroupListItemView;
-import com.kwezal.bearinmind.translation.service.TranslationService;
 import java.util.EnumSet;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -33,6 +30,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final String GROUP_MEMBER_LIST_NAME = "user.group-members";
+    private static final String STUDENT_LIST_NAME = "user.students";
+    private static final String TEACHER_LIST_NAME = "user.teachers";
+
     private final ApplicationConfig applicationConfig;
 
     private final UserRepository userRepository;
@@ -45,9 +46,9 @@ public class UserService {
 
     private final PasswordEncoder passwordEncoder;
 
-    private final TranslationService translationService;
     private final LoggedInUserService loggedInUserService;
     private final UserValidationService userValidationService;
+    private final SliceService sliceService;
 
     @Transactional(readOnly = false)
     public UserDto createUser(final CreateUserDto createUserDto) {
@@ -82,18 +83,11 @@ public class UserService {
 
         final var user = fetchUserBy(id);
 
-        final var courses = courseRepository.findAllCommonCourseAndRole(loggedInUserId, user.getId());
-        final var courseNameIdentifiersStream = courses.stream().map(UserCourseView::getNameIdentifier);
-
-        final var groups = userGroupRepository.findAllCommonUserGroup(loggedInUserId, user.getId());
-        final var groupNameIdentifiersStream = groups.stream().map(UserGroupListItemView::getNameIdentifier);
-
-        final var translations = translationService.findAllIdentifierAndTextByIdentifiersAndLocale(
-            Stream.concat(courseNameIdentifiersStream, groupNameIdentifiersStream).collect(Collectors.toSet()),
-            locale
-        );
+        final var fallbackLocale = applicationConfig.getApplicationLocale();
+        final var courses = courseRepository.findAllCommonCourseAndRole(loggedInUserId, user.getId(), locale, fallbackLocale);
+        final var groups = userGroupRepository.findAllCommonUserGroup(loggedInUserId, user.getId(), locale, fallbackLocale);
 
-        return userMapper.mapToUserViewDto(user, courses, groups, translations);
+        return userMapper.mapToUserViewDto(user, courses, groups);
     }
 
     public UserMainViewDto findUserMainViewDto(final Integer listLength) {
@@ -101,18 +95,14 @@ public class UserService {
         final var userId = authDetails.userId();
         final var locale = authDetails.locale();
 
+        final var fallbackLocale = applicationConfig.getApplicationLocale();
+
         final var registeredGroups = userGroupRepository
-            .findAllRegisteredUserGroupListItemByUserId(userId, Pageable.ofSize(listLength))
-            .toList();
+            .findAllRegisteredUserGroupListItemSliceByUserId(userId, locale, fallbackLocale, Pageable.ofSize(listLength))
+            .getContent();
         final var availableGroups = userGroupRepository
-            .findAllAvailableUserGroupListItemByUserId(userId, Pageable.ofSize(listLength))
-            .toList();
-
-        final var translations = translationService.findAllIdentifierAndTextByIdentifiersAndLocale(
-            Stream.concat(registeredGroups.stream(), availableGroups.stream()),
-            UserGroupListItemView::getNameIdentifier,
-            locale
-        );
+            .findAllAvailableUserGroupListItemSliceByUserId(userId, locale, fallbackLocale, Pageable.ofSize(listLength))
+            .getContent();
 
         final boolean hasTeachers;
         final boolean hasStudents;
@@ -127,7 +117,7 @@ public class UserService {
                 courseUserDataRepository.existsByUserIdAndRoleIn(userId, EnumSet.of(CourseRole.OWNER, CourseRole.TEACHER));
         }
 
-        return userMapper.mapToUserMainViewDto(translations, registeredGroups, availableGroups, hasTeachers, hasStudents);
+        return userMapper.mapToUserMainViewDto(registeredGroups, availableGroups, hasTeachers, hasStudents);
     }
 
     public Page<@NonNull UserListItemDto> findGroupMemberPage(final Integer pageNumber, final Integer pageSize) {
@@ -158,6 +148,77 @@ public class UserService {
         );
     }
 
+    public SliceDto<@NonNull UserListItemDto> findGroupMemberSlice(
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal
+    ) {
+        final var userId = loggedInUserService.getLoggedInUserId();
+
+        return sliceService.findSlice(
+            GROUP_MEMBER_LIST_NAME,
+            userId,
+            pageNumber,
+            pageSize,
+            withTotal,
+            pageable -> userRepository.findAllGroupMemberUserListItemSliceByUserId(userId, pageable),
+            pageable -> userRepository.findAllGroupMemberUserListItemByUserId(userId, pageable)
+        );
+    }
+
+    public SliceDto<@NonNull UserListItemDto> findStudentSlice(
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal
+    ) {
+        return findUserSlice(
+            STUDENT_LIST_NAME,
+            pageNumber,
+            pageSize,
+            withTotal,
+            EnumSet.of(CourseRole.OWNER, CourseRole.TEACHER),
+            EnumSet.of(CourseRole.STUDENT)
+        );
+    }
+
+    public SliceDto<@NonNull UserListItemDto> findTeacherSlice(
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal
+    ) {
+        return findUserSlice(
+            TEACHER_LIST_NAME,
+            pageNumber,
+            pageSize,
+            withTotal,
+            EnumSet.of(CourseRole.STUDENT),
+            EnumSet.of(CourseRole.OWNER, CourseRole.TEACHER)
+        );
+    }
+
+    private SliceDto<@NonNull UserListItemDto> findUserSlice(
+        final String listName,
+        final Integer pageNumber,
+        final Integer pageSize,
+        final boolean withTotal,
+        final EnumSet<CourseRole> userRoles,
+        final EnumSet<CourseRole> searchedUserRoles
+    ) {
+        final var userId = loggedInUserService.getLoggedInUserId();
+
+        return sliceService.findSlice(
+            listName,
+            userId,
+            pageNumber,
+            pageSize,
+            withTotal,
+            pageable ->
+                userRepository.findAllUserListItemSliceByUserIdAndCourseRoleIn(userId, userRoles, searchedUserRoles, pageable),
+            pageable ->
+                userRepository.findAllUserListItemByUserIdAndCourseRoleIn(userId, userRoles, searchedUserRoles, pageable)
+        );
+    }
+
     private User fetchUserBy(final Long id) {
         return fetch(id, userRepository, User.class);
     }
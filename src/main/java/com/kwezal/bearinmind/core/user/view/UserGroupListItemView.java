@@ -3,7 +3,7 @@ package com.kwezal.bearinmind.core.user.view;
 public interface UserGroupListItemView {
     Long getId();
 
-    Integer getNameIdentifier();
+    String getName();
 
     String getImage();
 }
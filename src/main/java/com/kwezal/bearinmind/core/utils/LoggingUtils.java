@@ -1,9 +1,16 @@
 package com.kwezal.bearinmind.core.utils;
 
+import com.kwezal.bearinmind.core.pagination.dto.CursorPageDto;
+import com.kwezal.bearinmind.core.pagination.dto.SliceDto;
+import java.lang.reflect.Array;
+import java.util.Collection;
 import java.util.Map;
 import java.util.StringJoiner;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class LoggingUtils {
@@ -53,6 +60,56 @@ public class LoggingUtils {
         return sb.toString();
     }
 
+    /**
+     * Describes a value for logging without serializing large structures.
+     * Pages, slices, collections, maps and arrays are described by their sizes, uninitialized lazy entities and collections
+     * by their type only, and string representations of other values are truncated to a given length.
+     *
+     * @param value     value to be described
+     * @param maxLength maximum length of a string representation of a value
+     * @return short description of the value
+     */
+    public static String summarize(final Object value, final int maxLength) {
+        if (value == null) {
+            return "null";
+        } else if (!Hibernate.isInitialized(value)) {
+            return Hibernate.getClassLazy(value).getSimpleName() + "[uninitialized]";
+        } else if (value instanceof Page<?> page) {
+            return "Page[number=%d, size=%d, elements=%d, total=%d]".formatted(
+                page.getNumber(),
+                page.getSize(),
+                page.getNumberOfElements(),
+                page.getTotalElements()
+            );
+        } else if (value instanceof Slice<?> slice) {
+            return "Slice[number=%d, size=%d, elements=%d]".formatted(
+                slice.getNumber(),
+                slice.getSize(),
+                slice.getNumberOfElements()
+            );
+        } else if (value instanceof SliceDto<?> slice) {
+            return "SliceDto[number=%d, size=%d, elements=%d, hasNext=%b]".formatted(
+                slice.number(),
+                slice.size(),
+                slice.content().size(),
+                slice.hasNext()
+            );
+        } else if (value instanceof CursorPageDto<?> page) {
+            return "CursorPageDto[elements=%d, hasNext=%b]".formatted(page.content().size(), page.nextCursor() != null);
+        } else if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        } else if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        } else if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[length=" + Array.getLength(value) + "]";
+        }
+
+        final var string = value.toString();
+        return string.length() <= maxLength
+            ? string
+            : string.substring(0, maxLength) + "... (" + string.length() + " characters)";
+    }
+
     private static void appendArguments(final StringBuilder sb, final String prefix, final Map<String, Object> arguments) {
         if (!arguments.isEmpty()) {
             sb.append(prefix);
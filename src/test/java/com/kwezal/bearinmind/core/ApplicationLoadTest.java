@@ -0,0 +1,394 @@
+package com.kwezal.bearinmind.core;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+import com.kwezal.bearinmind.core.auth.dto.CredentialsDto;
+import com.kwezal.bearinmind.core.course.dto.CourseLessonViewDto;
+import com.kwezal.bearinmind.core.course.dto.CourseListItemDto;
+import com.kwezal.bearinmind.core.course.dto.CourseMainViewDto;
+import com.kwezal.bearinmind.core.course.dto.CourseViewDto;
+import com.kwezal.bearinmind.core.course.dto.CreateCourseDto;
+import com.kwezal.bearinmind.core.course.dto.CreateCourseLessonDto;
+import com.kwezal.bearinmind.core.course.dto.CreateCourseLessonPartDto;
+import com.kwezal.bearinmind.core.pagination.dto.SliceDto;
+import com.kwezal.bearinmind.core.user.dto.UserGroupListItemDto;
+import com.kwezal.bearinmind.core.utils.EndpointLatencyRecorder;
+import com.kwezal.bearinmind.core.utils.LargeDatasetGenerator;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Drives the running application over HTTP with a realistic mix of sessions, on a dataset of production-like size
+ * loaded by {@link LargeDatasetGenerator}, and reports throughput and latency percentiles per endpoint.
+ * Students log in, open the courses main view, browse a course and its lessons,
+ * and sometimes enroll in a course or join a group; teachers log in, open the courses main view and create a course.
+ * Every virtual user runs on its own virtual thread and repeats sessions, pausing between requests,
+ * until the test duration elapses.
+ * The load can be changed with {@code load-test.*} properties, e.g. {@code -Dload-test.virtual-users=1000},
+ * and the dataset size with {@code benchmark.dataset.*} properties.
+ * Excluded from regular builds; run with {@code mvn test -P load-test}.
+ */
+@Slf4j
+@Tag("load-test")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "application.logging.controller.sampling-rate=0.01"
+)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApplicationLoadTest {
+
+    private static final String LOG_IN = "POST /auth/log-in";
+    private static final String COURSE_MAIN_VIEW = "GET /course/main-view";
+    private static final String COURSE_VIEW = "GET /course/{id}";
+    private static final String COURSE_LESSON_VIEW = "GET /course/lesson/{id}";
+    private static final String AVAILABLE_COURSES = "GET /course/list/available/slice";
+    private static final String ENROLL = "POST /course/enroll/{courseId}";
+    private static final String AVAILABLE_GROUPS = "GET /user/group/list/available/slice";
+    private static final String JOIN_GROUP = "POST /user/group/join/{groupId}";
+    private static final String CREATE_COURSE = "POST /course";
+
+    private static final int MAIN_VIEW_LIST_LENGTH = 5;
+    private static final int AVAILABLE_LIST_PAGE_SIZE = 10;
+    private static final int LESSONS_PER_CREATED_COURSE = 5;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Value("${load-test.virtual-users:200}")
+    private int virtualUsers;
+
+    @Value("${load-test.teacher-percentage:5}")
+    private int teacherPercentage;
+
+    @Value("${load-test.duration-seconds:60}")
+    private int durationSeconds;
+
+    @Value("${load-test.think-time-millis:500}")
+    private int thinkTimeMillis;
+
+    @Value("${load-test.lessons-per-session:3}")
+    private int lessonsPerSession;
+
+    @Value("${load-test.enrollment-probability:0.2}")
+    private double enrollmentProbability;
+
+    @Value("${load-test.group-joining-probability:0.1}")
+    private double groupJoiningProbability;
+
+    @Value("${benchmark.dataset.users:200000}")
+    private int users;
+
+    @Value("${benchmark.dataset.groups:5000}")
+    private int groups;
+
+    @Value("${benchmark.dataset.groups-per-user:2}")
+    private int groupsPerUser;
+
+    @Value("${benchmark.dataset.courses:20000}")
+    private int courses;
+
+    @Value("${benchmark.dataset.lessons-per-course:10}")
+    private int lessonsPerCourse;
+
+    @Value("${benchmark.dataset.parts-per-lesson:3}")
+    private int partsPerLesson;
+
+    @Value("${benchmark.dataset.courses-per-user:5}")
+    private int coursesPerUser;
+
+    @Value("${application.locale}")
+    private String applicationLocale;
+
+    @Autowired
+    private LargeDatasetGenerator largeDatasetGenerator;
+
+    private final EndpointLatencyRecorder recorder = new EndpointLatencyRecorder();
+
+    private RestClient client;
+
+    @BeforeAll
+    void generateDataset() {
+        largeDatasetGenerator.generate(
+            new LargeDatasetGenerator.DatasetSize(
+                users,
+                groups,
+                groupsPerUser,
+                courses,
+                lessonsPerCourse,
+                partsPerLesson,
+                coursesPerUser
+            )
+        );
+
+        // Plain HTTP/1.1 with keep-alive, like a browser behind a load balancer
+        final var httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        final var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(30));
+        client = RestClient.builder().baseUrl("http://localhost:" + port).requestFactory(requestFactory).build();
+    }
+
+    @AfterAll
+    void deleteDataset() {
+        largeDatasetGenerator.delete();
+    }
+
+    @Test
+    void Should_ServeRealisticLoadWithoutFailures_When_StudentsAndTeachersUseApplication() throws Exception {
+        // GIVEN
+        final var teacherCount = Math.max(1, virtualUsers * teacherPercentage / 100);
+        final var studentCount = virtualUsers - teacherCount;
+        final var duration = Duration.ofSeconds(durationSeconds);
+
+        // WHEN
+        final var start = System.nanoTime();
+        final var deadline = start + duration.toNanos();
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var results = new ArrayList<Future<Void>>(virtualUsers);
+            for (var teacher = 0; teacher < teacherCount; teacher++) {
+                results.add(
+                    executor.submit(virtualUser(teacher, teacherCount, deadline, this::teacherUser, this::teacherSession))
+                );
+            }
+            for (var student = 0; student < studentCount; student++) {
+                results.add(
+                    executor.submit(virtualUser(student, studentCount, deadline, this::studentUser, this::studentSession))
+                );
+            }
+            for (final var result : results) {
+                result.get();
+            }
+        }
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // THEN
+        final var summary = recorder.summarize(elapsed);
+        log.info("{} students and {} teachers in {} s:\n{}", studentCount, teacherCount, elapsed.toSeconds(), summary);
+        assertEquals(0, recorder.countFailures(), summary);
+    }
+
+    @FunctionalInterface
+    private interface UserSelector {
+        long select(int virtualUser, int virtualUserCount, long session);
+    }
+
+    @FunctionalInterface
+    private interface Session {
+        void run(long user) throws InterruptedException;
+    }
+
+    private static Callable<Void> virtualUser(
+        final int virtualUser,
+        final int virtualUserCount,
+        final long deadline,
+        final UserSelector userSelector,
+        final Session session
+    ) {
+        return () -> {
+            for (var sessionNumber = 0L; System.nanoTime() < deadline; sessionNumber++) {
+                session.run(userSelector.select(virtualUser, virtualUserCount, sessionNumber));
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Selects consecutive teachers for consecutive sessions, so that virtual users never log in as the same user at once.
+     */
+    private long teacherUser(final int virtualUser, final int virtualUserCount, final long session) {
+        final var teachers = users / LargeDatasetGenerator.TEACHER_INTERVAL;
+        return (1 + (virtualUser + session * virtualUserCount) % teachers) * LargeDatasetGenerator.TEACHER_INTERVAL;
+    }
+
+    /**
+     * Selects consecutive students for consecutive sessions, skipping teachers,
+     * so that virtual users never log in as the same user at once.
+     */
+    private long studentUser(final int virtualUser, final int virtualUserCount, final long session) {
+        final var students = users - users / LargeDatasetGenerator.TEACHER_INTERVAL;
+        final var student = (virtualUser + session * virtualUserCount) % students;
+        return 1 + student + student / (LargeDatasetGenerator.TEACHER_INTERVAL - 1);
+    }
+
+    private void studentSession(final long user) throws InterruptedException {
+        final var token = logIn(user);
+        if (isNull(token)) {
+            return;
+        }
+
+        final var mainView = exchange(
+            COURSE_MAIN_VIEW,
+            get(token, "/course/main-view?listLength={listLength}", MAIN_VIEW_LIST_LENGTH),
+            CourseMainViewDto.class
+        );
+        if (isNull(mainView)) {
+            return;
+        }
+
+        if (!mainView.activeCourses().isEmpty()) {
+            final var course = randomElement(mainView.activeCourses());
+            final var courseView = exchange(COURSE_VIEW, get(token, "/course/{id}", course.id()), CourseViewDto.class);
+            if (nonNull(courseView) && !courseView.lessons().isEmpty()) {
+                for (var i = 0; i < lessonsPerSession; i++) {
+                    final var lesson = randomElement(courseView.lessons());
+                    exchange(COURSE_LESSON_VIEW, get(token, "/course/lesson/{id}", lesson.id()), CourseLessonViewDto.class);
+                }
+            }
+        }
+
+        final var random = ThreadLocalRandom.current();
+        if (random.nextDouble() < enrollmentProbability) {
+            final var availableCourses = exchange(
+                AVAILABLE_COURSES,
+                get(token, "/course/list/available/slice?pageNumber=0&pageSize={pageSize}", AVAILABLE_LIST_PAGE_SIZE),
+                new ParameterizedTypeReference<SliceDto<CourseListItemDto>>() {}
+            );
+            if (nonNull(availableCourses) && !availableCourses.content().isEmpty()) {
+                final var course = randomElement(availableCourses.content());
+                exchange(ENROLL, post(token, "/course/enroll/{courseId}", course.id()), String.class);
+            }
+        }
+
+        if (random.nextDouble() < groupJoiningProbability) {
+            final var availableGroups = exchange(
+                AVAILABLE_GROUPS,
+                get(token, "/user/group/list/available/slice?pageNumber=0&pageSize={pageSize}", AVAILABLE_LIST_PAGE_SIZE),
+                new ParameterizedTypeReference<SliceDto<UserGroupListItemDto>>() {}
+            );
+            if (nonNull(availableGroups) && !availableGroups.content().isEmpty()) {
+                final var group = randomElement(availableGroups.content());
+                exchange(JOIN_GROUP, post(token, "/user/group/join/{groupId}", group.id()), String.class);
+            }
+        }
+    }
+
+    private void teacherSession(final long user) throws InterruptedException {
+        final var token = logIn(user);
+        if (isNull(token)) {
+            return;
+        }
+
+        exchange(
+            COURSE_MAIN_VIEW,
+            get(token, "/course/main-view?listLength={listLength}", MAIN_VIEW_LIST_LENGTH),
+            CourseMainViewDto.class
+        );
+
+        final var courseId = exchange(CREATE_COURSE, post(token, "/course").body(createCourseDto(user)), Long.class);
+        if (nonNull(courseId)) {
+            exchange(COURSE_VIEW, get(token, "/course/{id}", courseId), CourseViewDto.class);
+        }
+    }
+
+    private String logIn(final long user) throws InterruptedException {
+        final var credentials = new CredentialsDto(LargeDatasetGenerator.username(user), LargeDatasetGenerator.PASSWORD);
+        return exchange(LOG_IN, client.post().uri("/auth/log-in").body(credentials), (request, response) ->
+            response.getHeaders().getFirst(AUTHORIZATION)
+        );
+    }
+
+    private CreateCourseDto createCourseDto(final long user) {
+        final var lessons = new ArrayList<CreateCourseLessonDto>(LESSONS_PER_CREATED_COURSE);
+        for (var lesson = 1; lesson <= LESSONS_PER_CREATED_COURSE; lesson++) {
+            final var part = new CreateCourseLessonPartDto(Map.of(applicationLocale, "Introduction to lesson " + lesson), null);
+            lessons.add(
+                new CreateCourseLessonDto(Map.of(applicationLocale, Map.of("topic", "Lesson " + lesson)), null, List.of(part))
+            );
+        }
+
+        final var startDateTime = OffsetDateTime.now();
+        return new CreateCourseDto(
+            Map.of(applicationLocale, Map.of("name", "Course of teacher " + user, "description", "Created by a load test")),
+            startDateTime,
+            startDateTime.plusMonths(4),
+            null,
+            lessons
+        );
+    }
+
+    private RestClient.RequestHeadersSpec<?> get(final String token, final String uri, final Object... uriVariables) {
+        return client.get().uri(uri, uriVariables).header(AUTHORIZATION, token);
+    }
+
+    private RestClient.RequestBodySpec post(final String token, final String uri, final Object... uriVariables) {
+        return client.post().uri(uri, uriVariables).header(AUTHORIZATION, token);
+    }
+
+    private <T> T exchange(final String endpoint, final RestClient.RequestHeadersSpec<?> request, final Class<T> bodyType)
+        throws InterruptedException {
+        return exchange(endpoint, request, (clientRequest, response) -> response.bodyTo(bodyType));
+    }
+
+    private <T> T exchange(
+        final String endpoint,
+        final RestClient.RequestHeadersSpec<?> request,
+        final ParameterizedTypeReference<T> bodyType
+    ) throws InterruptedException {
+        return exchange(endpoint, request, (clientRequest, response) -> response.bodyTo(bodyType));
+    }
+
+    /**
+     * Pauses for a random think time, sends a request and records its latency.
+     *
+     * @param endpoint HTTP method and route template of the request
+     * @param request  request to be sent
+     * @param reader   function reading a value from a successful response
+     * @return value read from the response, or null if the request did not succeed
+     */
+    private <T> T exchange(
+        final String endpoint,
+        final RestClient.RequestHeadersSpec<?> request,
+        final RestClient.RequestHeadersSpec.ExchangeFunction<T> reader
+    ) throws InterruptedException {
+        think();
+
+        final var start = System.nanoTime();
+        try {
+            return request.exchange((clientRequest, response) -> {
+                final var status = response.getStatusCode();
+                final var value = status.is2xxSuccessful() ? reader.exchange(clientRequest, response) : null;
+                recorder.record(endpoint, System.nanoTime() - start, status.value());
+                return value;
+            });
+        } catch (final ResourceAccessException e) {
+            recorder.record(endpoint, System.nanoTime() - start, 0);
+            log.warn("Request '{}' failed", endpoint, e);
+            return null;
+        }
+    }
+
+    private void think() throws InterruptedException {
+        // Between half and one and a half of the configured think time
+        Thread.sleep(thinkTimeMillis / 2 + ThreadLocalRandom.current().nextInt(thinkTimeMillis + 1));
+    }
+
+    private static <T> T randomElement(final List<T> list) {
+        return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+    }
+}
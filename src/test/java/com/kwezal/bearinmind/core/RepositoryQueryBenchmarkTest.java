@@ -0,0 +1,137 @@
+package com.kwezal.bearinmind.core;
+
+import static com.kwezal.bearinmind.core.utils.LargeDatasetGenerator.ID_OFFSET;
+
+import com.kwezal.bearinmind.core.utils.LargeDatasetGenerator;
+import com.kwezal.bearinmind.core.utils.RepositoryQueryInvocations;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Times every repository query against a dataset of production-like size, loaded by {@link LargeDatasetGenerator}.
+ * The dataset size can be changed with {@code benchmark.dataset.*} properties, e.g. {@code -Dbenchmark.dataset.users=500000}.
+ * Excluded from regular builds; run with {@code mvn test -P benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    @Value("${benchmark.dataset.users:200000}")
+    private int users;
+
+    @Value("${benchmark.dataset.groups:5000}")
+    private int groups;
+
+    @Value("${benchmark.dataset.groups-per-user:2}")
+    private int groupsPerUser;
+
+    @Value("${benchmark.dataset.courses:20000}")
+    private int courses;
+
+    @Value("${benchmark.dataset.lessons-per-course:10}")
+    private int lessonsPerCourse;
+
+    @Value("${benchmark.dataset.parts-per-lesson:3}")
+    private int partsPerLesson;
+
+    @Value("${benchmark.dataset.courses-per-user:5}")
+    private int coursesPerUser;
+
+    @Autowired
+    private LargeDatasetGenerator largeDatasetGenerator;
+
+    @Autowired
+    private RepositoryQueryInvocations queryInvocations;
+
+    @BeforeAll
+    void generateDataset() {
+        largeDatasetGenerator.generate(
+            new LargeDatasetGenerator.DatasetSize(
+                users,
+                groups,
+                groupsPerUser,
+                courses,
+                lessonsPerCourse,
+                partsPerLesson,
+                coursesPerUser
+            )
+        );
+    }
+
+    @AfterAll
+    void deleteDataset() {
+        largeDatasetGenerator.delete();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> Should_MeasureQueryLatency_When_DatasetIsLarge() {
+        // Courses of users wrap around after the last course, so the other user takes part in the same courses as the first one
+        final var parameters = new RepositoryQueryInvocations.Parameters(
+            ID_OFFSET + 1,
+            ID_OFFSET + 1 + (courses / coursesPerUser) % users,
+            ID_OFFSET + 1,
+            ID_OFFSET + 1,
+            ID_OFFSET + 1,
+            "da",
+            "en"
+        );
+
+        return queryInvocations
+            .create(parameters)
+            .entrySet()
+            .stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(invocation ->
+                DynamicTest.dynamicTest(invocation.getKey(), () -> {
+                    // WHEN
+                    final var nanos = measure(invocation.getValue());
+
+                    // THEN
+                    log.info("{}: {}", invocation.getKey(), summarize(nanos));
+                })
+            );
+    }
+
+    private static long[] measure(final Runnable query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            query.run();
+        }
+
+        final var nanos = new long[MEASUREMENT_ITERATIONS];
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            final var start = System.nanoTime();
+            query.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static String summarize(final long[] sortedNanos) {
+        return "p50 %.2f ms, p95 %.2f ms, max %.2f ms".formatted(
+            percentile(sortedNanos, 50) / 1e6,
+            percentile(sortedNanos, 95) / 1e6,
+            sortedNanos[sortedNanos.length - 1] / 1e6
+        );
+    }
+
+    private static long percentile(final long[] sortedNanos, final int percentile) {
+        return sortedNanos[(int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1];
+    }
+}
@@ -0,0 +1,183 @@
+package com.kwezal.bearinmind.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.kwezal.bearinmind.core.course.repository.CourseLessonRepository;
+import com.kwezal.bearinmind.core.course.repository.CourseRepository;
+import com.kwezal.bearinmind.core.course.repository.CourseUserDataRepository;
+import com.kwezal.bearinmind.core.course.repository.CourseUserGroupRepository;
+import com.kwezal.bearinmind.core.user.repository.UserGroupRepository;
+import com.kwezal.bearinmind.core.user.repository.UserRepository;
+import com.kwezal.bearinmind.core.utils.RepositoryQueryInvocations;
+import com.kwezal.bearinmind.core.utils.SqlStatementRecorder;
+import com.kwezal.bearinmind.core.utils.SqlStatementRecorder.RecordedStatement;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+/**
+ * Runs every query declared with {@link Query} in the main repositories against a large dataset
+ * and checks that none of them reads a large table sequentially.
+ * A new query method has to be added to {@link RepositoryQueryInvocations}, otherwise the suite fails.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/db/query-plan/SEED.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@Sql(scripts = "/db/query-plan/CLEANUP.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+@SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+class RepositoryQueryPlanTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+        CourseRepository.class,
+        CourseLessonRepository.class,
+        CourseUserDataRepository.class,
+        CourseUserGroupRepository.class,
+        UserRepository.class,
+        UserGroupRepository.class
+    );
+
+    /**
+     * Tables with fewer estimated rows are small enough to be read sequentially.
+     */
+    private static final int LARGE_TABLE_MIN_ROWS = 10_000;
+
+    private static final Pattern SEQUENTIAL_SCAN_PATTERN = Pattern.compile("Seq Scan on (\\w+)");
+
+    private static final long USER_ID = 10_000_001;
+    private static final long OTHER_USER_ID = 10_000_002;
+    private static final long GROUP_ID = 10_000_002;
+    private static final long COURSE_ID = 10_000_001;
+    private static final long LESSON_ID = 1;
+    private static final String LOCALE = "da";
+    private static final String FALLBACK_LOCALE = "en";
+
+    private static final RepositoryQueryInvocations.Parameters QUERY_PARAMETERS = new RepositoryQueryInvocations.Parameters(
+        USER_ID,
+        OTHER_USER_ID,
+        GROUP_ID,
+        COURSE_ID,
+        LESSON_ID,
+        LOCALE,
+        FALLBACK_LOCALE
+    );
+
+    @Autowired
+    private RepositoryQueryInvocations queryInvocations;
+
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void Should_InvokeEveryQueryMethod_When_CheckingQueryPlans() {
+        // GIVEN
+        final var queryMethodNames = REPOSITORIES.stream()
+            .flatMap(repository ->
+                Arrays.stream(repository.getDeclaredMethods())
+                    .filter(method -> method.isAnnotationPresent(Query.class))
+                    .map(method -> repository.getSimpleName() + "." + method.getName())
+            )
+            .collect(Collectors.toSet());
+
+        // WHEN
+        final var invokedMethodNames = queryInvocations.create(QUERY_PARAMETERS).keySet();
+
+        // THEN
+        final var notInvokedMethodNames = new HashSet<>(queryMethodNames);
+        notInvokedMethodNames.removeAll(invokedMethodNames);
+        assertTrue(notInvokedMethodNames.isEmpty(), "Query methods missing from the suite: " + notInvokedMethodNames);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> Should_NotScanLargeTablesSequentially_When_ExecutingQuery() {
+        final var largeTables = findLargeTables();
+        assertFalse(largeTables.isEmpty(), "The query plan dataset has not been seeded");
+
+        return queryInvocations
+            .create(QUERY_PARAMETERS)
+            .entrySet()
+            .stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(invocation ->
+                DynamicTest.dynamicTest(invocation.getKey(), () -> {
+                    // WHEN
+                    final var statements = sqlStatementRecorder.record(invocation.getValue());
+
+                    // THEN
+                    assertFalse(statements.isEmpty());
+                    for (final var statement : statements) {
+                        final var plan = explain(statement);
+                        final var matcher = SEQUENTIAL_SCAN_PATTERN.matcher(plan);
+                        while (matcher.find()) {
+                            assertFalse(
+                                largeTables.contains(matcher.group(1)),
+                                "Sequential scan on " + matcher.group(1) + " in:\n" + statement.sql() + "\n" + plan
+                            );
+                        }
+                    }
+                })
+            );
+    }
+
+    private Set<String> findLargeTables() {
+        return new HashSet<>(
+            jdbcTemplate.queryForList(
+                "SELECT relname FROM pg_class WHERE relkind = 'r' AND reltuples >= ?",
+                String.class,
+                LARGE_TABLE_MIN_ROWS
+            )
+        );
+    }
+
+    /**
+     * Explains a recorded statement with the parameters it was executed with.
+     *
+     * @param statement recorded statement
+     * @return query plan in text format
+     */
+    private String explain(final RecordedStatement statement) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (final var preparedStatement = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+                if (!statement.parameters().isEmpty()) {
+                    setParameters(preparedStatement, statement);
+                }
+
+                final var plan = new StringJoiner("\n");
+                try (final var resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private static void setParameters(final PreparedStatement preparedStatement, final RecordedStatement statement)
+        throws SQLException {
+        for (final var operation : statement.parameters().getFirst()) {
+            try {
+                operation.getMethod().invoke(preparedStatement, operation.getArgs());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                throw new SQLException(e.getCause());
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -96,6 +97,24 @@ class AuthControllerTest extends ControllerTest {
             );
     }
 
+    @Test
+    void Should_RejectTamperedToken_When_OriginalTokenWasVerifiedBefore() {
+        // GIVEN
+        final var token = authJwtService.buildJwt("mrmasterkey", 1L, "en", UserRole.STUDENT_ROLE_GROUP.getAuthorityNames());
+        final var signatureStart = token.lastIndexOf('.') + 1;
+        final var tamperedSignatureCharacter = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        final var tamperedToken =
+            token.substring(0, signatureStart) + tamperedSignatureCharacter + token.substring(signatureStart + 1);
+
+        // WHEN
+        final var response = getUserMainView(token);
+        final var tamperedTokenResponse = getUserMainView(tamperedToken);
+
+        // THEN
+        response.expectStatus().is2xxSuccessful();
+        tamperedTokenResponse.expectStatus().is4xxClientError();
+    }
+
     @ParameterizedTest
     @MethodSource("Should_ReturnUnauthorized_When_AttemptToLogInWithIncorrectCredentials_Source")
     void Should_ReturnUnauthorized_When_AttemptToLogInWithIncorrectCredentials(String username, String password) {
@@ -306,4 +325,12 @@ class AuthControllerTest extends ControllerTest {
         response.expectCookie().secure(cookieName, true);
         response.expectCookie().maxAge(cookieName, Duration.ofSeconds(-1));
     }
+
+    private WebTestClient.ResponseSpec getUserMainView(final String token) {
+        return webClient
+            .get()
+            .uri(builder -> builder.path("/user/main-view").queryParam("listLength", 5).build())
+            .header("Authorization", jwtConfig.getAuthorizationHeaderPrefix() + token)
+            .exchange();
+    }
 }
@@ -1,7 +1,9 @@
 package com.kwezal.bearinmind.core.config;
 
+import com.kwezal.bearinmind.core.utils.SqlStatementRecorder;
 import com.zaxxer.hikari.HikariDataSource;
 import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -10,7 +12,12 @@ import org.testcontainers.containers.PostgreSQLContainer;
 public class DataSourceConfiguration {
 
     @Bean
-    DataSource dataSource() {
+    SqlStatementRecorder sqlStatementRecorder() {
+        return new SqlStatementRecorder();
+    }
+
+    @Bean
+    DataSource dataSource(final SqlStatementRecorder sqlStatementRecorder) {
         final var postgresContainer = createPostgresContainer();
         postgresContainer.start();
 
@@ -22,13 +29,14 @@ public class DataSourceConfiguration {
         dataSource.setUsername(postgresContainer.getUsername());
         dataSource.setPassword(postgresContainer.getPassword());
         dataSource.setDriverClassName(postgresContainer.getDriverClassName());
-        return dataSource;
+        return ProxyDataSourceBuilder.create(dataSource).listener(sqlStatementRecorder).build();
     }
 
     private PostgreSQLContainer<?> createPostgresContainer() {
         return new PostgreSQLContainer<>("postgres:14")
             .withUsername("postgres")
             .withPassword("postgres")
+            .withUrlParam("reWriteBatchedInserts", "true")
             .withCommand("postgres -c fsync=off -c max_connections=300")
             .waitingFor(new org.testcontainers.containers.wait.strategy.HostPortWaitStrategy());
     }
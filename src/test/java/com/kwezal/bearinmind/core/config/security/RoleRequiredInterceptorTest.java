@@ -0,0 +1,109 @@
+package com.kwezal.bearinmind.core.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.http.HttpMethod.GET;
+
+import com.kwezal.bearinmind.core.ControllerSecurityTest;
+import com.kwezal.bearinmind.core.user.dto.UserRole;
+import com.kwezal.bearinmind.core.utils.AuthHelper;
+import com.kwezal.bearinmind.exception.AuthorizationException;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(RoleRequiredInterceptorTest.GuardedService.class)
+class RoleRequiredInterceptorTest extends ControllerSecurityTest {
+
+    @Override
+    public String urlBase() {
+        return "/late";
+    }
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private GuardedService guardedService;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void Should_ReturnUnauthorized_When_StudentRequestsGuardedHandlerRegisteredAfterStartup() throws NoSuchMethodException {
+        // GIVEN
+        final var mapping = RequestMappingInfo.paths("/late/guarded")
+            .methods(RequestMethod.GET)
+            .options(handlerMapping.getBuilderConfiguration())
+            .build();
+        handlerMapping.registerMapping(mapping, new LateController(), LateController.class.getMethod("guarded"));
+
+        try {
+            // WHEN
+            final var response = request(GET, "/guarded", UserRole.STUDENT_ROLE_GROUP, null);
+
+            // THEN
+            response.expectStatus().isUnauthorized();
+
+            // AND
+            request(GET, "/guarded", UserRole.TEACHER_ROLE_GROUP, null).expectStatus().is2xxSuccessful();
+        } finally {
+            handlerMapping.unregisterMapping(mapping);
+        }
+    }
+
+    @Test
+    void Should_ThrowAuthorizationException_When_StudentCallsGuardedMethodOfNonControllerBean() {
+        // GIVEN
+        authenticate(UserRole.STUDENT_ROLE_GROUP);
+
+        // WHEN
+        assertThrows(AuthorizationException.class, guardedService::guarded);
+
+        // THEN
+        authenticate(UserRole.TEACHER_ROLE_GROUP);
+        assertEquals("guarded", guardedService.guarded());
+    }
+
+    private static void authenticate(final UserRole role) {
+        final var authentication = new UsernamePasswordAuthenticationToken("test", null, List.of());
+        authentication.setDetails(new JwtAuthenticationDetails("en", AuthHelper.DEFAULT_USER_ID, role.getUserRoles()));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    /**
+     * Controller which is not a bean, so its handler method is unknown to the interceptor until it is first requested.
+     */
+    public static class LateController {
+
+        @RoleRequired(UserRole.TEACHER)
+        @ResponseBody
+        public String guarded() {
+            return "guarded";
+        }
+    }
+
+    @TestComponent
+    public static class GuardedService {
+
+        @RoleRequired(UserRole.TEACHER)
+        public String guarded() {
+            return "guarded";
+        }
+    }
+}
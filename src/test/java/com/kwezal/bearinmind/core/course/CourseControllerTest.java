@@ -3,6 +3,7 @@ package com.kwezal.bearinmind.core.course;
 import static com.kwezal.bearinmind.core.utils.AssertionUtils.assertEqualsIgnoringOrder;
 import static com.kwezal.bearinmind.core.utils.AssertionUtils.assertTimeDifferenceLessOrEqual;
 import static com.kwezal.bearinmind.core.utils.TestConstants.NONEXISTENT_ID;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,22 +15,31 @@ import com.kwezal.bearinmind.core.course.model.CourseUserData;
 import com.kwezal.bearinmind.core.course.repository.CourseRepository;
 import com.kwezal.bearinmind.core.course.repository.CourseUserDataRepository;
 import com.kwezal.bearinmind.core.exception.ErrorCode;
+import com.kwezal.bearinmind.core.pagination.dto.CursorPageDto;
+import com.kwezal.bearinmind.core.pagination.dto.SliceDto;
 import com.kwezal.bearinmind.core.user.dto.UserListItemDto;
 import com.kwezal.bearinmind.core.user.model.User;
 import com.kwezal.bearinmind.core.utils.AuthHelper;
 import com.kwezal.bearinmind.core.utils.Page;
+import com.kwezal.bearinmind.core.utils.SqlStatementRecorder;
+import com.kwezal.bearinmind.core.utils.StatementBudget;
 import com.kwezal.bearinmind.exception.response.ErrorResponse;
 import com.kwezal.bearinmind.translation.model.Translation;
 import com.kwezal.bearinmind.translation.repository.TranslationRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -52,6 +62,7 @@ import reactor.core.publisher.Mono;
         "/db/cleanup/COURSE_LESSON_PART.sql",
         "/db/cleanup/COURSE_LESSON.sql",
         "/db/cleanup/COURSE.sql",
+        "/db/cleanup/IMAGE.sql",
     },
     executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
 )
@@ -87,6 +98,12 @@ class CourseControllerTest extends ControllerTest {
     @Autowired
     private CourseUserDataRepository courseUserDataRepository;
 
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Transactional
     @Test
     void Should_CreateCourseWithoutLessons_When_CorrectRequest() {
@@ -307,6 +324,78 @@ class CourseControllerTest extends ControllerTest {
             });
     }
 
+    @Test
+    void Should_CreateAllCourseTranslationsInSingleBatch_When_CreatingCourseWithLessons() {
+        // GIVEN
+        final var lessonCount = 3;
+        final var lessons = IntStream.rangeClosed(1, lessonCount)
+            .mapToObj(lesson ->
+                new CreateCourseLessonDto(
+                    Map.of(applicationLocale, Map.of(LESSON_TOPIC_TRANSLATION_KEY, "Lesson " + lesson)),
+                    null,
+                    List.of(
+                        new CreateCourseLessonPartDto(Map.of(applicationLocale, "Part of lesson " + lesson), null),
+                        new CreateCourseLessonPartDto(null, "StackOverFlow:https://stackoverflow.com/")
+                    )
+                )
+            )
+            .toList();
+        final var name = "This is the name of a new course";
+        final var dto = new CreateCourseDto(
+            Map.of(applicationLocale, Map.of(COURSE_NAME_TRANSLATION_KEY, name)),
+            null,
+            null,
+            null,
+            lessons
+        );
+
+        // Course name, lesson topics and texts of parts which have one
+        final var expectedTranslationCount = 1 + lessonCount + lessonCount;
+
+        // WHEN
+        final var statements = sqlStatementRecorder.record(() ->
+            authHelper
+                .asTeacher(webClient.post().uri(url()).body(Mono.just(dto), CreateCourseDto.class))
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+        );
+
+        // THEN
+        final var translationInserts = statements
+            .stream()
+            .filter(statement -> statement.sql().toLowerCase().startsWith("insert into translations"))
+            .toList();
+        assertEquals(1, translationInserts.size());
+        assertEquals(expectedTranslationCount, translationInserts.getFirst().parameters().size());
+
+        // AND
+        final var nameTranslations = translationRepository
+            .findAll()
+            .stream()
+            .filter(translation -> name.equals(translation.getText()))
+            .toList();
+        assertEquals(1, nameTranslations.size());
+
+        // Identifiers are allocated outside the translations library, so check that the library reads the rows back
+        final var nameTranslation = translationRepository.findByIdentifierAndLocale(
+            nameTranslations.getFirst().getIdentifier(),
+            applicationLocale
+        );
+        assertTrue(nameTranslation.isPresent());
+        assertEquals(name, nameTranslation.get().getText());
+
+        // AND
+        final var lessonTextIdentifiers = translationRepository
+            .findAll()
+            .stream()
+            .filter(translation -> translation.getText().matches("(Part of )?[Ll]esson \\d+"))
+            .map(Translation::getIdentifier)
+            .collect(Collectors.toSet());
+        assertEquals(lessonCount + lessonCount, lessonTextIdentifiers.size());
+        assertFalse(lessonTextIdentifiers.contains(nameTranslations.getFirst().getIdentifier()));
+    }
+
     @ParameterizedTest
     @MethodSource("Should_ReturnBadRequest_When_AttemptToCreateCourseWithIncorrectLessonDate_Source")
     void Should_ReturnBadRequest_When_AttemptToCreateCourseWithIncorrectLessonDate(
@@ -518,6 +607,7 @@ class CourseControllerTest extends ControllerTest {
 
     @ParameterizedTest
     @MethodSource("Should_ReturnCoursesMainView_When_CorrectRequest_Source")
+    @StatementBudget(1)
     void Should_ReturnCoursesMainView_When_CorrectRequest(
         int listLength,
         List<Long> expectedConductedCourseIds,
@@ -611,6 +701,76 @@ class CourseControllerTest extends ControllerTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("Should_ReturnCourseNamesInUserLocale_When_CorrectRequest_Source")
+    void Should_ReturnCourseNamesInUserLocale_When_CorrectRequest(String endpoint, List<String> expectedCourseNames) {
+        // WHEN
+        final var response = authHelper
+            .asStudent(
+                webClient
+                    .get()
+                    .uri(builder -> url(builder, endpoint).queryParam("pageNumber", 0).queryParam("pageSize", 10).build())
+            )
+            .exchange();
+
+        // THEN
+        response.expectStatus().is2xxSuccessful();
+
+        // AND
+        response
+            .expectBody(new ParameterizedTypeReference<Page<CourseListItemDto>>() {})
+            .value(responseDto ->
+                assertEquals(expectedCourseNames, responseDto.getContent().stream().map(CourseListItemDto::name).toList())
+            );
+    }
+
+    private static Stream<Arguments> Should_ReturnCourseNamesInUserLocale_When_CorrectRequest_Source() {
+        return Stream.of(
+            // The user locale is Danish, only the English course is translated to it
+            Arguments.of("/list/available", List.of("Engelsk")),
+            // Other courses fall back to the application locale
+            Arguments.of("/list/completed", List.of("Kubernetes", "Administration"))
+        );
+    }
+
+    @Test
+    void Should_ReturnCardImagesFallingBackToOriginalImage_When_ListingCourses() {
+        // GIVEN
+        final var courseWithDerivatives = courseRepository.findById(9L).orElseThrow();
+        courseWithDerivatives.setImage("https://files/course/9/full.jpg");
+        courseWithDerivatives.setImageCard("https://files/course/9/card.jpg");
+        courseWithDerivatives.setImageThumbnail("https://files/course/9/thumbnail.jpg");
+        courseRepository.save(courseWithDerivatives);
+
+        final var courseWithoutDerivatives = courseRepository.findById(1L).orElseThrow();
+        courseWithoutDerivatives.setImage("https://files/course/1/image.png");
+        courseRepository.save(courseWithoutDerivatives);
+
+        // WHEN
+        final var response = authHelper
+            .asStudent(
+                webClient
+                    .get()
+                    .uri(builder ->
+                        url(builder, "/list/completed").queryParam("pageNumber", 0).queryParam("pageSize", 10).build()
+                    )
+            )
+            .exchange();
+
+        // THEN
+        response.expectStatus().is2xxSuccessful();
+
+        // AND
+        response
+            .expectBody(new ParameterizedTypeReference<Page<CourseListItemDto>>() {})
+            .value(responseDto ->
+                assertEquals(
+                    List.of("https://files/course/9/card.jpg", "https://files/course/1/image.png"),
+                    responseDto.getContent().stream().map(CourseListItemDto::image).toList()
+                )
+            );
+    }
+
     @ParameterizedTest
     @MethodSource("Should_ReturnBadRequest_When_AttemptToGetCoursesWithIncorrectData_Source")
     void Should_ReturnBadRequest_When_AttemptToGetCoursesWithIncorrectData(String endpoint, int pageNumber, int pageSize) {
@@ -645,8 +805,138 @@ class CourseControllerTest extends ControllerTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("Should_ReturnCourseSlice_When_CorrectRequest_Source")
+    void Should_ReturnCourseSlice_When_CorrectRequest(
+        String endpoint,
+        int pageSize,
+        boolean withTotal,
+        List<Long> expectedCourseIds,
+        boolean expectedHasNext,
+        Long expectedApproximateTotalElements
+    ) {
+        // GIVEN
+        final var pageNumber = 0;
+
+        // WHEN
+        final var response = authHelper
+            .asStudent(
+                webClient
+                    .get()
+                    .uri(builder ->
+                        url(builder, endpoint)
+                            .queryParam("pageNumber", pageNumber)
+                            .queryParam("pageSize", pageSize)
+                            .queryParam("withTotal", withTotal)
+                            .build()
+                    )
+            )
+            .exchange();
+
+        // THEN
+        response.expectStatus().is2xxSuccessful();
+
+        // AND
+        response
+            .expectBody(new ParameterizedTypeReference<SliceDto<CourseListItemDto>>() {})
+            .value(responseDto -> {
+                assertEquals(pageNumber, responseDto.number());
+                assertEquals(pageSize, responseDto.size());
+                assertEquals(expectedCourseIds, responseDto.content().stream().map(CourseListItemDto::id).toList());
+                assertEquals(expectedHasNext, responseDto.hasNext());
+                assertEquals(expectedApproximateTotalElements, responseDto.approximateTotalElements());
+            });
+    }
+
+    private static Stream<Arguments> Should_ReturnCourseSlice_When_CorrectRequest_Source() {
+        return Stream.of(
+            Arguments.of("/list/conducted/slice", 10, false, List.of(4L, 3L, 2L), false, null),
+            Arguments.of("/list/conducted/slice", 2, true, List.of(4L, 3L), true, 3L),
+            Arguments.of("/list/active/slice", 10, true, List.of(10L, 8L), false, 2L),
+            Arguments.of("/list/available/slice", 10, false, List.of(11L), false, null),
+            Arguments.of("/list/completed/slice", 1, true, List.of(9L), true, 2L)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("Should_ReturnAllCourses_When_FollowingCursors_Source")
+    void Should_ReturnAllCourses_When_FollowingCursors(String endpoint, List<Long> expectedCourseIds) {
+        // GIVEN
+        final var pageSize = 1;
+        final var courseIds = new ArrayList<Long>();
+        String cursor = null;
+
+        do {
+            final var currentCursor = cursor;
+
+            // WHEN
+            final var response = authHelper
+                .asStudent(
+                    webClient
+                        .get()
+                        .uri(builder ->
+                            url(builder, endpoint)
+                                .queryParamIfPresent("cursor", Optional.ofNullable(currentCursor))
+                                .queryParam("pageSize", pageSize)
+                                .build()
+                        )
+                )
+                .exchange();
+
+            // THEN
+            response.expectStatus().is2xxSuccessful();
+
+            // AND
+            final var responseDto = response
+                .expectBody(new ParameterizedTypeReference<CursorPageDto<CourseListItemDto>>() {})
+                .returnResult()
+                .getResponseBody();
+            assertNotNull(responseDto);
+            assertTrue(responseDto.content().size() <= pageSize);
+            responseDto.content().forEach(course -> courseIds.add(course.id()));
+            cursor = responseDto.nextCursor();
+        } while (nonNull(cursor));
+
+        assertEquals(expectedCourseIds, courseIds);
+    }
+
+    private static Stream<Arguments> Should_ReturnAllCourses_When_FollowingCursors_Source() {
+        return Stream.of(
+            Arguments.of("/list/conducted/cursor", List.of(4L, 3L, 2L)),
+            Arguments.of("/list/active/cursor", List.of(10L, 8L)),
+            Arguments.of("/list/available/cursor", List.of(11L)),
+            Arguments.of("/list/completed/cursor", List.of(9L, 1L))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = { "/list/conducted/cursor", "/list/active/cursor", "/list/available/cursor", "/list/completed/cursor" }
+    )
+    void Should_ReturnBadRequest_When_AttemptToGetCoursesWithMalformedCursor(String endpoint) {
+        // GIVEN
+        final var cursor = "malformed";
+        final var expectedErrorCode = ErrorCode.INVALID_PAGE_CURSOR;
+
+        // WHEN
+        final var response = authHelper
+            .asStudent(
+                webClient
+                    .get()
+                    .uri(builder -> url(builder, endpoint).queryParam("cursor", cursor).queryParam("pageSize", 10).build())
+            )
+            .exchange();
+
+        // THEN
+        response.expectStatus().isBadRequest();
+
+        // AND
+        response.expectBody(ErrorResponse.class).value(responseDto -> assertEquals(expectedErrorCode, responseDto.code()));
+    }
+
     @ParameterizedTest
     @MethodSource("Should_ReturnCoursePage_When_CorrectRequest_Source")
+    @StatementBudget(2)
     void Should_ReturnCoursePage_When_CorrectRequest(
         long courseId,
         String expectedName,
@@ -769,6 +1059,63 @@ class CourseControllerTest extends ControllerTest {
         );
     }
 
+    @Test
+    void Should_LoadCourseViewInTwoStatements_When_CorrectRequest() {
+        // GIVEN
+        final var courseId = 2L;
+
+        // WHEN
+        final var statements = sqlStatementRecorder.record(() ->
+            authHelper
+                .asStudent(webClient.get().uri(builder -> url(builder, "/{courseId}").build(courseId)))
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+        );
+
+        // THEN
+        // Course with lessons and the role of the user, then teachers
+        assertEquals(2, statements.size());
+    }
+
+    @Test
+    void Should_ReturnForbidden_When_AttemptToGetNonexistentCourse() {
+        // WHEN
+        final var response = authHelper
+            .asStudent(webClient.get().uri(builder -> url(builder, "/{courseId}").build(NONEXISTENT_ID)))
+            .exchange();
+
+        // THEN
+        // The same response as for an existing course the user has no access to, so that course IDs cannot be probed
+        response.expectStatus().isForbidden();
+    }
+
+    @Test
+    void Should_RecordStatementsOfCourseView_When_CorrectRequest() {
+        // GIVEN
+        final var courseId = 2L;
+        final var statementsBefore = findRequestStatementSummary("/course/{id}");
+        final var requestCountBefore = isNull(statementsBefore) ? 0 : statementsBefore.count();
+        final var statementCountBefore = isNull(statementsBefore) ? 0 : statementsBefore.totalAmount();
+
+        // WHEN
+        authHelper
+            .asStudent(webClient.get().uri(builder -> url(builder, "/{courseId}").build(courseId)))
+            .exchange()
+            .expectStatus()
+            .is2xxSuccessful();
+
+        // THEN
+        final var statements = findRequestStatementSummary("/course/{id}");
+        assertNotNull(statements);
+        assertEquals(requestCountBefore + 1, statements.count());
+        assertEquals(statementCountBefore + 2, statements.totalAmount());
+    }
+
+    private DistributionSummary findRequestStatementSummary(String uri) {
+        return meterRegistry.find("hibernate.request.statements").tags("method", "GET", "uri", uri).summary();
+    }
+
     @Test
     void Should_ReturnBadRequest_When_AttemptToGetCoursePageWithIncorrectData() {
         // GIVEN
@@ -801,6 +1148,8 @@ class CourseControllerTest extends ControllerTest {
                 nameIdentifier,
                 descriptionIdentifier,
                 null,
+                null,
+                null,
                 startDateTime,
                 endDateTime,
                 creationDateTime,
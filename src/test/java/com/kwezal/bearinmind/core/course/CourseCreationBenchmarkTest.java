@@ -0,0 +1,243 @@
+package com.kwezal.bearinmind.core.course;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kwezal.bearinmind.core.config.security.JwtAuthenticationDetails;
+import com.kwezal.bearinmind.core.course.dto.CreateCourseDto;
+import com.kwezal.bearinmind.core.course.dto.CreateCourseLessonDto;
+import com.kwezal.bearinmind.core.course.dto.CreateCourseLessonPartDto;
+import com.kwezal.bearinmind.core.course.service.CourseService;
+import com.kwezal.bearinmind.core.user.dto.UserRole;
+import com.kwezal.bearinmind.core.utils.AuthHelper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares the latency of inserting rows with IDs generated by the database on insert (IDENTITY), which makes
+ * Hibernate send every insert on its own to read the ID back, and with IDs allocated in blocks of 50 from a sequence
+ * (SEQUENCE), which lets inserts be batched. The statements Hibernate sends in both cases are replayed with
+ * {@link JdbcTemplate} against scratch tables, so that no second entity is mapped onto an application table.
+ * Also compares creating a course with many lessons and parts with JDBC batching disabled and with the configured batch size.
+ * Excluded from regular builds; run with {@code mvn test -P benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Sql(
+    scripts = {
+        "/db/cleanup/COURSE_USER_DATA.sql",
+        "/db/cleanup/COURSE_LESSON_PART.sql",
+        "/db/cleanup/COURSE_LESSON.sql",
+        "/db/cleanup/COURSE.sql",
+        "/db/cleanup/TRANSLATION.sql",
+    },
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
+)
+@SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+class CourseCreationBenchmarkTest {
+
+    private static final int LESSON_COUNT = 40;
+    private static final int PART_COUNT = 10;
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    private static final int UNBATCHED_JDBC_BATCH_SIZE = 1;
+
+    private static final int INSERTED_ROW_COUNT = LESSON_COUNT * PART_COUNT;
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String IDENTITY_TABLE = "identity_benchmark";
+    private static final String SEQUENCE_TABLE = "sequence_benchmark";
+    private static final String SEQUENCE = "sequence_benchmark_id_seq";
+
+    @Value("${application.locale}")
+    private String applicationLocale;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int jdbcBatchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CourseService courseService;
+
+    @BeforeEach
+    void authenticate() {
+        final var roles = UserRole.TEACHER_ROLE_GROUP.getUserRoles();
+        final var authentication = new UsernamePasswordAuthenticationToken("benchmark", null, List.of());
+        authentication.setDetails(new JwtAuthenticationDetails(applicationLocale, AuthHelper.DEFAULT_USER_ID, roles));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void Should_InsertRowsFaster_When_IdsAreAllocatedFromPooledSequence() {
+        // GIVEN
+        jdbcTemplate.execute(
+            "CREATE TABLE " + IDENTITY_TABLE + " (id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, ordinal int NOT NULL)"
+        );
+        jdbcTemplate.execute("CREATE TABLE " + SEQUENCE_TABLE + " (id bigint PRIMARY KEY, ordinal int NOT NULL)");
+        jdbcTemplate.execute("CREATE SEQUENCE " + SEQUENCE + " INCREMENT BY " + ID_ALLOCATION_SIZE);
+
+        try {
+            // WHEN
+            final var identityNanos = measure(this::insertRowsWithIdentity);
+            final var sequenceNanos = measure(this::insertRowsWithSequence);
+
+            // THEN
+            log.info(
+                "Inserting {} rows: IDENTITY {}, SEQUENCE {}",
+                INSERTED_ROW_COUNT,
+                summarize(identityNanos),
+                summarize(sequenceNanos)
+            );
+            assertTrue(percentile(sequenceNanos, 50) < percentile(identityNanos, 50));
+        } finally {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + IDENTITY_TABLE + ", " + SEQUENCE_TABLE);
+            jdbcTemplate.execute("DROP SEQUENCE IF EXISTS " + SEQUENCE);
+        }
+    }
+
+    @Test
+    void Should_CreateCourseFaster_When_InsertsAreBatched() {
+        // GIVEN
+        final var dto = createCourseDto();
+
+        // WHEN
+        final var unbatchedNanos = measure(() -> createCourse(dto, UNBATCHED_JDBC_BATCH_SIZE));
+        final var batchedNanos = measure(() -> createCourse(dto, jdbcBatchSize));
+
+        // THEN
+        log.info(
+            "Creating a course with {} lessons of {} parts: unbatched {}, batched {}",
+            LESSON_COUNT,
+            PART_COUNT,
+            summarize(unbatchedNanos),
+            summarize(batchedNanos)
+        );
+        assertTrue(percentile(batchedNanos, 50) < percentile(unbatchedNanos, 50));
+    }
+
+    private static long[] measure(final Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+
+        final var nanos = new long[MEASUREMENT_ITERATIONS];
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            final var start = System.nanoTime();
+            operation.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    /**
+     * Inserts rows one by one, reading back every generated ID, as Hibernate does for IDENTITY.
+     */
+    private void insertRowsWithIdentity() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int ordinal = 1; ordinal <= INSERTED_ROW_COUNT; ordinal++) {
+                jdbcTemplate.queryForObject(
+                    "INSERT INTO " + IDENTITY_TABLE + " (ordinal) VALUES (?) RETURNING id",
+                    Long.class,
+                    ordinal
+                );
+            }
+        });
+    }
+
+    /**
+     * Fetches a block of IDs with a single call to the sequence for every 50 rows and inserts the rows in batches,
+     * as Hibernate does for SEQUENCE with a pooled optimizer.
+     */
+    private void insertRowsWithSequence() {
+        transactionTemplate.executeWithoutResult(status -> {
+            final var rows = new ArrayList<Object[]>(INSERTED_ROW_COUNT);
+            long nextId = 0;
+            long lastAllocatedId = -1;
+            for (int ordinal = 1; ordinal <= INSERTED_ROW_COUNT; ordinal++) {
+                if (nextId > lastAllocatedId) {
+                    nextId = jdbcTemplate.queryForObject("SELECT nextval('" + SEQUENCE + "')", Long.class);
+                    lastAllocatedId = nextId + ID_ALLOCATION_SIZE - 1;
+                }
+                rows.add(new Object[] { nextId++, ordinal });
+            }
+
+            for (int from = 0; from < rows.size(); from += jdbcBatchSize) {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO " + SEQUENCE_TABLE + " (id, ordinal) VALUES (?, ?)",
+                    rows.subList(from, Math.min(from + jdbcBatchSize, rows.size()))
+                );
+            }
+        });
+    }
+
+    private void createCourse(final CreateCourseDto dto, final int batchSize) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            courseService.createCourse(dto);
+        });
+    }
+
+    private CreateCourseDto createCourseDto() {
+        final var lessons = new ArrayList<CreateCourseLessonDto>(LESSON_COUNT);
+        for (int lesson = 1; lesson <= LESSON_COUNT; lesson++) {
+            final var parts = IntStream.rangeClosed(1, PART_COUNT)
+                .mapToObj(part -> new CreateCourseLessonPartDto(Map.of(applicationLocale, "Part " + part), null))
+                .toList();
+            lessons.add(new CreateCourseLessonDto(Map.of(applicationLocale, Map.of("topic", "Lesson " + lesson)), null, parts));
+        }
+
+        final var startDateTime = OffsetDateTime.now();
+        return new CreateCourseDto(
+            Map.of(applicationLocale, Map.of("name", "Benchmark course")),
+            startDateTime,
+            startDateTime.plusYears(1),
+            null,
+            lessons
+        );
+    }
+
+    private static String summarize(final long[] sortedNanos) {
+        return "p50 %.1f ms, p95 %.1f ms".formatted(percentile(sortedNanos, 50) / 1e6, percentile(sortedNanos, 95) / 1e6);
+    }
+
+    private static long percentile(final long[] sortedNanos, final int percentile) {
+        return sortedNanos[(int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1];
+    }
+}
@@ -1,5 +1,7 @@
 package com.kwezal.bearinmind.core.course;
 
+import static java.util.Objects.isNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.HttpMethod.PUT;
 
@@ -7,12 +9,15 @@ import com.kwezal.bearinmind.core.ControllerSecurityTest;
 import com.kwezal.bearinmind.core.course.dto.CreateCourseLessonDto;
 import com.kwezal.bearinmind.core.course.dto.UpdateCourseLessonDto;
 import com.kwezal.bearinmind.core.user.dto.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Collections;
 import java.util.Map;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 
@@ -24,6 +29,9 @@ public class CourseLessonControllerSecurityTest extends ControllerSecurityTest {
         return "/course";
     }
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @ParameterizedTest
     @MethodSource("Should_ReturnUnauthorized_When_DoesNotHaveRequiredRole_Source")
     void Should_ReturnUnauthorized_When_DoesNotHaveRequiredRole(HttpMethod method, String path, UserRole role, Object body) {
@@ -45,4 +53,26 @@ public class CourseLessonControllerSecurityTest extends ControllerSecurityTest {
             Arguments.of(PUT, "/lesson/1", UserRole.STUDENT_ROLE_GROUP, new UpdateCourseLessonDto(Collections.emptyMap(), null))
         );
     }
+
+    @Test
+    void Should_CountRejectedRequestByRouteTemplate_When_DoesNotHaveRequiredRole() {
+        // GIVEN
+        final var body = new UpdateCourseLessonDto(Collections.emptyMap(), null);
+        final var countBefore = countAuthorizationExceptions("/course/lesson/{id}");
+
+        // WHEN
+        final var response = request(PUT, "/lesson/1", UserRole.STUDENT_ROLE_GROUP, body);
+
+        // THEN
+        response.expectStatus().isUnauthorized();
+        assertEquals(countBefore + 1, countAuthorizationExceptions("/course/lesson/{id}"));
+    }
+
+    private double countAuthorizationExceptions(final String uri) {
+        final var counter = meterRegistry
+            .find("http.server.exceptions")
+            .tags("method", "PUT", "uri", uri, "exception", "AuthorizationException")
+            .counter();
+        return isNull(counter) ? 0 : counter.count();
+    }
 }
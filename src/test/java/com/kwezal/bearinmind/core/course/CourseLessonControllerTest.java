@@ -12,6 +12,7 @@ import com.kwezal.bearinmind.core.course.model.CourseLesson;
 import com.kwezal.bearinmind.core.course.repository.CourseLessonRepository;
 import com.kwezal.bearinmind.core.exception.ErrorCode;
 import com.kwezal.bearinmind.core.utils.AuthHelper;
+import com.kwezal.bearinmind.core.utils.SqlStatementRecorder;
 import com.kwezal.bearinmind.exception.response.ErrorResponse;
 import com.kwezal.bearinmind.translation.model.Translation;
 import com.kwezal.bearinmind.translation.repository.TranslationRepository;
@@ -68,6 +69,9 @@ class CourseLessonControllerTest extends ControllerTest {
     @Autowired
     private AuthHelper authHelper;
 
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+
     @Transactional
     @ParameterizedTest
     @MethodSource("Should_CreateCourseLesson_When_CorrectRequest_Source")
@@ -472,6 +476,25 @@ class CourseLessonControllerTest extends ControllerTest {
             });
     }
 
+    @Test
+    void Should_LoadCourseLessonInSingleStatement_When_CorrectRequest() {
+        // GIVEN
+        final var id = 101;
+
+        // WHEN
+        final var statements = sqlStatementRecorder.record(() ->
+            authHelper
+                .asStudent(webClient.get().uri(builder -> url(builder, "/lesson/{id}").build(id)))
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+        );
+
+        // THEN
+        // Lesson with parts and the enrollment of the user
+        assertEquals(1, statements.size());
+    }
+
     @Test
     void Should_ReturnForbidden_When_AttemptToGetCourseLessonWithoutHavingRoleInCourse() {
         // GIVEN
@@ -551,6 +574,8 @@ class CourseLessonControllerTest extends ControllerTest {
                 topicIdentifier,
                 descriptionIdentifier,
                 null,
+                null,
+                null,
                 ordinal,
                 startDateTime,
                 List.of()
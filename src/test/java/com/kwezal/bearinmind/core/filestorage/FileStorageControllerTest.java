@@ -0,0 +1,258 @@
+package com.kwezal.bearinmind.core.filestorage;
+
+import static com.kwezal.bearinmind.core.exception.ErrorCode.INVALID_UPLOAD_OFFSET;
+import static com.kwezal.bearinmind.core.exception.ErrorCode.UPLOAD_INCOMPLETE;
+import static com.kwezal.bearinmind.core.exception.ErrorCode.UPLOAD_LIMIT_EXCEEDED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.kwezal.bearinmind.core.ControllerTest;
+import com.kwezal.bearinmind.core.course.model.CourseLessonPart;
+import com.kwezal.bearinmind.core.course.repository.CourseLessonPartRepository;
+import com.kwezal.bearinmind.core.filestorage.dto.InitiateUploadDto;
+import com.kwezal.bearinmind.core.filestorage.dto.UploadStatusDto;
+import com.kwezal.bearinmind.core.filestorage.service.RecordingFileStorageClient;
+import com.kwezal.bearinmind.core.filestorage.service.RecordingFileStorageClientConfig;
+import com.kwezal.bearinmind.core.utils.AuthHelper;
+import com.kwezal.bearinmind.exception.response.ErrorResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(RecordingFileStorageClientConfig.class)
+@Sql(scripts = "/db/cleanup/COURSE_LESSON_PART.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
+class FileStorageControllerTest extends ControllerTest {
+
+    // Lesson of a course owned by the default user
+    private static final long LESSON_ID = 1;
+
+    @Override
+    public String urlBase() {
+        return "/file";
+    }
+
+    @Autowired
+    private AuthHelper authHelper;
+
+    @Autowired
+    private RecordingFileStorageClient fileStorageClient;
+
+    @Autowired
+    private CourseLessonPartRepository courseLessonPartRepository;
+
+    private final List<String> uploadIds = new ArrayList<>();
+
+    @AfterEach
+    void abortUploads() {
+        uploadIds.forEach(uploadId ->
+            authHelper
+                .asTeacher(webClient.delete().uri(builder -> url(builder, "/upload/{uploadId}").build(uploadId)))
+                .exchange()
+        );
+        fileStorageClient.reset();
+    }
+
+    @Test
+    void Should_ResumeUploadFromReceivedBytes_When_ChunksAreUploaded() {
+        // GIVEN
+        final var uploadId = initiateUpload("notes.pdf", 10);
+        uploadChunk(uploadId, 0, new byte[6]).expectStatus().is2xxSuccessful();
+
+        // WHEN
+        final var statusResponse = authHelper
+            .asTeacher(webClient.get().uri(builder -> url(builder, "/upload/{uploadId}").build(uploadId)))
+            .exchange();
+
+        // THEN
+        statusResponse.expectStatus().is2xxSuccessful();
+        statusResponse.expectBody(UploadStatusDto.class).value(responseDto -> assertEquals(6, responseDto.receivedBytes()));
+
+        // AND
+        uploadChunk(uploadId, 6, new byte[4])
+            .expectBody(UploadStatusDto.class)
+            .value(responseDto -> assertEquals(10, responseDto.receivedBytes()));
+    }
+
+    @Test
+    void Should_AcceptChunkAgain_When_ChunkIsResent() {
+        // GIVEN
+        final var uploadId = initiateUpload("notes.pdf", 10);
+        uploadChunk(uploadId, 0, new byte[6]).expectStatus().is2xxSuccessful();
+
+        // WHEN
+        final var response = uploadChunk(uploadId, 0, new byte[6]);
+
+        // THEN
+        response.expectStatus().is2xxSuccessful();
+
+        // AND
+        response.expectBody(UploadStatusDto.class).value(responseDto -> assertEquals(6, responseDto.receivedBytes()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_ChunkOffsetLeavesGap() {
+        // GIVEN
+        final var uploadId = initiateUpload("notes.pdf", 10);
+
+        // WHEN
+        final var response = uploadChunk(uploadId, 5, new byte[5]);
+
+        // THEN
+        response.expectStatus().isBadRequest();
+
+        // AND
+        response.expectBody(ErrorResponse.class).value(responseDto -> assertEquals(INVALID_UPLOAD_OFFSET, responseDto.code()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_UploadIsCompletedBeforeAllBytesAreReceived() {
+        // GIVEN
+        final var uploadId = initiateUpload("notes.pdf", 10);
+        uploadChunk(uploadId, 0, new byte[6]).expectStatus().is2xxSuccessful();
+
+        // WHEN
+        final var response = authHelper
+            .asTeacher(webClient.post().uri(builder -> url(builder, "/upload/{uploadId}/complete").build(uploadId)))
+            .exchange();
+
+        // THEN
+        response.expectStatus().isBadRequest();
+
+        // AND
+        response.expectBody(ErrorResponse.class).value(responseDto -> assertEquals(UPLOAD_INCOMPLETE, responseDto.code()));
+    }
+
+    @Test
+    void Should_SendFileAndAttachItToLesson_When_UploadIsCompleted() {
+        // GIVEN
+        final var uploadId = initiateUpload("notes.pdf", 10);
+        uploadChunk(uploadId, 0, new byte[6]).expectStatus().is2xxSuccessful();
+        uploadChunk(uploadId, 6, new byte[4]).expectStatus().is2xxSuccessful();
+
+        // WHEN
+        final var url = authHelper
+            .asTeacher(webClient.post().uri(builder -> url(builder, "/upload/{uploadId}/complete").build(uploadId)))
+            .exchange()
+            .expectStatus()
+            .is2xxSuccessful()
+            .expectBody(String.class)
+            .returnResult()
+            .getResponseBody();
+
+        // THEN
+        final var uploadedFile = new RecordingFileStorageClient.UploadedFile(url, "notes.pdf", 10);
+        assertEquals(List.of(uploadedFile), fileStorageClient.getUploadedFiles());
+
+        // AND
+        final var attachments = courseLessonPartRepository
+            .findAll()
+            .stream()
+            .map(CourseLessonPart::getAttachments)
+            .filter(("notes.pdf:" + url)::equals)
+            .toList();
+        assertEquals(1, attachments.size());
+    }
+
+    @Test
+    void Should_ReturnForbidden_When_UploadIsInitiatedForLessonOfCourseNotOwnedByUser() {
+        // GIVEN
+        final var lessonOfCourseWhereUserIsTeacherId = 101L;
+        final var dto = new InitiateUploadDto(lessonOfCourseWhereUserIsTeacherId, "notes.pdf", 10L);
+
+        // WHEN
+        final var response = requestUpload(dto);
+
+        // THEN
+        response.expectStatus().isForbidden();
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_UserHasTooManyUploadsInProgress() {
+        // GIVEN
+        final var maxOpenUploads = 5;
+        for (int i = 0; i < maxOpenUploads; i++) {
+            initiateUpload("notes" + i + ".pdf", 10);
+        }
+
+        // WHEN
+        final var response = requestUpload(new InitiateUploadDto(LESSON_ID, "notes.pdf", 10L));
+
+        // THEN
+        response.expectStatus().isBadRequest();
+
+        // AND
+        response.expectBody(ErrorResponse.class).value(responseDto -> assertEquals(UPLOAD_LIMIT_EXCEEDED, responseDto.code()));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_FileNameContainsDirectory() {
+        // GIVEN
+        final var dto = new InitiateUploadDto(LESSON_ID, "../notes.pdf", 10L);
+
+        // WHEN
+        final var response = requestUpload(dto);
+
+        // THEN
+        response.expectStatus().isBadRequest();
+    }
+
+    @Test
+    void Should_ReturnNotFound_When_UploadIsAborted() {
+        // GIVEN
+        final var uploadId = initiateUpload("notes.pdf", 10);
+        authHelper
+            .asTeacher(webClient.delete().uri(builder -> url(builder, "/upload/{uploadId}").build(uploadId)))
+            .exchange()
+            .expectStatus()
+            .is2xxSuccessful();
+
+        // WHEN
+        final var response = uploadChunk(uploadId, 0, new byte[10]);
+
+        // THEN
+        response.expectStatus().isNotFound();
+    }
+
+    private String initiateUpload(final String fileName, final long size) {
+        final var dto = new InitiateUploadDto(LESSON_ID, fileName, size);
+        final var uploadId = requestUpload(dto)
+            .expectStatus()
+            .is2xxSuccessful()
+            .expectBody(UploadStatusDto.class)
+            .returnResult()
+            .getResponseBody()
+            .uploadId();
+        uploadIds.add(uploadId);
+        return uploadId;
+    }
+
+    private WebTestClient.ResponseSpec requestUpload(final InitiateUploadDto dto) {
+        return authHelper
+            .asTeacher(
+                webClient.post().uri(builder -> url(builder, "/upload").build()).body(Mono.just(dto), InitiateUploadDto.class)
+            )
+            .exchange();
+    }
+
+    private WebTestClient.ResponseSpec uploadChunk(final String uploadId, final long offset, final byte[] content) {
+        return authHelper
+            .asTeacher(
+                webClient
+                    .put()
+                    .uri(builder -> url(builder, "/upload/{uploadId}").queryParam("offset", offset).build(uploadId))
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .bodyValue(content)
+            )
+            .exchange();
+    }
+}
@@ -0,0 +1,185 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kwezal.bearinmind.core.config.FileStorageClientConfig;
+import com.kwezal.bearinmind.core.filestorage.FileStorageConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Runs {@link FileStorageClient} against a local stub of the file storage.
+ */
+class FileStorageClientTest {
+
+    private static final String FILE_URL = "http://localhost/files/image.png";
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private HttpServer stubServer;
+    private volatile IntFunction<Integer> stubResponse;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/", this::handle);
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.start();
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void Should_RetryDelete_When_FileStorageRespondsWithServerError() {
+        // GIVEN
+        stubResponse = request -> request < 3 ? 503 : 200;
+        final var client = createClient(createConfig());
+
+        // WHEN
+        client.delete(FILE_URL);
+
+        // THEN
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    void Should_StopRetryingDelete_When_MaxAttemptsReached() {
+        // GIVEN
+        stubResponse = request -> 503;
+        final var config = createConfig();
+        final var client = createClient(config);
+
+        // WHEN
+        assertThrows(HttpServerErrorException.class, () -> client.delete(FILE_URL));
+
+        // THEN
+        assertEquals(config.getDeleteMaxAttempts(), requestCount.get());
+    }
+
+    @Test
+    void Should_FailUpload_When_FileStorageRespondsSlowerThanUploadTimeout() throws IOException {
+        // GIVEN
+        stubResponse = request -> {
+            sleep(2000);
+            return 200;
+        };
+        final var config = createConfig();
+        config.setUploadTimeoutMillis(200);
+        final var client = createClient(config);
+        final var file = createFile();
+
+        // WHEN
+        final var start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> client.upload(file.toFile(), "USER", "1"));
+
+        // THEN
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1500));
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void Should_RejectUpload_When_TooManyRequestsAreInProgress() throws Exception {
+        // GIVEN
+        final var requestReceived = new CountDownLatch(1);
+        final var responseAllowed = new CountDownLatch(1);
+        stubResponse = request -> {
+            requestReceived.countDown();
+            await(responseAllowed);
+            return 200;
+        };
+        final var config = createConfig();
+        config.setMaxConcurrentRequests(1);
+        config.setMaxWaitMillis(50);
+        final var client = createClient(config);
+        final var file = createFile();
+
+        final var inProgressUpload = CompletableFuture.runAsync(() -> client.upload(file.toFile(), "USER", "1"));
+        assertTrue(requestReceived.await(5, TimeUnit.SECONDS));
+
+        // WHEN
+        final var exception = assertThrows(ResponseStatusException.class, () -> client.upload(file.toFile(), "USER", "1"));
+
+        // THEN
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals(1, requestCount.get());
+
+        // AND
+        responseAllowed.countDown();
+        inProgressUpload.handle((result, throwable) -> null).get(5, TimeUnit.SECONDS);
+    }
+
+    private FileStorageConfig createConfig() {
+        final var config = new FileStorageConfig();
+        config.setBasePath("http://localhost:" + stubServer.getAddress().getPort());
+        config.setConnectTimeoutMillis(1000);
+        config.setReadTimeoutMillis(5000);
+        config.setUploadTimeoutMillis(5000);
+        config.setMaxConcurrentRequests(10);
+        config.setMaxWaitMillis(100);
+        config.setDeleteMaxAttempts(3);
+        config.setRetryBackoffMillis(10);
+        return config;
+    }
+
+    private static FileStorageClient createClient(final FileStorageConfig config) {
+        final var clientConfig = new FileStorageClientConfig();
+        return new FileStorageClient(
+            clientConfig.fileStorageClientApi(config),
+            clientConfig.fileStorageUploadClientApi(config),
+            config
+        );
+    }
+
+    private Path createFile() throws IOException {
+        return Files.write(tempDir.resolve("image.png"), new byte[1024]);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        final var status = stubResponse.apply(requestCount.incrementAndGet());
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
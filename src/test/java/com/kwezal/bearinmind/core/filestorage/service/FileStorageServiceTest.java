@@ -0,0 +1,213 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kwezal.bearinmind.core.ControllerTest;
+import com.kwezal.bearinmind.core.course.repository.CourseLessonRepository;
+import com.kwezal.bearinmind.core.course.repository.CourseRepository;
+import com.kwezal.bearinmind.core.filestorage.ennumeration.FileAssetType;
+import com.kwezal.bearinmind.core.filestorage.repository.StoredFileRepository;
+import com.kwezal.bearinmind.core.utils.AuthHelper;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(RecordingFileStorageClientConfig.class)
+class FileStorageServiceTest extends ControllerTest {
+
+    // Course and lesson owned by the default user; images of both asset types have derivatives of the same dimensions
+    private static final long COURSE_ID = 1;
+    private static final long LESSON_ID = 1;
+
+    @Override
+    public String urlBase() {
+        return "/file";
+    }
+
+    @Autowired
+    private AuthHelper authHelper;
+
+    @Autowired
+    private RecordingFileStorageClient fileStorageClient;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseLessonRepository courseLessonRepository;
+
+    @AfterEach
+    void cleanUp() {
+        final var course = courseRepository.findById(COURSE_ID).orElseThrow();
+        course.setImage(null);
+        course.setImageCard(null);
+        course.setImageThumbnail(null);
+        courseRepository.save(course);
+
+        final var lesson = courseLessonRepository.findById(LESSON_ID).orElseThrow();
+        lesson.setImage(null);
+        lesson.setImageCard(null);
+        lesson.setImageThumbnail(null);
+        courseLessonRepository.save(lesson);
+
+        storedFileRepository.deleteAll();
+        fileStorageClient.reset();
+    }
+
+    @Test
+    void Should_NotTransferImage_When_IdenticalImageIsUploadedForAnotherAsset() throws IOException {
+        // GIVEN
+        final var image = createImage(Color.RED);
+        final var courseImageUrl = uploadImage(FileAssetType.COURSE, COURSE_ID, image);
+        final var uploadCount = fileStorageClient.getUploadedFiles().size();
+
+        // WHEN
+        final var lessonImageUrl = uploadImage(FileAssetType.COURSE_LESSON, LESSON_ID, image);
+
+        // THEN
+        assertEquals(courseImageUrl, lessonImageUrl);
+        assertEquals(uploadCount, fileStorageClient.getUploadedFiles().size());
+
+        // AND
+        assertEquals(courseImageUrl, courseLessonRepository.findById(LESSON_ID).orElseThrow().getImage());
+    }
+
+    @Test
+    void Should_DeleteFilesOnlyWhenLastAssetReleasesThem_When_ImageIsShared() throws IOException {
+        // GIVEN
+        final var image = createImage(Color.RED);
+        uploadImage(FileAssetType.COURSE, COURSE_ID, image);
+        uploadImage(FileAssetType.COURSE_LESSON, LESSON_ID, image);
+        final var storedUrls = getUploadedUrls();
+
+        // WHEN
+        deleteImage(FileAssetType.COURSE, COURSE_ID).expectStatus().is2xxSuccessful();
+
+        // THEN
+        assertTrue(fileStorageClient.getDeletedUrls().isEmpty());
+        final var course = courseRepository.findById(COURSE_ID).orElseThrow();
+        assertNull(course.getImage());
+        assertNull(course.getImageCard());
+        assertNull(course.getImageThumbnail());
+
+        // AND
+        deleteImage(FileAssetType.COURSE_LESSON, LESSON_ID).expectStatus().is2xxSuccessful();
+        assertEquals(storedUrls, Set.copyOf(fileStorageClient.getDeletedUrls()));
+        assertTrue(storedFileRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void Should_DeletePreviousFiles_When_ImageIsReplaced() throws IOException {
+        // GIVEN
+        uploadImage(FileAssetType.COURSE, COURSE_ID, createImage(Color.RED));
+        final var previousUrls = getUploadedUrls();
+
+        // WHEN
+        uploadImage(FileAssetType.COURSE, COURSE_ID, createImage(Color.BLUE));
+
+        // THEN
+        assertEquals(previousUrls, Set.copyOf(fileStorageClient.getDeletedUrls()));
+    }
+
+    @Test
+    void Should_NotAddReference_When_IdenticalImageIsUploadedAgainForSameAsset() throws IOException {
+        // GIVEN
+        final var image = createImage(Color.RED);
+        uploadImage(FileAssetType.COURSE, COURSE_ID, image);
+        uploadImage(FileAssetType.COURSE, COURSE_ID, image);
+        final var storedUrls = getUploadedUrls();
+
+        // WHEN
+        deleteImage(FileAssetType.COURSE, COURSE_ID).expectStatus().is2xxSuccessful();
+
+        // THEN
+        assertEquals(3, storedUrls.size());
+        assertEquals(storedUrls, Set.copyOf(fileStorageClient.getDeletedUrls()));
+    }
+
+    @Test
+    void Should_ReturnForbidden_When_DeletingImageOfAssetOwnedByAnotherUser() {
+        // GIVEN
+        final var courseOwnedByAnotherUserId = 2L;
+
+        // WHEN
+        final var response = deleteImage(FileAssetType.COURSE, courseOwnedByAnotherUserId);
+
+        // THEN
+        response.expectStatus().isForbidden();
+
+        // AND
+        assertTrue(fileStorageClient.getDeletedUrls().isEmpty());
+    }
+
+    private String uploadImage(final FileAssetType fileAssetType, final long id, final byte[] image) {
+        final var body = new MultipartBodyBuilder();
+        body.part("file", image).filename("image.png");
+
+        return authHelper
+            .asTeacher(
+                webClient
+                    .post()
+                    .uri(builder ->
+                        url(builder, "/image").queryParam("fileAssetType", fileAssetType).queryParam("identifier", id).build()
+                    )
+                    .body(BodyInserters.fromMultipartData(body.build()))
+            )
+            .exchange()
+            .expectStatus()
+            .is2xxSuccessful()
+            .expectBody(String.class)
+            .returnResult()
+            .getResponseBody();
+    }
+
+    private WebTestClient.ResponseSpec deleteImage(final FileAssetType fileAssetType, final long id) {
+        return authHelper
+            .asTeacher(
+                webClient
+                    .delete()
+                    .uri(builder ->
+                        url(builder, "/image").queryParam("fileAssetType", fileAssetType).queryParam("identifier", id).build()
+                    )
+            )
+            .exchange();
+    }
+
+    private Set<String> getUploadedUrls() {
+        return fileStorageClient
+            .getUploadedFiles()
+            .stream()
+            .map(RecordingFileStorageClient.UploadedFile::url)
+            .collect(Collectors.toSet());
+    }
+
+    private static byte[] createImage(final Color color) throws IOException {
+        final var image = new BufferedImage(64, 32, BufferedImage.TYPE_INT_RGB);
+        final var graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        graphics.dispose();
+
+        final var output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
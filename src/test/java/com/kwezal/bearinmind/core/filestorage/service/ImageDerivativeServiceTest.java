@@ -0,0 +1,170 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kwezal.bearinmind.core.filestorage.FileStorageConfig;
+import com.kwezal.bearinmind.core.filestorage.ennumeration.FileAssetType;
+import com.kwezal.bearinmind.core.filestorage.ennumeration.ImageDerivative;
+import com.kwezal.bearinmind.exception.InvalidRequestDataException;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageDerivativeServiceTest {
+
+    private ImageDerivativeService imageDerivativeService;
+    private Map<ImageDerivative, Path> derivatives = Map.of();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void createService() {
+        imageDerivativeService = new ImageDerivativeService(createConfig(10_000_000L));
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        imageDerivativeService.shutDown();
+        for (final var derivative : derivatives.values()) {
+            Files.deleteIfExists(derivative);
+        }
+    }
+
+    @Test
+    void Should_CreateJpegDerivativesWithinMaxEdgeKeepingAspectRatio_When_ImageIsOpaque() throws IOException {
+        // GIVEN
+        final var image = createImage(2000, 1000, BufferedImage.TYPE_INT_RGB, "png");
+
+        // WHEN
+        derivatives = imageDerivativeService.createDerivatives(image, FileAssetType.COURSE);
+
+        // THEN
+        assertDimensions(derivatives.get(ImageDerivative.FULL), 1600, 800);
+        assertDimensions(derivatives.get(ImageDerivative.CARD), 480, 240);
+        assertDimensions(derivatives.get(ImageDerivative.THUMBNAIL), 96, 48);
+
+        // AND
+        derivatives.values().forEach(derivative -> assertTrue(derivative.toString().endsWith(".jpg")));
+    }
+
+    @Test
+    void Should_CreatePngDerivatives_When_ImageHasTransparency() throws IOException {
+        // GIVEN
+        final var image = createImage(800, 800, BufferedImage.TYPE_INT_ARGB, "png");
+
+        // WHEN
+        derivatives = imageDerivativeService.createDerivatives(image, FileAssetType.USER);
+
+        // THEN
+        assertDimensions(derivatives.get(ImageDerivative.THUMBNAIL), 64, 64);
+        derivatives.values().forEach(derivative -> assertTrue(derivative.toString().endsWith(".png")));
+    }
+
+    @Test
+    void Should_NotUpscaleDerivatives_When_ImageIsSmallerThanMaxEdge() throws IOException {
+        // GIVEN
+        final var image = createImage(100, 50, BufferedImage.TYPE_INT_RGB, "jpg");
+
+        // WHEN
+        derivatives = imageDerivativeService.createDerivatives(image, FileAssetType.COURSE);
+
+        // THEN
+        assertDimensions(derivatives.get(ImageDerivative.FULL), 100, 50);
+        assertDimensions(derivatives.get(ImageDerivative.CARD), 100, 50);
+        assertDimensions(derivatives.get(ImageDerivative.THUMBNAIL), 96, 48);
+    }
+
+    @Test
+    void Should_RotateDerivatives_When_JpegHasExifOrientation() throws IOException {
+        // GIVEN
+        final var image = createImage(200, 100, BufferedImage.TYPE_INT_RGB, "jpg");
+        final var rotatedClockwise = 6;
+        addExifOrientation(image, rotatedClockwise);
+
+        // WHEN
+        derivatives = imageDerivativeService.createDerivatives(image, FileAssetType.COURSE);
+
+        // THEN
+        assertDimensions(derivatives.get(ImageDerivative.FULL), 100, 200);
+        assertDimensions(derivatives.get(ImageDerivative.THUMBNAIL), 48, 96);
+    }
+
+    @Test
+    void Should_ThrowInvalidRequestDataException_When_FileIsNotImage() throws IOException {
+        // GIVEN
+        final var file = Files.writeString(tempDir.resolve("image.png"), "not an image");
+
+        // WHEN & THEN
+        assertThrows(
+            InvalidRequestDataException.class,
+            () -> imageDerivativeService.createDerivatives(file, FileAssetType.USER)
+        );
+    }
+
+    @Test
+    void Should_ThrowInvalidRequestDataException_When_ImageHasTooManyPixels() throws IOException {
+        // GIVEN
+        imageDerivativeService.shutDown();
+        imageDerivativeService = new ImageDerivativeService(createConfig(10_000L));
+        final var image = createImage(200, 100, BufferedImage.TYPE_INT_RGB, "png");
+
+        // WHEN & THEN
+        assertThrows(
+            InvalidRequestDataException.class,
+            () -> imageDerivativeService.createDerivatives(image, FileAssetType.USER)
+        );
+    }
+
+    private static FileStorageConfig createConfig(final long maxPixels) {
+        final var config = new FileStorageConfig();
+        config.setImageProcessingThreads(1);
+        config.setImageProcessingQueueCapacity(4);
+        config.setImageProcessingMaxPixels(maxPixels);
+        return config;
+    }
+
+    private Path createImage(final int width, final int height, final int type, final String format) throws IOException {
+        final var file = tempDir.resolve("image." + format);
+        ImageIO.write(new BufferedImage(width, height, type), format, file.toFile());
+        return file;
+    }
+
+    /**
+     * Inserts an APP1 segment with a big-endian EXIF structure holding only the orientation tag after the start of a JPEG.
+     */
+    private static void addExifOrientation(final Path jpeg, final int orientation) throws IOException {
+        final var exif = ByteBuffer.allocate(32);
+        exif.put("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        exif.put("MM".getBytes(StandardCharsets.US_ASCII)).putShort((short) 42).putInt(8);
+        exif.putShort((short) 1);
+        exif.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        exif.putInt(0);
+
+        final var content = Files.readAllBytes(jpeg);
+        final var output = new ByteArrayOutputStream();
+        output.write(content, 0, 2);
+        output.write(new byte[] { (byte) 0xFF, (byte) 0xE1, 0, (byte) (exif.position() + 2) });
+        output.write(exif.array(), 0, exif.position());
+        output.write(content, 2, content.length - 2);
+        Files.write(jpeg, output.toByteArray());
+    }
+
+    private static void assertDimensions(final Path file, final int width, final int height) throws IOException {
+        final var image = ImageIO.read(file.toFile());
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+}
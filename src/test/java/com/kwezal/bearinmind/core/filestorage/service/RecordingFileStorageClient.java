@@ -0,0 +1,61 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import com.kwezal.bearinmind.core.filestorage.FileStorageConfig;
+import com.kwezal.bearinmind.filestorage.api.FileStorageClientApi;
+import java.io.File;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stands in for the file storage in application tests: records uploaded files and deleted URLs instead of sending them.
+ */
+public class RecordingFileStorageClient extends FileStorageClient {
+
+    private final List<UploadedFile> uploadedFiles = new CopyOnWriteArrayList<>();
+    private final List<String> deletedUrls = new CopyOnWriteArrayList<>();
+
+    public RecordingFileStorageClient(
+        final FileStorageClientApi fileStorageClientApi,
+        final FileStorageConfig fileStorageConfig
+    ) {
+        super(fileStorageClientApi, fileStorageClientApi, fileStorageConfig);
+    }
+
+    @Override
+    String upload(final File file, final String fileAssetType, final String identifier) {
+        final var url = "http://localhost/files/%s/%s/%s/%s".formatted(
+            fileAssetType,
+            identifier,
+            UUID.randomUUID(),
+            file.getName()
+        );
+        uploadedFiles.add(new UploadedFile(url, file.getName(), file.length()));
+        return url;
+    }
+
+    @Override
+    void delete(final String url) {
+        deletedUrls.add(url);
+    }
+
+    public List<UploadedFile> getUploadedFiles() {
+        return List.copyOf(uploadedFiles);
+    }
+
+    public List<String> getDeletedUrls() {
+        return List.copyOf(deletedUrls);
+    }
+
+    public void reset() {
+        uploadedFiles.clear();
+        deletedUrls.clear();
+    }
+
+    /**
+     * @param url  URL the file was given
+     * @param name file name
+     * @param size file size in bytes
+     */
+    public record UploadedFile(String url, String name, long size) {}
+}
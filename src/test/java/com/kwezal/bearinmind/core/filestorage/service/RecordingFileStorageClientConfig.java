@@ -0,0 +1,23 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import com.kwezal.bearinmind.core.filestorage.FileStorageConfig;
+import com.kwezal.bearinmind.filestorage.api.FileStorageClientApi;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Replaces the file storage client with {@link RecordingFileStorageClient} in tests which import this configuration.
+ */
+@TestConfiguration
+public class RecordingFileStorageClientConfig {
+
+    @Bean
+    @Primary
+    public RecordingFileStorageClient recordingFileStorageClient(
+        final FileStorageClientApi fileStorageClientApi,
+        final FileStorageConfig fileStorageConfig
+    ) {
+        return new RecordingFileStorageClient(fileStorageClientApi, fileStorageConfig);
+    }
+}
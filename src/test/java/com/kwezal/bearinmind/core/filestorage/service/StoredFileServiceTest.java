@@ -0,0 +1,127 @@
+package com.kwezal.bearinmind.core.filestorage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kwezal.bearinmind.core.filestorage.ennumeration.ImageDerivative;
+import com.kwezal.bearinmind.core.filestorage.model.StoredFile;
+import com.kwezal.bearinmind.core.filestorage.repository.StoredFileRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@SpringBootTest
+class StoredFileServiceTest {
+
+    private static final String MAX_EDGES = "1600/480/96";
+
+    @Autowired
+    private StoredFileService storedFileService;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Test
+    void Should_ReturnStoredUrls_When_IdenticalContentIsAcquired() {
+        // GIVEN
+        final var contentHash = randomHash();
+        final var urls = createUrls();
+        storedFileService.register(contentHash, MAX_EDGES, urls);
+
+        // WHEN
+        final var acquiredUrls = storedFileService.acquire(contentHash, MAX_EDGES);
+
+        // THEN
+        assertEquals(urls, acquiredUrls.orElseThrow());
+        assertEquals(2, findStoredFile(contentHash).orElseThrow().getReferenceCount());
+    }
+
+    @Test
+    void Should_ReturnEmpty_When_ContentWasStoredWithOtherDimensions() {
+        // GIVEN
+        final var contentHash = randomHash();
+        storedFileService.register(contentHash, MAX_EDGES, createUrls());
+
+        // WHEN
+        final var acquiredUrls = storedFileService.acquire(contentHash, "512/160/64");
+
+        // THEN
+        assertTrue(acquiredUrls.isEmpty());
+    }
+
+    @Test
+    void Should_ThrowDataIntegrityViolationException_When_IdenticalContentIsRegisteredTwice() {
+        // GIVEN
+        final var contentHash = randomHash();
+        storedFileService.register(contentHash, MAX_EDGES, createUrls());
+
+        // WHEN & THEN
+        assertThrows(
+            DataIntegrityViolationException.class,
+            () -> storedFileService.register(contentHash, MAX_EDGES, createUrls())
+        );
+    }
+
+    @Test
+    void Should_DeleteFilesOnlyWhenLastReferenceIsReleased_When_ContentIsShared() {
+        // GIVEN
+        final var contentHash = randomHash();
+        final var urls = createUrls();
+        storedFileService.register(contentHash, MAX_EDGES, urls);
+        storedFileService.acquire(contentHash, MAX_EDGES);
+
+        // WHEN
+        final var firstReleaseUrls = storedFileService.release(urls.get(ImageDerivative.FULL));
+        final var secondReleaseUrls = storedFileService.release(urls.get(ImageDerivative.CARD));
+
+        // THEN
+        assertTrue(firstReleaseUrls.isEmpty());
+        assertEquals(Set.copyOf(urls.values()), Set.copyOf(secondReleaseUrls));
+
+        // AND
+        assertTrue(findStoredFile(contentHash).isEmpty());
+    }
+
+    @Test
+    void Should_ReturnUrl_When_ReleasedFileIsNotIndexed() {
+        // GIVEN
+        final var url = "http://localhost/files/" + UUID.randomUUID() + ".jpg";
+
+        // WHEN
+        final var releasedUrls = storedFileService.release(url);
+
+        // THEN
+        assertEquals(List.of(url), releasedUrls);
+    }
+
+    private Optional<StoredFile> findStoredFile(final String contentHash) {
+        return storedFileRepository
+            .findAll()
+            .stream()
+            .filter(storedFile -> storedFile.getContentHash().equals(contentHash))
+            .findFirst();
+    }
+
+    private static String randomHash() {
+        return UUID.randomUUID().toString().replace("-", "").repeat(2);
+    }
+
+    private static Map<ImageDerivative, String> createUrls() {
+        final var prefix = "http://localhost/files/" + UUID.randomUUID();
+        return Map.of(
+            ImageDerivative.FULL,
+            prefix + "-full.jpg",
+            ImageDerivative.CARD,
+            prefix + "-card.jpg",
+            ImageDerivative.THUMBNAIL,
+            prefix + "-thumbnail.jpg"
+        );
+    }
+}
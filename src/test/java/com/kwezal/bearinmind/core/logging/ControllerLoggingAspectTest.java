@@ -0,0 +1,93 @@
+package com.kwezal.bearinmind.core.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+class ControllerLoggingAspectTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ControllerLoggingAspect.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private Level previousLevel;
+
+    @BeforeEach
+    void attachAppender() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        logger.detachAppender(appender);
+        appender.stop();
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    void Should_LogRequestAndResult_When_RequestIsSampled() {
+        // GIVEN
+        final var controller = createProxiedController(1.0);
+
+        // WHEN
+        final var value = controller.findName(1L);
+
+        // THEN
+        assertEquals("Name 1", value);
+        final var messages = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertEquals(
+            List.of(
+                "Processing request 'GET /test/{id}/name' with arguments: id=1",
+                "Request 'GET /test/{id}/name' successfully returned 'Name 1'"
+            ),
+            messages
+        );
+    }
+
+    @Test
+    void Should_SkipBothLogLines_When_RequestIsNotSampled() {
+        // GIVEN
+        final var controller = createProxiedController(0.0);
+
+        // WHEN
+        final var value = controller.findName(1L);
+
+        // THEN
+        assertEquals("Name 1", value);
+        assertTrue(appender.list.isEmpty());
+    }
+
+    private static TestController createProxiedController(final double samplingRate) {
+        final var controllerLoggingConfig = new ControllerLoggingConfig();
+        controllerLoggingConfig.setSamplingRate(samplingRate);
+        controllerLoggingConfig.setMaxValueLength(256);
+
+        final var proxyFactory = new AspectJProxyFactory(new TestController());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ControllerLoggingAspect(controllerLoggingConfig));
+        return proxyFactory.getProxy();
+    }
+
+    @ControllerLogging("/test")
+    public static class TestController {
+
+        @GetMapping("/{id}/name")
+        public String findName(@PathVariable Long id) {
+            return "Name " + id;
+        }
+    }
+}
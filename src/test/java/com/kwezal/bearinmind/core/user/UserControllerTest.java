@@ -1,6 +1,7 @@
 package com.kwezal.bearinmind.core.user;
 
 import static com.kwezal.bearinmind.core.utils.AssertionUtils.assertEqualsIgnoringOrder;
+import static java.util.Objects.nonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -13,9 +14,12 @@ import com.kwezal.bearinmind.core.user.repository.UserCredentialsRepository;
 import com.kwezal.bearinmind.core.user.repository.UserRepository;
 import com.kwezal.bearinmind.core.utils.AuthHelper;
 import com.kwezal.bearinmind.core.utils.Page;
+import com.kwezal.bearinmind.core.utils.StatementBudget;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -28,7 +32,7 @@ import reactor.core.publisher.Mono;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Sql(
-    scripts = { "/db/cleanup/USER.sql", "/db/cleanup/USER_CREDENTIALS.sql" },
+    scripts = { "/db/cleanup/USER.sql", "/db/cleanup/USER_CREDENTIALS.sql", "/db/cleanup/IMAGE.sql" },
     executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
 )
 @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
@@ -110,6 +114,7 @@ class UserControllerTest extends ControllerTest {
     private record CourseIdCourseRole(Long id, CourseRole role) {}
 
     @Test
+    @StatementBudget(3)
     void Should_ReturnUserPage_When_CorrectRequest() {
         // GIVEN
         final var userId = 2L;
@@ -165,6 +170,7 @@ class UserControllerTest extends ControllerTest {
     }
 
     @Test
+    @StatementBudget(4)
     void Should_ReturnUsersMainView_When_CorrectRequest() {
         // GIVEN
         final var listLength = 3;
@@ -241,6 +247,46 @@ class UserControllerTest extends ControllerTest {
             });
     }
 
+    @Test
+    void Should_ReturnThumbnailsFallingBackToOriginalImage_When_ListingGroupMembers() {
+        // GIVEN
+        final var userWithDerivatives = userRepository.findById(2L).orElseThrow();
+        userWithDerivatives.setImage("https://files/user/2/full.jpg");
+        userWithDerivatives.setImageCard("https://files/user/2/card.jpg");
+        userWithDerivatives.setImageThumbnail("https://files/user/2/thumbnail.jpg");
+        userRepository.save(userWithDerivatives);
+
+        final var userWithoutDerivatives = userRepository.findById(3L).orElseThrow();
+        userWithoutDerivatives.setImage("https://files/user/3/image.png");
+        userRepository.save(userWithoutDerivatives);
+
+        // WHEN
+        final var response = authHelper
+            .asStudent(
+                webClient
+                    .get()
+                    .uri(builder ->
+                        url(builder, "/list/group-members").queryParam("pageNumber", 0).queryParam("pageSize", 5).build()
+                    )
+            )
+            .exchange();
+
+        // THEN
+        response.expectStatus().is2xxSuccessful();
+
+        // AND
+        response
+            .expectBody(new ParameterizedTypeReference<Page<UserListItemDto>>() {})
+            .value(responseDto -> {
+                final var images = responseDto
+                    .getContent()
+                    .stream()
+                    .filter(user -> nonNull(user.image()))
+                    .collect(Collectors.toMap(UserListItemDto::id, UserListItemDto::image));
+                assertEquals(Map.of(2L, "https://files/user/2/thumbnail.jpg", 3L, "https://files/user/3/image.png"), images);
+            });
+    }
+
     @Test
     void Should_ReturnStudents_When_CorrectRequest() {
         // GIVEN
@@ -329,6 +375,8 @@ class UserControllerTest extends ControllerTest {
                 null,
                 "en",
                 null,
+                null,
+                null,
                 OffsetDateTime.now()
             )
         );
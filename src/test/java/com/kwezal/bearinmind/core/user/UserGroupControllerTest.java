@@ -4,6 +4,7 @@ import static com.kwezal.bearinmind.core.utils.AssertionUtils.assertEqualsIgnori
 import static com.kwezal.bearinmind.core.utils.RepositoryUtils.fetch;
 import static com.kwezal.bearinmind.core.utils.TestConstants.ID_SEQUENCE_START;
 import static com.kwezal.bearinmind.core.utils.TestConstants.NONEXISTENT_ID;
+import static java.util.Objects.nonNull;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.kwezal.bearinmind.core.ControllerTest;
@@ -17,6 +18,7 @@ import com.kwezal.bearinmind.core.user.model.UserGroup;
 import com.kwezal.bearinmind.core.user.model.UserGroupMember;
 import com.kwezal.bearinmind.core.user.repository.UserGroupMemberRepository;
 import com.kwezal.bearinmind.core.user.repository.UserGroupRepository;
+import com.kwezal.bearinmind.core.user.repository.UserRepository;
 import com.kwezal.bearinmind.core.utils.AuthHelper;
 import com.kwezal.bearinmind.core.utils.Page;
 import com.kwezal.bearinmind.translation.model.Translation;
@@ -39,12 +41,18 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Sql(
-    scripts = { "/db/cleanup/USER_GROUP_MEMBER.sql", "/db/cleanup/USER_GROUP.sql", "/db/cleanup/TRANSLATION.sql" },
+    scripts = {
+        "/db/cleanup/USER_GROUP_MEMBER.sql",
+        "/db/cleanup/USER_GROUP.sql",
+        "/db/cleanup/TRANSLATION.sql",
+        "/db/cleanup/IMAGE.sql",
+    },
     executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD
 )
 @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED)
@@ -73,6 +81,9 @@ class UserGroupControllerTest extends ControllerTest {
     @Autowired
     private TranslationRepository translationRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @Transactional
     @Test
     void Should_CreateUserGroup_When_CorrectRequest() {
@@ -180,6 +191,31 @@ class UserGroupControllerTest extends ControllerTest {
         assertEquals(expectedName, nameTranslation.getText());
     }
 
+    @Test
+    void Should_ReturnUpdatedName_When_ViewingUserGroupAfterUpdate() {
+        // GIVEN
+        final var userGroupId = createUserGroup("Cached name").getId();
+        getUserGroupPage(userGroupId).value(responseDto -> assertEquals("Cached name", responseDto.getName()));
+
+        // AND
+        final var dto = new CreateOrUpdateUserGroupDto(Map.of(applicationLocale, "Updated name"));
+
+        // WHEN
+        authHelper
+            .asStudent(
+                webClient
+                    .put()
+                    .uri(builder -> url(builder, "/{groupId}").build(userGroupId))
+                    .body(Mono.just(dto), CreateOrUpdateUserGroupDto.class)
+            )
+            .exchange()
+            .expectStatus()
+            .is2xxSuccessful();
+
+        // THEN
+        getUserGroupPage(userGroupId).value(responseDto -> assertEquals("Updated name", responseDto.getName()));
+    }
+
     @Test
     void Should_ReturnBadRequest_When_AttemptToUpdateUserGroupWithoutBody() {
         // GIVEN
@@ -238,6 +274,41 @@ class UserGroupControllerTest extends ControllerTest {
             });
     }
 
+    @Test
+    void Should_ReturnMemberThumbnailsFallingBackToOriginalImage_When_ViewingUserGroupPage() {
+        // GIVEN
+        final var groupId = 2L;
+        final var userWithDerivatives = fetch(2L, userRepository, User.class);
+        userWithDerivatives.setImage("https://files/user/2/full.jpg");
+        userWithDerivatives.setImageCard("https://files/user/2/card.jpg");
+        userWithDerivatives.setImageThumbnail("https://files/user/2/thumbnail.jpg");
+        userRepository.save(userWithDerivatives);
+
+        final var userWithoutDerivatives = fetch(3L, userRepository, User.class);
+        userWithoutDerivatives.setImage("https://files/user/3/image.png");
+        userRepository.save(userWithoutDerivatives);
+
+        // WHEN
+        final var response = authHelper
+            .asStudent(webClient.get().uri(builder -> url(builder, "/{groupId}").build(groupId)))
+            .exchange();
+
+        // THEN
+        response.expectStatus().is2xxSuccessful();
+
+        // AND
+        response
+            .expectBody(UserGroupDto.class)
+            .value(responseDto -> {
+                final var images = responseDto
+                    .getMembers()
+                    .stream()
+                    .filter(member -> nonNull(member.image()))
+                    .collect(Collectors.toMap(UserListItemDto::id, UserListItemDto::image));
+                assertEquals(Map.of(2L, "https://files/user/2/thumbnail.jpg", 3L, "https://files/user/3/image.png"), images);
+            });
+    }
+
     @Test
     void Should_ReturnBadRequest_When_AttemptToGetGroupPageWithIncorrectId() {
         // GIVEN
@@ -302,6 +373,45 @@ class UserGroupControllerTest extends ControllerTest {
             });
     }
 
+    @Test
+    void Should_ReturnCardImagesFallingBackToOriginalImage_When_ListingRegisteredUserGroups() {
+        // GIVEN
+        final var groupWithDerivatives = fetch(1L, userGroupRepository, UserGroup.class);
+        groupWithDerivatives.setImage("https://files/group/1/full.jpg");
+        groupWithDerivatives.setImageCard("https://files/group/1/card.jpg");
+        groupWithDerivatives.setImageThumbnail("https://files/group/1/thumbnail.jpg");
+        userGroupRepository.save(groupWithDerivatives);
+
+        final var groupWithoutDerivatives = fetch(2L, userGroupRepository, UserGroup.class);
+        groupWithoutDerivatives.setImage("https://files/group/2/image.png");
+        userGroupRepository.save(groupWithoutDerivatives);
+
+        // WHEN
+        final var response = authHelper
+            .asStudent(
+                webClient
+                    .get()
+                    .uri(builder ->
+                        url(builder, "/list/registered").queryParam("pageNumber", 0).queryParam("pageSize", 5).build()
+                    )
+            )
+            .exchange();
+
+        // THEN
+        response.expectStatus().is2xxSuccessful();
+
+        // AND
+        response
+            .expectBody(new ParameterizedTypeReference<Page<UserGroupListItemDto>>() {})
+            .value(responseDto -> {
+                final var images = responseDto
+                    .getContent()
+                    .stream()
+                    .collect(Collectors.toMap(UserGroupListItemDto::id, UserGroupListItemDto::image));
+                assertEquals(Map.of(1L, "https://files/group/1/card.jpg", 2L, "https://files/group/2/image.png"), images);
+            });
+    }
+
     @ParameterizedTest
     @MethodSource("Should_ReturnBadRequest_When_AttemptToGetRegisteredUserGroupPageWithIncorrectData_Source")
     void Should_ReturnBadRequest_When_AttemptToGetRegisteredUserGroupPageWithIncorrectData(int pageNumber, int pageSize) {
@@ -386,10 +496,19 @@ class UserGroupControllerTest extends ControllerTest {
         return Stream.of(Arguments.of(-1, 1), Arguments.of(1, 0), Arguments.of(1, 101));
     }
 
+    private WebTestClient.BodySpec<UserGroupDto, ?> getUserGroupPage(Long groupId) {
+        return authHelper
+            .asStudent(webClient.get().uri(builder -> url(builder, "/{groupId}").build(groupId)))
+            .exchange()
+            .expectStatus()
+            .is2xxSuccessful()
+            .expectBody(UserGroupDto.class);
+    }
+
     private UserGroup createUserGroup(String name) {
         final var nameTranslation = translationRepository.save(new Translation(null, null, applicationLocale, name));
         final var userGroup = userGroupRepository.save(
-            new UserGroup(null, nameTranslation.getIdentifier(), null, OffsetDateTime.now(), null)
+            new UserGroup(null, nameTranslation.getIdentifier(), null, null, null, OffsetDateTime.now(), null)
         );
         userGroupMemberRepository.save(
             new UserGroupMember(
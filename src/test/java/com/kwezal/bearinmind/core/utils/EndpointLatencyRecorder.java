@@ -0,0 +1,133 @@
+package com.kwezal.bearinmind.core.utils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records latencies and status codes of requests sent concurrently by a load test, grouped by endpoint,
+ * and summarizes them as throughput and latency percentiles.
+ * Status 0 stands for a request that received no response.
+ */
+public class EndpointLatencyRecorder {
+
+    private static final String TOTAL = "TOTAL";
+    private static final String ROW_FORMAT = "%-40s %9s %10s %7s %7s %9s %9s %9s %9s";
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    /**
+     * @param endpoint HTTP method and route template of a request, e.g. {@code GET /course/{id}}
+     * @param nanos    time from sending the request to reading the whole response
+     * @param status   response status code, or 0 if no response was received
+     */
+    public void record(final String endpoint, final long nanos, final int status) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, status);
+    }
+
+    /**
+     * @return number of requests which received a server error or no response at all
+     */
+    public long countFailures() {
+        return samples.values().stream().mapToLong(Samples::failures).sum();
+    }
+
+    /**
+     * Summarizes recorded requests, one row per endpoint and a total row.
+     *
+     * @param duration time in which the requests were sent
+     * @return table of request counts, throughput, client errors, failures and latency percentiles in milliseconds
+     */
+    public String summarize(final Duration duration) {
+        final var joiner = new StringJoiner("\n");
+        joiner.add(ROW_FORMAT.formatted("endpoint", "requests", "req/s", "4xx", "failed", "p50", "p95", "p99", "max"));
+
+        final var total = new Samples();
+        samples
+            .entrySet()
+            .stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> {
+                joiner.add(summarize(entry.getKey(), entry.getValue(), duration));
+                total.addAll(entry.getValue());
+            });
+        joiner.add(summarize(TOTAL, total, duration));
+
+        return joiner.toString();
+    }
+
+    private static String summarize(final String endpoint, final Samples samples, final Duration duration) {
+        final var sortedNanos = samples.sortedNanos();
+        if (sortedNanos.length == 0) {
+            return ROW_FORMAT.formatted(endpoint, 0, "-", "-", "-", "-", "-", "-", "-");
+        }
+
+        return ROW_FORMAT.formatted(
+            endpoint,
+            sortedNanos.length,
+            "%.1f".formatted(sortedNanos.length * 1e9 / duration.toNanos()),
+            samples.clientErrors(),
+            samples.failures(),
+            toMillis(percentile(sortedNanos, 50)),
+            toMillis(percentile(sortedNanos, 95)),
+            toMillis(percentile(sortedNanos, 99)),
+            toMillis(sortedNanos[sortedNanos.length - 1])
+        );
+    }
+
+    private static String toMillis(final long nanos) {
+        return "%.2f".formatted(nanos / 1e6);
+    }
+
+    private static long percentile(final long[] sortedNanos, final int percentile) {
+        return sortedNanos[(int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1];
+    }
+
+    private static class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private long clientErrors;
+        private long failures;
+
+        synchronized void add(final long nanos, final int status) {
+            if (size == this.nanos.length) {
+                this.nanos = Arrays.copyOf(this.nanos, size * 2);
+            }
+            this.nanos[size++] = nanos;
+
+            if (status >= 400 && status < 500) {
+                clientErrors++;
+            } else if (status == 0 || status >= 500) {
+                failures++;
+            }
+        }
+
+        synchronized void addAll(final Samples other) {
+            final var otherNanos = other.sortedNanos();
+            if (size + otherNanos.length > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + otherNanos.length));
+            }
+            System.arraycopy(otherNanos, 0, nanos, size, otherNanos.length);
+            size += otherNanos.length;
+            clientErrors += other.clientErrors();
+            failures += other.failures();
+        }
+
+        synchronized long[] sortedNanos() {
+            final var sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        synchronized long clientErrors() {
+            return clientErrors;
+        }
+
+        synchronized long failures() {
+            return failures;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.kwezal.bearinmind.core.utils;
+
+import static java.util.Objects.isNull;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.LongFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulk-loads a large, deterministic dataset with PostgreSQL {@code COPY}:
+ * users with credentials, groups with members, courses with lessons and parts, course participants and translations.
+ * The same size always produces the same rows. All generated IDs are greater than {@link #ID_OFFSET},
+ * so the dataset never collides with the regular test data and can be deleted with {@link #delete()}.
+ * Every user can log in with {@link #username(long)} and {@link #PASSWORD},
+ * and every {@link #TEACHER_INTERVAL}-th user is a teacher.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LargeDatasetGenerator {
+
+    public static final long ID_OFFSET = 100_000_000;
+    public static final String PASSWORD = "password";
+    public static final int TEACHER_INTERVAL = 20;
+
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+
+    private static final OffsetDateTime BASE_DATE_TIME = OffsetDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    // OWNER = 0, TEACHER = 1, STUDENT = 2 (course roles), OWNER = 0, MEMBER = 1 (user group roles)
+    private static final int COURSE_TEACHER = 1;
+    private static final int COURSE_STUDENT = 2;
+    private static final int GROUP_OWNER = 0;
+    private static final int GROUP_MEMBER = 1;
+
+    private static final List<String> TABLES_IN_DELETION_ORDER = List.of(
+        "course_user_data",
+        "course_user_groups",
+        "course_lesson_parts",
+        "course_lessons",
+        "courses",
+        "user_group_members",
+        "user_groups",
+        "users",
+        "user_credentials",
+        "translations"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Number of generated rows.
+     *
+     * @param users            number of users, each with credentials, numbered from 1
+     * @param groups           number of user groups
+     * @param groupsPerUser    number of groups every user is a member of
+     * @param courses          number of courses, every one assigned to two groups
+     * @param lessonsPerCourse number of lessons of every course
+     * @param partsPerLesson   number of parts of every lesson
+     * @param coursesPerUser   number of courses every user takes part in, teaching the first one of them
+     */
+    public record DatasetSize(
+        int users,
+        int groups,
+        int groupsPerUser,
+        int courses,
+        int lessonsPerCourse,
+        int partsPerLesson,
+        int coursesPerUser
+    ) {
+        long lessons() {
+            return (long) courses * lessonsPerCourse;
+        }
+
+        long parts() {
+            return lessons() * partsPerLesson;
+        }
+    }
+
+    /**
+     * Loads a dataset of a given size and refreshes planner statistics.
+     *
+     * @param size number of generated rows
+     */
+    public void generate(final DatasetSize size) {
+        final var start = System.nanoTime();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            copy(connection, size, passwordEncoder.encode(PASSWORD));
+            return null;
+        });
+        jdbcTemplate.execute("ANALYZE");
+        log.info("Generated {} in {} s", size, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    /**
+     * Deletes all generated rows and refreshes planner statistics.
+     */
+    public void delete() {
+        TABLES_IN_DELETION_ORDER.forEach(table -> jdbcTemplate.update("DELETE FROM " + table + " WHERE id > ?", ID_OFFSET));
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * @param user user number, from 1 to the number of generated users
+     * @return username of a given user
+     */
+    public static String username(final long user) {
+        return "dataset" + user;
+    }
+
+    /**
+     * @param user user number, from 1 to the number of generated users
+     * @return whether a given user has the teacher role
+     */
+    public static boolean isTeacher(final long user) {
+        return user % TEACHER_INTERVAL == 0;
+    }
+
+    private static void copy(final Connection connection, final DatasetSize size, final String encodedPassword)
+        throws SQLException {
+        final var copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        final var identifiers = new TranslationIdentifiers(size);
+
+        // The password is encoded once, as encoding is deliberately slow
+        copy(copyManager, "user_credentials (id, username, password, role, active)", size.users(), n ->
+            new Object[] {
+                ID_OFFSET + n,
+                username(n),
+                encodedPassword,
+                isTeacher(n) ? "TEACHER_ROLE_GROUP" : "STUDENT_ROLE_GROUP",
+                true,
+            }
+        );
+        copy(
+            copyManager,
+            "users (id, first_name, last_name, email, locale, registration_date_time, user_credentials_id)",
+            size.users(),
+            n ->
+                new Object[] {
+                    ID_OFFSET + n,
+                    "First" + n,
+                    "Last" + n,
+                    "dataset" + n + "@example.com",
+                    n % 2 == 0 ? "da" : "en",
+                    BASE_DATE_TIME.plusMinutes(n),
+                    ID_OFFSET + n,
+                }
+        );
+
+        copy(copyManager, "user_groups (id, name_identifier, image, creation_date_time)", size.groups(), n ->
+            new Object[] { ID_OFFSET + n, identifiers.groupName(n), null, BASE_DATE_TIME.plusHours(n) }
+        );
+        // Groups of a user are spread evenly, so they are always distinct
+        final var groupStride = Math.max(1, size.groups() / size.groupsPerUser());
+        copy(
+            copyManager,
+            "user_group_members (id, group_id, user_id, role, registration_date_time)",
+            (long) size.users() * size.groupsPerUser(),
+            n -> {
+                final var user = (n - 1) / size.groupsPerUser();
+                final var k = (n - 1) % size.groupsPerUser();
+                return new Object[] {
+                    ID_OFFSET + n,
+                    ID_OFFSET + 1 + (user + k * groupStride) % size.groups(),
+                    ID_OFFSET + 1 + user,
+                    user % 10 == 0 ? GROUP_OWNER : GROUP_MEMBER,
+                    BASE_DATE_TIME.plusYears(1).plusMinutes(n),
+                };
+            }
+        );
+
+        // A third of the courses has ended, a third ends in the future and a third never ends
+        final var now = OffsetDateTime.now(ZoneOffset.UTC);
+        copy(
+            copyManager,
+            "courses (id, name_identifier, description_identifier, image, start_date_time, end_date_time, creation_date_time)",
+            size.courses(),
+            n ->
+                new Object[] {
+                    ID_OFFSET + n,
+                    identifiers.courseName(n),
+                    null,
+                    null,
+                    null,
+                    switch ((int) (n % 3)) {
+                        case 0 -> BASE_DATE_TIME.plusYears(1).plusMinutes(n);
+                        case 1 -> now.plusMinutes(n);
+                        default -> null;
+                    },
+                    BASE_DATE_TIME.plusMinutes(n),
+                }
+        );
+        final var courseGroupStride = Math.max(1, size.groups() / 2);
+        copy(copyManager, "course_user_groups (id, course_id, group_id)", size.courses() * 2L, n -> {
+            final var course = (n - 1) / 2;
+            final var k = (n - 1) % 2;
+            return new Object[] {
+                ID_OFFSET + n,
+                ID_OFFSET + 1 + course,
+                ID_OFFSET + 1 + (course + k * courseGroupStride) % size.groups(),
+            };
+        });
+        copy(
+            copyManager,
+            "course_lessons (id, course_id, topic_identifier, description_identifier, image, ordinal, start_date_time)",
+            size.lessons(),
+            n ->
+                new Object[] {
+                    ID_OFFSET + n,
+                    ID_OFFSET + 1 + (n - 1) / size.lessonsPerCourse(),
+                    identifiers.lessonTopic(n),
+                    null,
+                    null,
+                    (n - 1) % size.lessonsPerCourse(),
+                    BASE_DATE_TIME.plusDays(n % 1000),
+                }
+        );
+        copy(
+            copyManager,
+            "course_lesson_parts (id, course_lesson_id, text_identifier, attachments, ordinal)",
+            size.parts(),
+            n ->
+                new Object[] {
+                    ID_OFFSET + n,
+                    ID_OFFSET + 1 + (n - 1) / size.partsPerLesson(),
+                    identifiers.partText(n),
+                    null,
+                    (n - 1) % size.partsPerLesson(),
+                }
+        );
+
+        // Courses of a user are consecutive, so they are always distinct
+        copy(
+            copyManager,
+            "course_user_data (id, course_id, user_id, role, last_access_date_time)",
+            (long) size.users() * size.coursesPerUser(),
+            n -> {
+                final var user = (n - 1) / size.coursesPerUser();
+                final var k = (n - 1) % size.coursesPerUser();
+                return new Object[] {
+                    ID_OFFSET + n,
+                    ID_OFFSET + 1 + (user * size.coursesPerUser() + k) % size.courses(),
+                    ID_OFFSET + 1 + user,
+                    k == 0 ? COURSE_TEACHER : COURSE_STUDENT,
+                    BASE_DATE_TIME.plusYears(1).plusMinutes(n),
+                };
+            }
+        );
+
+        // Every text is translated to English and every other one also to Danish
+        copy(copyManager, "translations (id, identifier, locale, text)", identifiers.count() * 2, n -> {
+            final var identifier = (n - 1) / 2 + 1;
+            final var danish = n % 2 == 0;
+            if (danish && identifier % 2 == 1) {
+                return null;
+            }
+
+            return new Object[] {
+                ID_OFFSET + n,
+                identifiers.first() + identifier - 1,
+                danish ? "da" : "en",
+                "Text " + identifier + (danish ? " da" : " en"),
+            };
+        });
+    }
+
+    /**
+     * Copies rows into a table. Rows are numbered from 1.
+     *
+     * @param copyManager copy API of the connection
+     * @param target      table name with the list of copied columns
+     * @param rowCount    number of rows
+     * @param row         function returning column values of a given row, or null if the row should be skipped
+     */
+    private static void copy(
+        final CopyManager copyManager,
+        final String target,
+        final long rowCount,
+        final LongFunction<Object[]> row
+    ) throws SQLException {
+        final var copyIn = copyManager.copyIn("COPY " + target + " FROM STDIN");
+        try {
+            final var buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+            for (long n = 1; n <= rowCount; n++) {
+                final var values = row.apply(n);
+                if (isNull(values)) {
+                    continue;
+                }
+
+                for (var i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        buffer.append('\t');
+                    }
+                    buffer.append(isNull(values[i]) ? "\\N" : values[i]);
+                }
+                buffer.append('\n');
+
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    writeToCopy(copyIn, buffer);
+                }
+            }
+            writeToCopy(copyIn, buffer);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void writeToCopy(final CopyIn copyIn, final StringBuilder buffer) throws SQLException {
+        final var bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Translation identifiers of generated texts, allocated in consecutive ranges above {@link #ID_OFFSET}.
+     */
+    private record TranslationIdentifiers(DatasetSize size) {
+        long first() {
+            return ID_OFFSET + 1;
+        }
+
+        long count() {
+            return size.courses() + size.groups() + size.lessons() + size.parts();
+        }
+
+        long courseName(final long course) {
+            return ID_OFFSET + course;
+        }
+
+        long groupName(final long group) {
+            return ID_OFFSET + size.courses() + group;
+        }
+
+        long lessonTopic(final long lesson) {
+            return ID_OFFSET + size.courses() + size.groups() + lesson;
+        }
+
+        long partText(final long part) {
+            return ID_OFFSET + size.courses() + size.groups() + size.lessons() + part;
+        }
+    }
+}
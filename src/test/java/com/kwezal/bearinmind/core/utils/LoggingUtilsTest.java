@@ -0,0 +1,102 @@
+package com.kwezal.bearinmind.core.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.kwezal.bearinmind.core.course.model.Course;
+import com.kwezal.bearinmind.core.pagination.dto.CursorPageDto;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+class LoggingUtilsTest {
+
+    private static final int MAX_LENGTH = 256;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void Should_DescribePageBySizes_When_ValueIsPage() {
+        // GIVEN
+        final var page = new PageImpl<>(List.of("a", "b"), PageRequest.of(1, 2), 10);
+
+        // WHEN
+        final var summary = LoggingUtils.summarize(page, MAX_LENGTH);
+
+        // THEN
+        assertEquals("Page[number=1, size=2, elements=2, total=10]", summary);
+    }
+
+    @Test
+    void Should_DescribeSliceBySizes_When_ValueIsSlice() {
+        // GIVEN
+        final var slice = new SliceImpl<>(List.of("a"), PageRequest.of(0, 5), true);
+
+        // WHEN
+        final var summary = LoggingUtils.summarize(slice, MAX_LENGTH);
+
+        // THEN
+        assertEquals("Slice[number=0, size=5, elements=1]", summary);
+    }
+
+    @Test
+    void Should_DescribeCursorPageBySize_When_ValueIsCursorPage() {
+        // GIVEN
+        final var page = new CursorPageDto<>(List.of("a", "b", "c"), "next");
+
+        // WHEN
+        final var summary = LoggingUtils.summarize(page, MAX_LENGTH);
+
+        // THEN
+        assertEquals("CursorPageDto[elements=3, hasNext=true]", summary);
+    }
+
+    @Test
+    @Transactional
+    void Should_DescribeByTypeWithoutInitializing_When_ValueIsUninitializedProxy() {
+        // GIVEN
+        final var course = entityManager.getReference(Course.class, 1L);
+
+        // WHEN
+        final var summary = LoggingUtils.summarize(course, MAX_LENGTH);
+
+        // THEN
+        assertEquals("Course[uninitialized]", summary);
+
+        // AND
+        assertFalse(Hibernate.isInitialized(course));
+    }
+
+    @Test
+    void Should_TruncateStringRepresentation_When_ItExceedsMaxLength() {
+        // GIVEN
+        final var value = "a".repeat(MAX_LENGTH + 44);
+
+        // WHEN
+        final var summary = LoggingUtils.summarize(value, MAX_LENGTH);
+
+        // THEN
+        assertEquals("a".repeat(MAX_LENGTH) + "... (300 characters)", summary);
+    }
+
+    @Test
+    void Should_NotTruncateStringRepresentation_When_ItHasMaxLength() {
+        // GIVEN
+        final var value = "a".repeat(MAX_LENGTH);
+
+        // WHEN
+        final var summary = LoggingUtils.summarize(value, MAX_LENGTH);
+
+        // THEN
+        assertEquals(value, summary);
+    }
+}
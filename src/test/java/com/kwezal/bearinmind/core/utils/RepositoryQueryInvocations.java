@@ -0,0 +1,196 @@
+package com.kwezal.bearinmind.core.utils;
+
+import com.kwezal.bearinmind.core.course.enumeration.CourseRole;
+import com.kwezal.bearinmind.core.course.repository.CourseLessonRepository;
+import com.kwezal.bearinmind.core.course.repository.CourseRepository;
+import com.kwezal.bearinmind.core.course.repository.CourseUserDataRepository;
+import com.kwezal.bearinmind.core.course.repository.CourseUserGroupRepository;
+import com.kwezal.bearinmind.core.pagination.PageCursor;
+import com.kwezal.bearinmind.core.user.repository.UserGroupRepository;
+import com.kwezal.bearinmind.core.user.repository.UserRepository;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invocations of every query declared with {@link Query} in the main repositories, keyed by repository and method name.
+ * Shared by suites which run all queries against large datasets.
+ */
+@Component
+@RequiredArgsConstructor
+public class RepositoryQueryInvocations {
+
+    private final CourseRepository courseRepository;
+    private final CourseLessonRepository courseLessonRepository;
+    private final CourseUserDataRepository courseUserDataRepository;
+    private final CourseUserGroupRepository courseUserGroupRepository;
+    private final UserRepository userRepository;
+    private final UserGroupRepository userGroupRepository;
+
+    /**
+     * Creates invocations of all queries with given parameters.
+     *
+     * @param parameters IDs of existing rows and locales queries are invoked with
+     * @return invocations mapped by "Repository.method" names
+     */
+    public Map<String, Runnable> create(final Parameters parameters) {
+        final var userId = parameters.userId();
+        final var otherUserId = parameters.otherUserId();
+        final var groupId = parameters.groupId();
+        final var courseId = parameters.courseId();
+        final var lessonId = parameters.lessonId();
+        final var locale = parameters.locale();
+        final var fallbackLocale = parameters.fallbackLocale();
+        final var pageable = Pageable.ofSize(10);
+        final var cursor = PageCursor.FIRST;
+        final var teacherRoles = EnumSet.of(CourseRole.OWNER, CourseRole.TEACHER);
+        final var studentRoles = EnumSet.of(CourseRole.STUDENT);
+
+        final var invocations = new HashMap<String, Runnable>();
+        invocations.put("CourseRepository.findAllConductedCourseListItemByUserId", () ->
+            courseRepository.findAllConductedCourseListItemByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("CourseRepository.findAllConductedCourseListItemSliceByUserId", () ->
+            courseRepository.findAllConductedCourseListItemSliceByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("CourseRepository.findAllActiveCourseListItemByUserId", () ->
+            courseRepository.findAllActiveCourseListItemByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("CourseRepository.findAllActiveCourseListItemSliceByUserId", () ->
+            courseRepository.findAllActiveCourseListItemSliceByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("CourseRepository.findAllAvailableCourseListItemByUserId", () ->
+            courseRepository.findAllAvailableCourseListItemByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("CourseRepository.findAllAvailableCourseListItemSliceByUserId", () ->
+            courseRepository.findAllAvailableCourseListItemSliceByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("CourseRepository.findAllCompletedCourseListItemByUserId", () ->
+            courseRepository.findAllCompletedCourseListItemByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("CourseRepository.findAllCompletedCourseListItemSliceByUserId", () ->
+            courseRepository.findAllCompletedCourseListItemSliceByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("CourseRepository.findAllConductedCourseListItemByUserIdAfter", () ->
+            courseRepository.findAllConductedCourseListItemByUserIdAfter(
+                userId,
+                locale,
+                fallbackLocale,
+                cursor.sortKey(),
+                cursor.id(),
+                pageable
+            )
+        );
+        invocations.put("CourseRepository.findAllActiveCourseListItemByUserIdAfter", () ->
+            courseRepository.findAllActiveCourseListItemByUserIdAfter(
+                userId,
+                locale,
+                fallbackLocale,
+                cursor.sortKey(),
+                cursor.id(),
+                pageable
+            )
+        );
+        invocations.put("CourseRepository.findAllAvailableCourseListItemByUserIdAfter", () ->
+            courseRepository.findAllAvailableCourseListItemByUserIdAfter(
+                userId,
+                locale,
+                fallbackLocale,
+                cursor.sortKey(),
+                cursor.id(),
+                pageable
+            )
+        );
+        invocations.put("CourseRepository.findAllCompletedCourseListItemByUserIdAfter", () ->
+            courseRepository.findAllCompletedCourseListItemByUserIdAfter(
+                userId,
+                locale,
+                fallbackLocale,
+                cursor.sortKey(),
+                cursor.id(),
+                pageable
+            )
+        );
+        invocations.put("CourseRepository.findAllMainViewCourseListItemByUserId", () ->
+            courseRepository.findAllMainViewCourseListItemByUserId(userId, locale, fallbackLocale, 10)
+        );
+        invocations.put("CourseRepository.findAllCourseViewRowByIdAndUserId", () ->
+            courseRepository.findAllCourseViewRowByIdAndUserId(courseId, userId, locale, fallbackLocale)
+        );
+        invocations.put("CourseRepository.findAllCommonCourseAndRole", () ->
+            courseRepository.findAllCommonCourseAndRole(userId, otherUserId, locale, fallbackLocale)
+        );
+        invocations.put("CourseLessonRepository.findAllCourseLessonViewRowByIdAndUserId", () ->
+            courseLessonRepository.findAllCourseLessonViewRowByIdAndUserId(lessonId, userId, locale, fallbackLocale)
+        );
+        invocations.put("CourseUserDataRepository.findCourseRoleByCourseIdAndUserId", () ->
+            courseUserDataRepository.findCourseRoleByCourseIdAndUserId(courseId, userId)
+        );
+        invocations.put("CourseUserDataRepository.findCourseRoleByCourseLessonIdAndUserId", () ->
+            courseUserDataRepository.findCourseRoleByCourseLessonIdAndUserId(lessonId, userId)
+        );
+        invocations.put("CourseUserDataRepository.findAllTeacherByCourseId", () ->
+            courseUserDataRepository.findAllTeacherByCourseId(courseId)
+        );
+        invocations.put("CourseUserDataRepository.findIdByCourseLessonIdAndUserIdAndRole", () ->
+            courseUserDataRepository.findIdByCourseLessonIdAndUserIdAndRole(lessonId, userId, CourseRole.STUDENT)
+        );
+        invocations.put("CourseUserGroupRepository.existsByCourseIdAndUserId", () ->
+            courseUserGroupRepository.existsByCourseIdAndUserId(courseId, userId)
+        );
+        invocations.put("UserRepository.findAllGroupMemberUserListItemByUserId", () ->
+            userRepository.findAllGroupMemberUserListItemByUserId(userId, pageable)
+        );
+        invocations.put("UserRepository.findAllGroupMemberUserListItemSliceByUserId", () ->
+            userRepository.findAllGroupMemberUserListItemSliceByUserId(userId, pageable)
+        );
+        invocations.put("UserRepository.findAllUserListItemByUserIdAndCourseRoleIn", () ->
+            userRepository.findAllUserListItemByUserIdAndCourseRoleIn(userId, teacherRoles, studentRoles, pageable)
+        );
+        invocations.put("UserRepository.findAllUserListItemSliceByUserIdAndCourseRoleIn", () ->
+            userRepository.findAllUserListItemSliceByUserIdAndCourseRoleIn(userId, teacherRoles, studentRoles, pageable)
+        );
+        invocations.put("UserGroupRepository.findAllRegisteredUserGroupListItemByUserId", () ->
+            userGroupRepository.findAllRegisteredUserGroupListItemByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("UserGroupRepository.findAllRegisteredUserGroupListItemSliceByUserId", () ->
+            userGroupRepository.findAllRegisteredUserGroupListItemSliceByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("UserGroupRepository.findAllAvailableUserGroupListItemByUserId", () ->
+            userGroupRepository.findAllAvailableUserGroupListItemByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("UserGroupRepository.findAllAvailableUserGroupListItemSliceByUserId", () ->
+            userGroupRepository.findAllAvailableUserGroupListItemSliceByUserId(userId, locale, fallbackLocale, pageable)
+        );
+        invocations.put("UserGroupRepository.findUserGroupWithMembersById", () ->
+            userGroupRepository.findUserGroupWithMembersById(groupId)
+        );
+        invocations.put("UserGroupRepository.findAllCommonUserGroup", () ->
+            userGroupRepository.findAllCommonUserGroup(userId, otherUserId, locale, fallbackLocale)
+        );
+        return invocations;
+    }
+
+    /**
+     * @param userId         ID of a user who is a member of groups and takes part in courses
+     * @param otherUserId    ID of another user who shares groups and courses with the user
+     * @param groupId        ID of a group
+     * @param courseId       ID of a course
+     * @param lessonId       ID of a course lesson
+     * @param locale         locale of the user
+     * @param fallbackLocale locale of translations used when there is none in the user locale
+     */
+    public record Parameters(
+        long userId,
+        long otherUserId,
+        long groupId,
+        long courseId,
+        long lessonId,
+        String locale,
+        String fallbackLocale
+    ) {}
+}
@@ -0,0 +1,62 @@
+package com.kwezal.bearinmind.core.utils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Records SQL statements executed through the test data source, regardless of the thread that executes them.
+ * Statements are recorded only between {@link #start()} and {@link #stop()}.
+ */
+public class SqlStatementRecorder implements QueryExecutionListener {
+
+    private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    public void start() {
+        statements.clear();
+        recording = true;
+    }
+
+    public List<RecordedStatement> stop() {
+        recording = false;
+        return List.copyOf(statements);
+    }
+
+    /**
+     * Records statements executed by a given action.
+     *
+     * @param action action that executes statements
+     * @return recorded statements in execution order
+     */
+    public List<RecordedStatement> record(final Runnable action) {
+        start();
+        try {
+            action.run();
+        } finally {
+            recording = false;
+        }
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {}
+
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        if (recording) {
+            queryInfoList.forEach(queryInfo ->
+                statements.add(new RecordedStatement(queryInfo.getQuery(), queryInfo.getParametersList()))
+            );
+        }
+    }
+
+    /**
+     * @param sql        SQL statement
+     * @param parameters parameter sets the statement was executed with, one per batch entry
+     */
+    public record RecordedStatement(String sql, List<List<ParameterSetOperation>> parameters) {}
+}
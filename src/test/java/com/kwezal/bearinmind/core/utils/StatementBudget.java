@@ -0,0 +1,23 @@
+package com.kwezal.bearinmind.core.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails a test if it executes more SQL statements than a given budget.
+ * Statements are counted by {@link SqlStatementRecorder} from the start to the end of the test method,
+ * so the budget has to cover statements executed while preparing the test as well.
+ * A batch counts as a single statement.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+    /**
+     * Maximum number of SQL statements.
+     */
+    int value();
+}
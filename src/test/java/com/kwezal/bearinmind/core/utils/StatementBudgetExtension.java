@@ -0,0 +1,42 @@
+package com.kwezal.bearinmind.core.utils;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Records SQL statements executed by test methods annotated with {@link StatementBudget}
+ * and fails tests which exceed their budget. Test data scripts run before and after test methods are not counted.
+ */
+public class StatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(final ExtensionContext context) {
+        getSqlStatementRecorder(context).start();
+    }
+
+    @Override
+    public void afterTestExecution(final ExtensionContext context) {
+        final var statements = getSqlStatementRecorder(context).stop();
+        final var budget = AnnotatedElementUtils.findMergedAnnotation(context.getRequiredTestMethod(), StatementBudget.class);
+
+        assertTrue(
+            statements.size() <= budget.value(),
+            () ->
+                "Expected at most %d SQL statements, but %d were executed:%n%s".formatted(
+                    budget.value(),
+                    statements.size(),
+                    statements.stream().map(SqlStatementRecorder.RecordedStatement::sql).collect(Collectors.joining("\n"))
+                )
+        );
+    }
+
+    private static SqlStatementRecorder getSqlStatementRecorder(final ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(SqlStatementRecorder.class);
+    }
+}
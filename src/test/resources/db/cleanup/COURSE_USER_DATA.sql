@@ -1,2 +1,3 @@
+-- The sequence is not rewound: Hibernate keeps allocating IDs from a block of 50 fetched earlier,
+-- which would be issued again after a rewind
 DELETE FROM course_user_data cud WHERE cud.id >= 1000000;
-SELECT setval('course_user_data_id_seq', 1000000);
\ No newline at end of file
@@ -0,0 +1,4 @@
+UPDATE courses c SET image = NULL, image_card = NULL, image_thumbnail = NULL WHERE c.image IS NOT NULL;
+UPDATE course_lessons cl SET image = NULL, image_card = NULL, image_thumbnail = NULL WHERE cl.image IS NOT NULL;
+UPDATE users u SET image = NULL, image_card = NULL, image_thumbnail = NULL WHERE u.image IS NOT NULL;
+UPDATE user_groups ug SET image = NULL, image_card = NULL, image_thumbnail = NULL WHERE ug.image IS NOT NULL;
\ No newline at end of file
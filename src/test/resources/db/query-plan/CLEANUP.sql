@@ -0,0 +1,10 @@
+DELETE FROM course_user_data WHERE id > 10000000;
+DELETE FROM course_user_groups WHERE id > 10000000;
+DELETE FROM courses WHERE id > 10000000;
+DELETE FROM translations WHERE id > 10000000;
+DELETE FROM user_group_members WHERE id > 10000000;
+DELETE FROM user_groups WHERE id > 10000000;
+DELETE FROM users WHERE id > 10000000;
+DELETE FROM user_credentials WHERE id > 10000000;
+
+ANALYZE;
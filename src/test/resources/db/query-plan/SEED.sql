@@ -0,0 +1,53 @@
+SET TIME ZONE 'UTC';
+
+-- Dataset large enough for the planner to prefer index access wherever an index is usable.
+-- All IDs start at 10000001 so that they never collide with the regular test data.
+-- OWNER = 0, TEACHER = 1, STUDENT = 2 (course roles), OWNER = 0, MEMBER = 1 (user group roles)
+
+INSERT INTO user_credentials(id, username, password, role, active)
+SELECT 10000000 + n, 'queryplan' || n, 'password', 'STUDENT_ROLE_GROUP', true
+FROM generate_series(1, 20000) n;
+
+INSERT INTO users(id, first_name, last_name, email, locale, registration_date_time, user_credentials_id)
+SELECT 10000000 + n, 'First' || n, 'Last' || n, 'queryplan' || n || '@example.com', 'en',
+       timestamp '2020-01-01 00:00' + n * interval '1 minute', 10000000 + n
+FROM generate_series(1, 20000) n;
+
+INSERT INTO user_groups(id, name_identifier, image, creation_date_time)
+SELECT 10000000 + n, 10020000 + n, null, timestamp '2020-01-01 00:00' + n * interval '1 hour'
+FROM generate_series(1, 2000) n;
+
+-- Every user is a member of two groups
+INSERT INTO user_group_members(id, group_id, user_id, role, registration_date_time)
+SELECT 10000000 + n * 2 + k, 10000001 + (n + k * 1000) % 2000, 10000000 + n, CASE WHEN n % 10 = 0 THEN 0 ELSE 1 END,
+       timestamp '2021-01-01 00:00' + (n * 2 + k) * interval '1 minute'
+FROM generate_series(1, 20000) n, generate_series(0, 1) k;
+
+-- A third of the courses has ended, a third ends in the future and a third never ends
+INSERT INTO courses(id, name_identifier, description_identifier, image, start_date_time, end_date_time, creation_date_time)
+SELECT 10000000 + n, 10000000 + n, null, null, null,
+       CASE n % 3
+           WHEN 0 THEN timestamp '2021-01-01 00:00' + n * interval '1 minute'
+           WHEN 1 THEN current_timestamp + n * interval '1 minute'
+       END,
+       timestamp '2020-01-01 00:00' + n * interval '1 minute'
+FROM generate_series(1, 20000) n;
+
+-- Every course is assigned to two groups
+INSERT INTO course_user_groups(id, course_id, group_id)
+SELECT 10000000 + n * 2 + k, 10000000 + n, 10000001 + (n + k * 1000) % 2000
+FROM generate_series(1, 20000) n, generate_series(0, 1) k;
+
+-- Every user takes part in five courses and teaches the first one of them
+INSERT INTO course_user_data(id, course_id, user_id, role, last_access_date_time)
+SELECT 10000000 + n * 5 + k, 10000001 + (n * 5 + k) % 20000, 10000000 + n, CASE WHEN k = 0 THEN 1 ELSE 2 END,
+       timestamp '2021-01-01 00:00' + (n * 5 + k) * interval '1 minute'
+FROM generate_series(1, 20000) n, generate_series(0, 4) k;
+
+-- Course and group names are translated to English and every other one also to Danish
+INSERT INTO translations(id, identifier, locale, text)
+SELECT 10000000 + n * 2 + k, 10000000 + n, CASE WHEN k = 0 THEN 'en' ELSE 'da' END, 'Name ' || n || ' ' || k
+FROM generate_series(1, 22000) n, generate_series(0, 1) k
+WHERE k = 0 OR n % 2 = 0;
+
+ANALYZE;